@@ -0,0 +1,64 @@
+package hongik.triple.apimodule.application.analysis;
+
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisCard;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 분석 목록 커서 ((created_at, analysis_id) 내림차순 기준 마지막 항목)
+ * - 클라이언트에는 내용을 알 수 없는 Base64 문자열로 전달
+ * @param createdAt 마지막 항목의 생성 시각
+ * @param analysisId 마지막 항목의 ID (생성 시각이 같은 항목 구분용)
+ */
+public record AnalysisCursor(
+        LocalDateTime createdAt,
+        Long analysisId
+) {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 목록 조회용 (모든 항목보다 뒤의 위치)
+    private static final AnalysisCursor FIRST = new AnalysisCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public static AnalysisCursor of(Analysis analysis) {
+        return new AnalysisCursor(analysis.getCreatedAt(), analysis.getAnalysisId());
+    }
+
+    public static AnalysisCursor of(AnalysisCard card) {
+        return new AnalysisCursor(card.getCreatedAt(), card.getAnalysisId());
+    }
+
+    /*
+    커서 문자열 해석 (비어 있으면 첫 목록)
+     */
+    public static AnalysisCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new ApplicationException(ErrorCode.INVALID_CURSOR_EXCEPTION);
+            }
+            return new AnalysisCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ApplicationException(ErrorCode.INVALID_CURSOR_EXCEPTION);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + analysisId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
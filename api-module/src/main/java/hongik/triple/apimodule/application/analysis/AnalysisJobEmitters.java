@@ -0,0 +1,81 @@
+package hongik.triple.apimodule.application.analysis;
+
+import hongik.triple.commonmodule.dto.analysis.AnalysisJobRes;
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 분석 작업별 SSE 구독자 관리
+ * - 작업 단계가 바뀔 때마다 구독자에게 진행 상황을 전송하고, 완료/실패 시 연결 종료
+ */
+@Slf4j
+@Component
+public class AnalysisJobEmitters {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public AnalysisJobEmitters(@Value("${analysis.job.sse-timeout-ms:120000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 작업 진행 상황 구독 등록
+     */
+    public SseEmitter register(String jobId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.computeIfAbsent(jobId, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> {
+            remove(jobId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(jobId, emitter));
+
+        return emitter;
+    }
+
+    /**
+     * 작업의 모든 구독자에게 진행 상황 전송
+     */
+    public void publish(String jobId, AnalysisJobRes event) {
+        Set<SseEmitter> targets = emitters.get(jobId);
+        if (targets == null) {
+            return;
+        }
+        targets.forEach(emitter -> send(emitter, event));
+    }
+
+    /**
+     * 단일 구독자에게 진행 상황 전송 (최종 상태인 경우 연결 종료)
+     */
+    public void send(SseEmitter emitter, AnalysisJobRes event) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            if (AnalysisJobStatus.valueOf(event.status()).isTerminal()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 - jobId: {}", event.jobId(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    public void remove(String jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (key, targets) -> {
+            targets.remove(emitter);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+}
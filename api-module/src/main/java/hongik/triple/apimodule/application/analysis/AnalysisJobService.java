@@ -0,0 +1,189 @@
+package hongik.triple.apimodule.application.analysis;
+
+import hongik.triple.commonmodule.dto.analysis.AnalysisJobRes;
+import hongik.triple.commonmodule.dto.analysis.AnalysisRes;
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.domainmodule.domain.analysis.AnalysisJob;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisJobRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImageIngestor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 피부 분석 작업 관리
+ * - 요청 시 작업 ID만 즉시 반환하고, 실제 분석은 전용 워커 풀에서 수행
+ * - 요청 스레드와 DB 커넥션을 외부 API 호출 동안 점유하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    private final AnalysisService analysisService;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisJobEmitters analysisJobEmitters;
+    private final ImageIngestor imageIngestor;
+    @Qualifier("analysisJobExecutor")
+    private final Executor analysisJobExecutor;
+
+    /**
+     * 분석 작업 등록
+     */
+    public AnalysisJobRes submit(Member member, MultipartFile multipartFile) {
+        // Validation
+        if (multipartFile.isEmpty() || multipartFile.getSize() == 0) {
+            throw new IllegalArgumentException("File is empty");
+        }
+
+        // Business Logic
+        // 요청이 끝나면 multipart 임시 파일이 삭제되므로, 워커에 넘기기 전에 이미지를 읽어둠 (워커가 끝나면 반납)
+        ImageFile image = imageIngestor.ingest(multipartFile);
+        AnalysisJob job;
+        try {
+            job = analysisJobRepository.save(AnalysisJob.builder().member(member).build());
+        } catch (RuntimeException e) {
+            image.close();
+            throw e;
+        }
+
+        try {
+            analysisJobExecutor.execute(() -> process(job.getJobId(), member, image));
+        } catch (RejectedExecutionException e) {
+            image.close();
+            log.warn("분석 작업 큐 초과로 요청 거절 - jobId: {}", job.getJobId());
+            analysisJobRepository.fail(job.getJobId(), ErrorCode.ANALYSIS_JOB_REJECTED.getMessage());
+            throw new ApplicationException(ErrorCode.ANALYSIS_JOB_REJECTED);
+        }
+
+        // Response
+        return toJobRes(job.getJobId(), AnalysisJobStatus.PENDING, null, null);
+    }
+
+    /**
+     * 분석 작업 상태 조회 (완료된 경우 분석 결과 포함)
+     */
+    public AnalysisJobRes getJob(Member member, String jobId) {
+        // Validation
+        AnalysisJob job = analysisJobRepository.findByJobIdAndMember_MemberId(jobId, member.getMemberId())
+                .orElseThrow(() -> new ApplicationException(ErrorCode.NOT_FOUND_ANALYSIS_JOB));
+
+        // Response
+        AnalysisRes result = job.getStatus() == AnalysisJobStatus.COMPLETED
+                ? analysisService.getAnalysisDetail(member, job.getAnalysisId())
+                : null;
+
+        return toJobRes(job.getJobId(), job.getStatus(), job.getErrorMessage(), result);
+    }
+
+    /**
+     * 분석 작업 진행 상황 구독 (SSE)
+     */
+    public SseEmitter subscribe(Member member, String jobId) {
+        // 구독을 먼저 등록한 뒤 현재 상태를 전송해, 그 사이에 끝난 작업의 최종 상태도 놓치지 않도록 함
+        SseEmitter emitter = analysisJobEmitters.register(jobId);
+        try {
+            analysisJobEmitters.send(emitter, getJob(member, jobId));
+        } catch (RuntimeException e) {
+            analysisJobEmitters.remove(jobId, emitter);
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 중단된 분석 작업 실패 처리
+     * - 인스턴스 재시작 등으로 워커가 사라져 before 이후 진행 단계가 바뀌지 않은 작업을 실패로 전환하고 구독자에게 알림
+     * @param before 이 시각 이후 갱신되지 않은 미완료 작업을 중단된 것으로 판단
+     * @return 실패 처리한 작업 수
+     */
+    public int failStaleJobs(LocalDateTime before) {
+        List<String> jobIds = analysisJobRepository.findStaleJobIds(before);
+        String errorMessage = ErrorCode.ANALYSIS_JOB_EXPIRED.getMessage();
+
+        int failed = 0;
+        for (String jobId : jobIds) {
+            if (analysisJobRepository.failIfStale(jobId, errorMessage, before) == 1) {
+                failed++;
+                analysisJobEmitters.publish(jobId, toJobRes(jobId, AnalysisJobStatus.FAILED, errorMessage, null));
+            }
+        }
+        return failed;
+    }
+
+    /*
+    워커 스레드에서 분석 파이프라인 수행
+    - 대기 중 / 진행 중에 만료 처리된 작업은 상태를 되돌리지 않고, 이후 단계를 중단하며 이벤트도 다시 보내지 않음
+     */
+    private void process(String jobId, Member member, ImageFile image) {
+        try (image) {
+            AnalysisRes result = analysisService.analyze(member, image, status -> updateStatus(jobId, status));
+
+            if (analysisJobRepository.complete(jobId, result.analysisId()) == 0) {
+                log.warn("이미 종료된 분석 작업의 완료 결과 무시 - jobId: {}, analysisId: {}", jobId, result.analysisId());
+                return;
+            }
+            analysisJobEmitters.publish(jobId, toJobRes(jobId, AnalysisJobStatus.COMPLETED, null, result));
+        } catch (JobAlreadyFinishedException e) {
+            log.warn("이미 종료된 분석 작업 중단 - jobId: {}", jobId);
+        } catch (Exception e) {
+            log.error("분석 작업 실패 - jobId: {}", jobId, e);
+            String errorMessage = errorMessage(e);
+
+            if (analysisJobRepository.fail(jobId, errorMessage) == 1) {
+                analysisJobEmitters.publish(jobId, toJobRes(jobId, AnalysisJobStatus.FAILED, errorMessage, null));
+            }
+        }
+    }
+
+    private void updateStatus(String jobId, AnalysisJobStatus status) {
+        if (analysisJobRepository.updateStatus(jobId, status) == 0) {
+            throw new JobAlreadyFinishedException();
+        }
+        analysisJobEmitters.publish(jobId, toJobRes(jobId, status, null, null));
+    }
+
+    private String errorMessage(Exception e) {
+        String message = (e instanceof ApplicationException applicationException)
+                ? applicationException.getErrorCode().getMessage()
+                : e.getMessage();
+
+        if (message == null) {
+            return ErrorCode.INTERNAL_SERVER_EXCEPTION.getMessage();
+        }
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    private AnalysisJobRes toJobRes(String jobId, AnalysisJobStatus status, String errorMessage, AnalysisRes result) {
+        return AnalysisJobRes.builder()
+                .jobId(jobId)
+                .status(status.name())
+                .description(status.getDescription())
+                .errorMessage(errorMessage)
+                .result(result)
+                .build();
+    }
+
+    // 진행 단계 갱신 시 작업이 이미 종료되어 있으면 파이프라인을 중단하기 위한 신호 (스택 트레이스 불필요)
+    private static class JobAlreadyFinishedException extends RuntimeException {
+
+        private JobAlreadyFinishedException() {
+            super(null, null, false, false);
+        }
+    }
+}
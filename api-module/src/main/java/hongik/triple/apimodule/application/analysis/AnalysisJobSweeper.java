@@ -0,0 +1,42 @@
+package hongik.triple.apimodule.application.analysis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 중단된 분석 작업 정리
+ * - 작업은 인스턴스 메모리의 워커 풀에서 실행되므로, 재시작 / 장애 시 진행 중이던 작업이 최종 상태로 바뀌지 않음
+ * - 시작 직후와 이후 주기적으로 stale-after 동안 진행 단계가 바뀌지 않은 작업을 실패로 전환 (폴링 / SSE 구독자가 최종 상태를 받도록)
+ * - stale-after 는 분석 한 단계 (AI 호출 + 재시도, 추천 조회) 의 최대 소요 시간보다 길게 설정
+ */
+@Slf4j
+@Component
+public class AnalysisJobSweeper {
+
+    private final AnalysisJobService analysisJobService;
+    private final Duration staleAfter;
+
+    public AnalysisJobSweeper(AnalysisJobService analysisJobService,
+                              @Value("${analysis.job.stale-after-seconds:600}") long staleAfterSeconds) {
+        this.analysisJobService = analysisJobService;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    }
+
+    @Scheduled(initialDelayString = "${analysis.job.sweep-initial-delay-ms:0}",
+            fixedDelayString = "${analysis.job.sweep-interval-ms:60000}")
+    public void run() {
+        try {
+            int failed = analysisJobService.failStaleJobs(LocalDateTime.now().minus(staleAfter));
+            if (failed > 0) {
+                log.warn("중단된 분석 작업 실패 처리 - count: {}", failed);
+            }
+        } catch (RuntimeException e) {
+            log.error("중단된 분석 작업 정리 실패 (다음 실행에서 재시도)", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package hongik.triple.apimodule.application.analysis;
+
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.inframodule.s3.S3Client;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 분석 결과 저장 단계
+ * - 외부 API 호출이 모두 끝난 뒤 짧은 트랜잭션 안에서만 DB 커넥션을 사용
+ * - 메인 페이지 통계 카운터, 추천 스냅샷도 같은 트랜잭션에서 반영
+ * - 저장 (또는 커밋) 이 실패하면 이미 업로드된 S3 이미지를 삭제 (보상 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisPersister {
+
+    private final AnalysisRepository analysisRepository;
+    private final S3Client s3Client;
+    private final PublicAcneStatsService publicAcneStatsService;
+    private final RecommendationSnapshotService recommendationSnapshotService;
+
+    @Transactional
+    public Analysis save(Analysis analysis) {
+        registerCompensation(analysis.getImageUrl());
+        recommendationSnapshotService.link(analysis);
+        Analysis saved = analysisRepository.save(analysis);
+        publicAcneStatsService.recordCreated(saved);
+        return saved;
+    }
+
+    /*
+    트랜잭션이 커밋되지 않고 끝나면 업로드된 이미지 삭제
+     */
+    private void registerCompensation(String imageKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    discardImage(imageKey);
+                }
+            }
+        });
+    }
+
+    private void discardImage(String imageKey) {
+        try {
+            s3Client.deleteImage(imageKey);
+            log.warn("분석 결과 저장 실패로 업로드 이미지 삭제 - key: {}", imageKey);
+        } catch (RuntimeException e) {
+            log.error("저장 실패 이미지 삭제 실패 - key: {}", imageKey, e);
+        }
+    }
+}
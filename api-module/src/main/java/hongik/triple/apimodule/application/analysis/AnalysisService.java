@@ -2,131 +2,240 @@ package hongik.triple.apimodule.application.analysis;
 
 import hongik.triple.commonmodule.dto.analysis.*;
 import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
 import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisCard;
 import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
 import hongik.triple.domainmodule.domain.member.Member;
 import hongik.triple.inframodule.ai.AIClient;
-import hongik.triple.inframodule.naver.NaverClient;
+import hongik.triple.inframodule.ai.InferenceBulkhead;
+import hongik.triple.inframodule.ai.PredictionKey;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImageIngestor;
+import hongik.triple.inframodule.image.ImagePreprocessor;
+import hongik.triple.inframodule.image.ImageVariant;
+import hongik.triple.inframodule.image.PreprocessedImage;
+import hongik.triple.inframodule.recommendation.Recommendation;
+import hongik.triple.inframodule.recommendation.RecommendationClient;
+import hongik.triple.inframodule.s3.PresignedUpload;
 import hongik.triple.inframodule.s3.S3Client;
-import hongik.triple.inframodule.youtube.YoutubeClient;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AnalysisService {
 
      private final AIClient aiClient;
-     private final YoutubeClient youtubeClient;
-     private final NaverClient naverClient;
+     private final InferenceBulkhead inferenceBulkhead;
+     private final RecommendationClient recommendationClient;
      private final AnalysisRepository analysisRepository;
      private final S3Client s3Client;
-
-     @Transactional
+     private final ImagePreprocessor imagePreprocessor;
+     private final ImageIngestor imageIngestor;
+     private final AnalysisPersister analysisPersister;
+     private final AnalysisThumbnailGenerator analysisThumbnailGenerator;
+     private final PublicAcneStatsService publicAcneStatsService;
+     private final RecommendationSnapshotCache recommendationSnapshotCache;
+
+    // 커서 조회 - 엔티티 목록 (추천 결과 포함)
+    private static final KeysetRows<Analysis> ANALYSIS_ROWS = new KeysetRows<>(
+            (repository, acneType, position, limit) -> acneType == null
+                    ? repository.findPublicBefore(position.createdAt(), position.analysisId(), limit)
+                    : repository.findPublicByAcneTypeBefore(acneType, position.createdAt(), position.analysisId(), limit),
+            (repository, member, acneType, position, limit) -> acneType == null
+                    ? repository.findByMemberBefore(member, position.createdAt(), position.analysisId(), limit)
+                    : repository.findByMemberAndAcneTypeBefore(member, acneType, position.createdAt(), position.analysisId(), limit),
+            AnalysisCursor::of
+    );
+
+    // 커서 조회 - 카드 컬럼만 조회
+    private static final KeysetRows<AnalysisCard> CARD_ROWS = new KeysetRows<>(
+            (repository, acneType, position, limit) -> acneType == null
+                    ? repository.findPublicCardsBefore(position.createdAt(), position.analysisId(), limit)
+                    : repository.findPublicCardsByAcneTypeBefore(acneType, position.createdAt(), position.analysisId(), limit),
+            (repository, member, acneType, position, limit) -> acneType == null
+                    ? repository.findCardsByMemberBefore(member, position.createdAt(), position.analysisId(), limit)
+                    : repository.findCardsByMemberAndAcneTypeBefore(member, acneType, position.createdAt(), position.analysisId(), limit),
+            AnalysisCursor::of
+    );
+
+     /**
+      * 피부 분석 (동기)
+      * - 외부 호출 (S3, AI 서버, 유튜브, 네이버) 동안에는 트랜잭션 / DB 커넥션을 잡지 않고, 저장 단계에서만 짧게 사용
+      */
+     @Transactional(propagation = Propagation.NOT_SUPPORTED)
      public AnalysisRes performAnalysis(Member member, MultipartFile multipartFile) {
          // Validation
          if(multipartFile.isEmpty() || multipartFile.getSize() == 0) {
              throw new IllegalArgumentException("File is empty");
          }
 
+         // 업로드 본문은 한 번만 읽고, 분석이 끝나면 버퍼 / 임시 파일 반납
+         try (ImageFile image = imageIngestor.ingest(multipartFile)) {
+             return analyze(member, image, status -> {});
+         }
+     }
+
+     /**
+      * 직접 업로드용 presigned URL 발급
+      * - 이미지를 API 서버를 거치지 않고 S3 (회원별 임시 업로드 경로) 로 바로 업로드하도록 함
+      */
+     public AnalysisUploadRes createUploadUrl(Member member, AnalysisUploadReq req) {
+         // Validation
+         if (req.contentLength() == null) {
+             throw new ApplicationException(ErrorCode.EMPTY_FILE_EXCEPTION);
+         }
+
+         // Business Logic
+         PresignedUpload upload = s3Client.createUploadUrl(
+                 req.fileName(), req.contentType(), req.contentLength(), uploadDirectory(member));
+
+         // Response
+         return new AnalysisUploadRes(
+                 upload.key(),
+                 upload.uploadUrl(),
+                 upload.contentType(),
+                 upload.contentLength(),
+                 LocalDateTime.ofInstant(upload.expiresAt(), ZoneId.systemDefault())
+         );
+     }
+
+     /**
+      * 피부 분석 (직접 업로드된 이미지)
+      * - S3 에서 이미지를 한 번 읽어 분석하고, 전처리된 이미지를 별도로 저장한 뒤 임시 업로드 원본은 삭제
+      * - 분석이 실패해도 임시 업로드 원본은 삭제 (재시도 시 새 업로드 URL 로 다시 업로드)
+      */
+     @Transactional(propagation = Propagation.NOT_SUPPORTED)
+     public AnalysisRes performAnalysis(Member member, AnalysisPerformReq req) {
+         // Validation
+         // 본인의 업로드 경로에 있는 이미지만 분석 가능
+         String imageKey = req.imageKey();
+         if (imageKey == null || !imageKey.startsWith(uploadDirectory(member) + "/")) {
+             throw new ApplicationException(ErrorCode.FORBIDDEN_S3_KEY_EXCEPTION);
+         }
+
          // Business Logic
-         String s3_key = s3Client.uploadImage(multipartFile, "skin");
+         try (ImageFile image = s3Client.downloadImage(imageKey)) {
+             // Response
+             return analyze(member, image, status -> {});
+         } finally {
+             discardUploadedOriginal(imageKey);
+         }
+     }
 
-         // 피부 분석 AI 모델 호출
-         AnalysisData analysisData = aiClient.sendPredictRequest(multipartFile);
+     /**
+      * 피부 분석 파이프라인 (S3 업로드 + AI 분석 → 추천 조회 → DB 저장)
+      * - 트랜잭션 없이 실행되며, 저장은 AnalysisPersister 의 별도 트랜잭션에서 수행
+      * @param member 분석 요청 회원
+      * @param image 분석할 이미지
+      * @param progress 단계가 바뀔 때마다 호출되는 콜백 (비동기 작업의 진행 상황 전달용)
+      * @return 분석 결과
+      */
+     @Transactional(propagation = Propagation.NOT_SUPPORTED)
+     public AnalysisRes analyze(Member member, ImageFile image, Consumer<AnalysisJobStatus> progress) {
+         // Business Logic
+         // 원본 이미지를 한 번만 디코딩하여 AI 입력용 / 저장용 이미지로 축소
+         progress.accept(AnalysisJobStatus.ANALYZING);
+         PreprocessedImage preprocessed = imagePreprocessor.preprocess(image);
+
+         // 이미지 업로드 (S3) 와 피부 분석 AI 모델 호출을 동시에 수행 (업로드는 S3 전송 풀에서 진행)
+         CompletableFuture<String> upload = s3Client.uploadImageAsync(preprocessed.storage(), "skin");
+
+         AcneType acneType;
+         try {
+             // 캐시된 결과가 있으면 추론 슬롯 없이 사용하고, 없을 때만 모델 서버 동시 요청 수 제한 (초과 시 대기열에서 대기하거나 즉시 거절)
+             // 이미지 해시 (캐시 키) 는 한 번만 계산하여 캐시 조회와 추론에 함께 사용
+             PredictionKey predictionKey = aiClient.predictionKey(preprocessed.modelInput());
+             AnalysisData analysisData = aiClient.findCachedPrediction(predictionKey)
+                     .orElseGet(() -> inferenceBulkhead.execute(
+                             member.getMemberId(), () -> aiClient.sendPredictRequest(preprocessed.modelInput(), predictionKey)));
+             acneType = analysisData.labelToSkinType();
+         } catch (RuntimeException e) {
+             // AI 분석 실패 시, 업로드된 이미지 정리
+             discardUploadedImage(upload);
+             throw e;
+         }
 
-         // 진단 결과를 기반으로 피부 관리 영상 추천 (유튜브 API)
-         List<YoutubeVideoDto> videoList =
-                 youtubeClient.searchVideos(analysisData.labelToSkinType().getKoreanName() + " 여드름", 3);
+         String s3_key = awaitUpload(upload);
 
-         // 진단 결과를 기반으로 맞춤형 제품 추천 (네이버 쇼핑 API)
-         List<NaverProductDto> productList =
-                 naverClient.searchProducts(analysisData.labelToSkinType().getKoreanName() + " 여드름", 3);
+         // 진단 결과를 기반으로 피부 관리 영상 (유튜브 API) / 맞춤형 제품 (네이버 쇼핑 API) 동시 추천
+         progress.accept(AnalysisJobStatus.RECOMMENDING);
+         Recommendation recommendation =
+                 recommendationClient.recommend(acneType.getKoreanName() + " 여드름", 3);
+         List<YoutubeVideoDto> videoList = recommendation.videoList();
+         List<NaverProductDto> productList = recommendation.productList();
 
          // DB 저장
+         progress.accept(AnalysisJobStatus.SAVING);
          Analysis analysis = Analysis.builder()
                  .member(member)
-                 .acneType(analysisData.labelToSkinType())
+                 .acneType(acneType)
                  .imageUrl(s3_key)
                  .isPublic(true)
                  .videoData(videoList)
                  .productData(productList)
                  .build();
-         Analysis saveAnalysis = analysisRepository.save(analysis);
+         Analysis saveAnalysis = analysisPersister.save(analysis);
+
+         // 목록 화면용 썸네일은 응답과 별개로 백그라운드에서 생성
+         analysisThumbnailGenerator.generateAsync(saveAnalysis.getAnalysisId(), s3_key, preprocessed.storage());
 
          // Response
-         return new AnalysisRes(
-                 saveAnalysis.getAnalysisId(),
-                 s3Client.getImage(saveAnalysis.getImageUrl()),
-                 formatted(saveAnalysis.getCreatedAt()),
-                 saveAnalysis.getIsPublic(),
-                 AcneType.valueOf(saveAnalysis.getAcneType()).name(),
-                 AcneType.valueOf(saveAnalysis.getAcneType()).getDescription(),
-                 AcneType.valueOf(saveAnalysis.getAcneType()).getCareMethod(),
-                 AcneType.valueOf(saveAnalysis.getAcneType()).getGuide(),
-                 videoList,
-                 productList
-         );
+         return toAnalysisRes(saveAnalysis, formatted(saveAnalysis.getCreatedAt()));
      }
 
      public AnalysisRes getAnalysisDetail(Member member, Long analysisId) {
          // Validation
-         Analysis analysis = analysisRepository.findById(analysisId)
-                 .orElseThrow(() -> new IllegalArgumentException("Analysis not found with id: " + analysisId));
-         // Analysis가 요청한 사용자의 분석 결과인지 확인
-         if(!analysis.getMember().getMemberId().equals(member.getMemberId())) {
-             throw new IllegalArgumentException("Unauthorized access to analysis with id: " + analysisId);
-         }
+         // Analysis가 요청한 사용자의 분석 결과인지 조회 조건으로 확인
+         Analysis analysis = analysisRepository.findByAnalysisIdAndMember_MemberId(analysisId, member.getMemberId())
+                 .orElseThrow(() -> notFoundOrUnauthorized(analysisId));
 
         // Response
-         return new AnalysisRes(
-                 analysis.getAnalysisId(),
-                 s3Client.getImage(analysis.getImageUrl()),
-                 formattedWithTime(analysis.getCreatedAt()),
-                 analysis.getIsPublic(),
-                 AcneType.valueOf(analysis.getAcneType()).name(),
-                 AcneType.valueOf(analysis.getAcneType()).getDescription(),
-                 AcneType.valueOf(analysis.getAcneType()).getCareMethod(),
-                 AcneType.valueOf(analysis.getAcneType()).getGuide(),
-                 analysis.getVideoData(),
-                 analysis.getProductData()
-         );
+         return toAnalysisRes(analysis, formattedWithTime(analysis.getCreatedAt()));
      }
 
-     public MainLogRes getAnalysisListForMainPage() {
+     public MainLogRes<AnalysisRes> getAnalysisListForMainPage() {
             // Business Logic
             List<Analysis> analyses = analysisRepository.findTop3ByIsPublicTrueOrderByCreatedAtDesc();
-            int comedones = analysisRepository.countByAcneTypeAndIsPublicTrue("COMEDONES");
-            int pustules = analysisRepository.countByAcneTypeAndIsPublicTrue("PUSTULES");
-            int papules = analysisRepository.countByAcneTypeAndIsPublicTrue("PAPULES");
-            int follicultis = analysisRepository.countByAcneTypeAndIsPublicTrue("FOLLICULITIS");
 
             // Response
-            List<AnalysisRes> analysisList = analyses.stream().map(analysis -> new AnalysisRes(
-                    analysis.getAnalysisId(),
-                    s3Client.getImage(analysis.getImageUrl()),
-                    formatted(analysis.getCreatedAt()),
-                    analysis.getIsPublic(),
-                    AcneType.valueOf(analysis.getAcneType()).name(),
-                    AcneType.valueOf(analysis.getAcneType()).getDescription(),
-                    AcneType.valueOf(analysis.getAcneType()).getCareMethod(),
-                    AcneType.valueOf(analysis.getAcneType()).getGuide(),
-                    analysis.getVideoData(),
-                    analysis.getProductData()
-            )).toList();
-
-            return MainLogRes.from(comedones, pustules, papules, follicultis, analysisList);
+            return withAcneStats(toListRes(analyses));
      }
 
+    /**
+     * 메인 페이지용 카드 조회 (추천 영상 / 제품 JSON 컬럼은 조회하지 않음)
+     */
+    public MainLogRes<AnalysisCardRes> getAnalysisCardsForMainPage() {
+        // Business Logic
+        List<AnalysisCard> cards = analysisRepository.findTop3ByIsPublicTrueOrderByCreatedAtDesc(AnalysisCard.class);
+
+        // Response
+        return withAcneStats(cards.stream().map(this::toCardRes).toList());
+    }
+
     /**
      * 피플즈 로그 페이지용 공개된 분석 기록 페이지네이션 조회
      * @param acneType 여드름 타입 (ALL인 경우 전체 조회)
@@ -156,18 +265,9 @@ public class AnalysisService {
         }
 
         // Response
-        return analysisPage.map(analysis -> new AnalysisRes(
-                analysis.getAnalysisId(),
-                s3Client.getImage(analysis.getImageUrl()),
-                formatted(analysis.getCreatedAt()),
-                analysis.getIsPublic(),
-                AcneType.valueOf(analysis.getAcneType()).name(),
-                AcneType.valueOf(analysis.getAcneType()).getDescription(),
-                AcneType.valueOf(analysis.getAcneType()).getCareMethod(),
-                AcneType.valueOf(analysis.getAcneType()).getGuide(),
-                analysis.getVideoData(),
-                analysis.getProductData()
-        ));
+        Map<Long, Recommendation> recommendations = recommendationSnapshotCache.recommendationsOf(analysisPage.getContent());
+        return analysisPage.map(analysis -> toAnalysisRes(
+                analysis, formatted(analysis.getCreatedAt()), recommendations.get(analysis.getAnalysisId())));
     }
 
     /**
@@ -204,18 +304,91 @@ public class AnalysisService {
         }
 
         // Response
-        return analysisPage.map(analysis -> new AnalysisRes(
-                analysis.getAnalysisId(),
-                s3Client.getImage(analysis.getImageUrl()),
-                formatted(analysis.getCreatedAt()),
-                analysis.getIsPublic(),
-                AcneType.valueOf(analysis.getAcneType()).name(),
-                AcneType.valueOf(analysis.getAcneType()).getDescription(),
-                AcneType.valueOf(analysis.getAcneType()).getCareMethod(),
-                AcneType.valueOf(analysis.getAcneType()).getGuide(),
-                analysis.getVideoData(),
-                analysis.getProductData()
-        ));
+        Map<Long, Recommendation> recommendations = recommendationSnapshotCache.recommendationsOf(analysisPage.getContent());
+        return analysisPage.map(analysis -> toAnalysisRes(
+                analysis, formatted(analysis.getCreatedAt()), recommendations.get(analysis.getAnalysisId())));
+    }
+
+    /**
+     * 피플즈 로그 페이지용 공개된 분석 기록 커서 조회
+     * - OFFSET / count 쿼리 없이 (created_at, analysis_id) 기준으로 이어서 조회하므로, 스크롤 깊이와 무관하게 일정한 비용
+     * @param acneType 여드름 타입 (ALL인 경우 전체 조회)
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 목록)
+     * @param size 조회 개수
+     * @return 공개 분석 기록 리스트와 다음 커서
+     */
+    public AnalysisSliceRes<AnalysisRes> getAnalysisSliceForLogPage(String acneType, String cursor, int size) {
+        return publicSlice(acneType, cursor, size, ANALYSIS_ROWS, this::toListRes);
+    }
+
+    /**
+     * 마이페이지용 내 분석 기록 커서 조회
+     * @param member 현재 로그인한 회원
+     * @param acneType 여드름 타입 (ALL인 경우 전체 조회)
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 목록)
+     * @param size 조회 개수
+     * @return 내 분석 기록 리스트와 다음 커서
+     */
+    public AnalysisSliceRes<AnalysisRes> getAnalysisSliceForMyPage(Member member, String acneType, String cursor, int size) {
+        return memberSlice(member, acneType, cursor, size, ANALYSIS_ROWS, this::toListRes);
+    }
+
+    /**
+     * 피플즈 로그 페이지용 공개된 분석 카드 페이지네이션 조회
+     * - 목록 카드에 필요한 컬럼만 조회하며, 추천 영상 / 제품 목록은 포함하지 않음
+     */
+    public Page<AnalysisCardRes> getAnalysisCardPaginationForLogPage(String acneType, Pageable pageable) {
+        // Validation
+        validateAcneType(acneType);
+
+        // Business Logic
+        Page<AnalysisCard> cardPage;
+        if ("ALL".equalsIgnoreCase(acneType)) {
+            cardPage = analysisRepository.findByIsPublicTrueOrderByCreatedAtDesc(pageable, AnalysisCard.class);
+        } else {
+            cardPage = analysisRepository.findByIsPublicTrueAndAcneTypeOrderByCreatedAtDesc(
+                    acneType.toUpperCase(), pageable, AnalysisCard.class);
+        }
+
+        // Response
+        return cardPage.map(this::toCardRes);
+    }
+
+    /**
+     * 마이페이지용 내 분석 카드 페이지네이션 조회
+     */
+    public Page<AnalysisCardRes> getAnalysisCardListForMyPage(Member member, String acneType, Pageable pageable) {
+        // Validation
+        if (member == null) {
+            throw new IllegalArgumentException("Member cannot be null");
+        }
+        validateAcneType(acneType);
+
+        // Business Logic
+        Page<AnalysisCard> cardPage;
+        if ("ALL".equalsIgnoreCase(acneType)) {
+            cardPage = analysisRepository.findByMemberOrderByCreatedAtDesc(member, pageable, AnalysisCard.class);
+        } else {
+            cardPage = analysisRepository.findByMemberAndAcneTypeOrderByCreatedAtDesc(
+                    member, acneType.toUpperCase(), pageable, AnalysisCard.class);
+        }
+
+        // Response
+        return cardPage.map(this::toCardRes);
+    }
+
+    /**
+     * 피플즈 로그 페이지용 공개된 분석 카드 커서 조회
+     */
+    public AnalysisSliceRes<AnalysisCardRes> getAnalysisCardSliceForLogPage(String acneType, String cursor, int size) {
+        return publicSlice(acneType, cursor, size, CARD_ROWS, this::toCardResList);
+    }
+
+    /**
+     * 마이페이지용 내 분석 카드 커서 조회
+     */
+    public AnalysisSliceRes<AnalysisCardRes> getAnalysisCardSliceForMyPage(Member member, String acneType, String cursor, int size) {
+        return memberSlice(member, acneType, cursor, size, CARD_ROWS, this::toCardResList);
     }
 
     /*
@@ -223,10 +396,12 @@ public class AnalysisService {
      */
     public AnalysisLogRes getLogDetail(Long analysisId) {
         // Validation
-        Analysis analysis = analysisRepository.findById(analysisId)
+        // 작성자 정보를 함께 조회
+        Analysis analysis = analysisRepository.findWithMemberByAnalysisId(analysisId)
                 .orElseThrow(() -> new IllegalArgumentException("Analysis not found with id: " + analysisId));
 
         Member member = analysis.getMember();
+        Recommendation recommendation = recommendationSnapshotCache.recommendationOf(analysis);
 
         // Response
         return new AnalysisLogRes(
@@ -240,37 +415,224 @@ public class AnalysisService {
                 AcneType.valueOf(analysis.getAcneType()).getDescription(),
                 AcneType.valueOf(analysis.getAcneType()).getCareMethod(),
                 AcneType.valueOf(analysis.getAcneType()).getGuide(),
-                analysis.getVideoData(),
-                analysis.getProductData()
+                recommendation.videoList(),
+                recommendation.productList()
         );
     }
 
     @Transactional
     public AnalysisRes updateIsPublic(Member member, AnalysisReq req) {
         // Validation
-        Analysis analysis = analysisRepository.findById(req.analysisId())
-                .orElseThrow(() -> new IllegalArgumentException("Analysis not found with id: " + req.analysisId()));
-        // Analysis가 요청한 사용자의 분석 결과인지 확인
-        if(!analysis.getMember().getMemberId().equals(member.getMemberId())) {
-            throw new IllegalArgumentException("Unauthorized access to analysis with id: " + req.analysisId());
-        }
+        // Analysis가 요청한 사용자의 분석 결과인지 조회 조건으로 확인
+        Analysis analysis = analysisRepository.findByAnalysisIdAndMember_MemberId(req.analysisId(), member.getMemberId())
+                .orElseThrow(() -> notFoundOrUnauthorized(req.analysisId()));
 
+        boolean wasPublic = Boolean.TRUE.equals(analysis.getIsPublic());
         analysis.updateIsPublic(req.isPublic());
+        publicAcneStatsService.recordVisibilityChanged(analysis, wasPublic);
+
+        return toAnalysisRes(analysis, formattedWithTime(analysis.getCreatedAt()));
+    }
+
+    /*
+    공개 분석 커서 조회 (목록 / 카드 조회가 공유, rows 로 조회할 컬럼을 정하고 mapper 로 목록 단위 응답 변환)
+     */
+    private <T, R> AnalysisSliceRes<R> publicSlice(String acneType, String cursor, int size,
+                                                   KeysetRows<T> rows, Function<List<T>, List<R>> mapper) {
+        // Validation
+        validateAcneType(acneType);
+        AnalysisCursor position = AnalysisCursor.decode(cursor);
+
+        // Business Logic
+        Slice<T> slice = rows.publicQuery().find(analysisRepository, typeFilter(acneType), position, PageRequest.of(0, size));
+
+        // Response
+        return toSliceRes(slice, rows, mapper);
+    }
+
+    /*
+    내 분석 커서 조회 (목록 / 카드 조회가 공유)
+     */
+    private <T, R> AnalysisSliceRes<R> memberSlice(Member member, String acneType, String cursor, int size,
+                                                   KeysetRows<T> rows, Function<List<T>, List<R>> mapper) {
+        // Validation
+        if (member == null) {
+            throw new IllegalArgumentException("Member cannot be null");
+        }
+        validateAcneType(acneType);
+        AnalysisCursor position = AnalysisCursor.decode(cursor);
+
+        // Business Logic
+        Slice<T> slice = rows.memberQuery().find(analysisRepository, member, typeFilter(acneType), position, PageRequest.of(0, size));
+
+        // Response
+        return toSliceRes(slice, rows, mapper);
+    }
+
+    private <T, R> AnalysisSliceRes<R> toSliceRes(Slice<T> slice, KeysetRows<T> rows, Function<List<T>, List<R>> mapper) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? rows.cursorOf().apply(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new AnalysisSliceRes<>(mapper.apply(content), nextCursor, slice.hasNext());
+    }
+
+    // 커서 조회 유형 조건 (ALL 이면 null)
+    private String typeFilter(String acneType) {
+        return "ALL".equalsIgnoreCase(acneType) ? null : acneType.toUpperCase();
+    }
+
+    /*
+    메인 페이지 응답 (유형별 개수는 analysis 테이블 COUNT 대신 통계 카운터에서 조회)
+     */
+    private <T> MainLogRes<T> withAcneStats(List<T> analysisList) {
+        Map<AcneType, Integer> counts = publicAcneStatsService.getCounts();
+        return MainLogRes.from(
+                counts.get(AcneType.COMEDONES),
+                counts.get(AcneType.PUSTULES),
+                counts.get(AcneType.PAPULES),
+                counts.get(AcneType.FOLLICULITIS),
+                analysisList
+        );
+    }
+
+    /*
+    본인 분석 조회 실패 시 원인 구분 (실패한 요청에서만 추가 조회)
+     */
+    private IllegalArgumentException notFoundOrUnauthorized(Long analysisId) {
+        if (analysisRepository.existsById(analysisId)) {
+            return new IllegalArgumentException("Unauthorized access to analysis with id: " + analysisId);
+        }
+        return new IllegalArgumentException("Analysis not found with id: " + analysisId);
+    }
+
+    /*
+    acneType 유효성 검사 (ALL 또는 AcneType 이름)
+     */
+    private void validateAcneType(String acneType) {
+        if ("ALL".equalsIgnoreCase(acneType)) {
+            return;
+        }
+        try {
+            AcneType.valueOf(acneType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid acne type: " + acneType);
+        }
+    }
+
+    private AnalysisRes toAnalysisRes(Analysis analysis, String createdAt) {
+        return toAnalysisRes(analysis, createdAt, recommendationSnapshotCache.recommendationOf(analysis));
+    }
+
+    private AnalysisRes toAnalysisRes(Analysis analysis, String createdAt, Recommendation recommendation) {
+        AcneType acneType = AcneType.valueOf(analysis.getAcneType());
+        String imageUrl = s3Client.getImage(analysis.getImageUrl());
 
         return new AnalysisRes(
                 analysis.getAnalysisId(),
-                s3Client.getImage(analysis.getImageUrl()),
-                formattedWithTime(analysis.getCreatedAt()),
+                imageUrl,
+                thumbnailOf(analysis.getImageUrl(), analysis.getThumbnailReady(), imageUrl),
+                createdAt,
                 analysis.getIsPublic(),
-                AcneType.valueOf(analysis.getAcneType()).name(),
-                AcneType.valueOf(analysis.getAcneType()).getDescription(),
-                AcneType.valueOf(analysis.getAcneType()).getCareMethod(),
-                AcneType.valueOf(analysis.getAcneType()).getGuide(),
-                analysis.getVideoData(),
-                analysis.getProductData()
+                acneType.name(),
+                acneType.getDescription(),
+                acneType.getCareMethod(),
+                acneType.getGuide(),
+                recommendation.videoList(),
+                recommendation.productList()
+        );
+    }
+
+    /*
+    목록 응답 (목록의 추천 스냅샷을 한 번에 조회)
+     */
+    private List<AnalysisRes> toListRes(List<Analysis> analyses) {
+        Map<Long, Recommendation> recommendations = recommendationSnapshotCache.recommendationsOf(analyses);
+        return analyses.stream()
+                .map(analysis -> toAnalysisRes(
+                        analysis, formatted(analysis.getCreatedAt()), recommendations.get(analysis.getAnalysisId())))
+                .toList();
+    }
+
+    private List<AnalysisCardRes> toCardResList(List<AnalysisCard> cards) {
+        return cards.stream().map(this::toCardRes).toList();
+    }
+
+    private AnalysisCardRes toCardRes(AnalysisCard card) {
+        String imageUrl = s3Client.getImage(card.getImageUrl());
+
+        return new AnalysisCardRes(
+                card.getAnalysisId(),
+                imageUrl,
+                thumbnailOf(card.getImageUrl(), card.getThumbnailReady(), imageUrl),
+                formatted(card.getCreatedAt()),
+                card.getIsPublic(),
+                AcneType.valueOf(card.getAcneType()).name()
+        );
+    }
+
+    /*
+    썸네일 URL (아직 생성되지 않았다면 원본 이미지 URL 사용)
+     */
+    private ThumbnailDto thumbnailOf(String imageKey, Boolean thumbnailReady, String imageUrl) {
+        if (!Boolean.TRUE.equals(thumbnailReady)) {
+            return new ThumbnailDto(imageUrl, imageUrl);
+        }
+        return new ThumbnailDto(
+                s3Client.getImage(ImageVariant.SMALL.keyOf(imageKey)),
+                s3Client.getImage(ImageVariant.MEDIUM.keyOf(imageKey))
         );
     }
 
+    /*
+    S3 업로드 완료 대기 (업로드 중 발생한 예외는 원본 예외로 전달)
+     */
+    private String awaitUpload(CompletableFuture<String> upload) {
+        try {
+            return upload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /*
+    업로드가 끝나는 대로 S3 이미지 삭제 (업로드 자체가 실패한 경우 정리할 대상 없음)
+     */
+    private void discardUploadedImage(CompletableFuture<String> upload) {
+        // 업로드가 끝날 때까지 기다린 뒤 삭제 (반환 이후에는 호출 측에서 이미지 버퍼를 반납하므로)
+        String key;
+        try {
+            key = upload.join();
+        } catch (CompletionException e) {
+            return;
+        }
+
+        try {
+            s3Client.deleteImage(key);
+        } catch (RuntimeException e) {
+            log.error("분석 실패 이미지 삭제 실패 - key: {}", key, e);
+        }
+    }
+
+    /*
+    회원별 직접 업로드 경로
+     */
+    private String uploadDirectory(Member member) {
+        return "skin/upload/" + member.getMemberId();
+    }
+
+    private void discardUploadedOriginal(String imageKey) {
+        try {
+            s3Client.deleteImage(imageKey);
+        } catch (RuntimeException e) {
+            log.warn("업로드 원본 이미지 삭제 실패 - key: {}", imageKey, e);
+        }
+    }
+
     private String formatted(LocalDateTime time) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
         return time.format(formatter);
@@ -282,10 +644,28 @@ public class AnalysisService {
     }
 
     public List<YoutubeVideoDto> getYoutubeVideos() {
-        return youtubeClient.searchVideos("피부관리", 3);
+        return recommendationClient.videos("피부관리", 3);
     }
 
     public List<NaverProductDto> getNaverProducts() {
-        return naverClient.searchProducts("피부관리", 3);
+        return recommendationClient.products("피부관리", 3);
+    }
+
+    /*
+    커서 조회 쿼리 묶음 (조회 형태별 공개 / 회원 쿼리와 커서 추출, acneType 이 null 이면 전체 유형)
+     */
+    private record KeysetRows<T>(PublicKeysetQuery<T> publicQuery,
+                                 MemberKeysetQuery<T> memberQuery,
+                                 Function<T, AnalysisCursor> cursorOf) {
+    }
+
+    @FunctionalInterface
+    private interface PublicKeysetQuery<T> {
+        Slice<T> find(AnalysisRepository repository, String acneType, AnalysisCursor position, Pageable limit);
+    }
+
+    @FunctionalInterface
+    private interface MemberKeysetQuery<T> {
+        Slice<T> find(AnalysisRepository repository, Member member, String acneType, AnalysisCursor position, Pageable limit);
     }
 }
@@ -0,0 +1,81 @@
+package hongik.triple.apimodule.application.analysis;
+
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImagePreprocessor;
+import hongik.triple.inframodule.image.ImageVariant;
+import hongik.triple.inframodule.s3.S3Client;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 이미지 썸네일 생성
+ * - 분석 결과가 저장된 뒤 별도 워커에서 크기별 (ImageVariant) 썸네일을 만들어 원본 key 에서 파생된 key 로 업로드
+ * - 업로드가 모두 끝나면 thumbnailReady 를 표시하며, 그 전까지 목록 화면은 원본 이미지 URL 을 사용
+ * - 업로드 대기 시간을 제한하여, S3 지연 시에도 썸네일 워커가 무기한 점유되지 않도록 함 (시간 초과 시 원본 URL 유지)
+ */
+@Slf4j
+@Component
+public class AnalysisThumbnailGenerator {
+
+    private final ImagePreprocessor imagePreprocessor;
+    private final S3Client s3Client;
+    private final AnalysisRepository analysisRepository;
+    private final Executor thumbnailExecutor;
+    private final long uploadTimeoutMillis;
+
+    public AnalysisThumbnailGenerator(ImagePreprocessor imagePreprocessor,
+                                      S3Client s3Client,
+                                      AnalysisRepository analysisRepository,
+                                      @Qualifier("thumbnailExecutor") Executor thumbnailExecutor,
+                                      @Value("${analysis.thumbnail.upload-timeout-ms:60000}") long uploadTimeoutMillis) {
+        this.imagePreprocessor = imagePreprocessor;
+        this.s3Client = s3Client;
+        this.analysisRepository = analysisRepository;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.uploadTimeoutMillis = uploadTimeoutMillis;
+    }
+
+    /**
+     * 썸네일 생성 요청 (호출 측은 반환 직후 image 를 닫아도 됨)
+     * @param analysisId 분석 ID
+     * @param imageKey S3 에 저장된 원본 이미지 key
+     * @param image S3 에 저장된 이미지
+     */
+    public void generateAsync(Long analysisId, String imageKey, ImageFile image) {
+        ImageFile source = image.detached();
+        try {
+            thumbnailExecutor.execute(() -> generate(analysisId, imageKey, source));
+        } catch (TaskRejectedException e) {
+            log.warn("썸네일 생성 생략 (작업 큐 가득 참) - analysisId: {}", analysisId);
+            source.close();
+        }
+    }
+
+    private void generate(Long analysisId, String imageKey, ImageFile source) {
+        try (source) {
+            Map<ImageVariant, ImageFile> thumbnails = imagePreprocessor.thumbnails(source);
+            if (thumbnails.size() != ImageVariant.values().length) {
+                return;
+            }
+
+            CompletableFuture.allOf(thumbnails.entrySet().stream()
+                    .map(thumbnail -> s3Client.uploadThumbnailAsync(thumbnail.getValue(), thumbnail.getKey(), imageKey))
+                    .toArray(CompletableFuture[]::new))
+                    .orTimeout(uploadTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+
+            analysisRepository.markThumbnailReady(analysisId);
+        } catch (RuntimeException e) {
+            log.error("썸네일 생성 실패 - analysisId: {}, key: {}", analysisId, imageKey, e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package hongik.triple.apimodule.application.analysis;
+
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.PublicAcneStats;
+import hongik.triple.domainmodule.domain.analysis.repository.AcneTypeCount;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.analysis.repository.PublicAcneStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 페이지 여드름 유형별 통계
+ * - analysis 테이블을 매번 COUNT 하지 않고, public_acne_stats 카운터를 조회
+ * - 카운터는 분석 생성 / 공개 여부 변경과 같은 트랜잭션에서 증감하고, 주기적으로 GROUP BY 결과로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PublicAcneStatsService {
+
+    private final PublicAcneStatsRepository publicAcneStatsRepository;
+    private final AnalysisRepository analysisRepository;
+
+    /**
+     * 유형별 공개 분석 수
+     * @return 여드름 유형별 개수 (카운터가 없는 유형은 0)
+     */
+    public Map<AcneType, Integer> getCounts() {
+        Map<AcneType, Integer> counts = new EnumMap<>(AcneType.class);
+        for (AcneType acneType : AcneType.values()) {
+            counts.put(acneType, 0);
+        }
+        for (PublicAcneStats stats : publicAcneStatsRepository.findAll()) {
+            counts.put(AcneType.valueOf(stats.getAcneType()), Math.toIntExact(stats.getCount()));
+        }
+        return counts;
+    }
+
+    /**
+     * 분석 생성 시 반영 (공개된 분석만 집계)
+     */
+    @Transactional
+    public void recordCreated(Analysis analysis) {
+        if (Boolean.TRUE.equals(analysis.getIsPublic())) {
+            increment(analysis.getAcneType(), 1);
+        }
+    }
+
+    /**
+     * 공개 여부 변경 시 반영
+     * @param analysis 변경된 분석
+     * @param wasPublic 변경 전 공개 여부
+     */
+    @Transactional
+    public void recordVisibilityChanged(Analysis analysis, boolean wasPublic) {
+        boolean isPublic = Boolean.TRUE.equals(analysis.getIsPublic());
+        if (isPublic != wasPublic) {
+            increment(analysis.getAcneType(), isPublic ? 1 : -1);
+        }
+    }
+
+    /**
+     * 카운터 재집계 (기동 직후 및 주기적으로 실행)
+     * - 카운터 행이 없으면 생성하고 (INSERT ... ON CONFLICT DO NOTHING), 실제 집계와 어긋난 값은 보정
+     * - 카운터 행을 먼저 잠근 뒤 집계하므로, 증감 트랜잭션은 잠금 전에 커밋되어 집계에 포함되거나 보정 후에 반영됨
+     */
+    @Transactional
+    @Scheduled(initialDelay = 0, fixedDelayString = "${analysis.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        for (AcneType acneType : AcneType.values()) {
+            publicAcneStatsRepository.insertIfAbsent(acneType.name());
+        }
+        List<PublicAcneStats> locked = publicAcneStatsRepository.findAllForUpdate();
+
+        // 잠금을 잡은 뒤 새로 실행하는 쿼리이므로 그 사이 커밋된 분석까지 집계됨 (READ COMMITTED)
+        Map<String, Long> actualCounts = analysisRepository.countPublicGroupByAcneType().stream()
+                .collect(Collectors.toMap(AcneTypeCount::getAcneType, AcneTypeCount::getCount));
+
+        for (PublicAcneStats stats : locked) {
+            long actual = actualCounts.getOrDefault(stats.getAcneType(), 0L);
+            if (stats.getCount() != actual) {
+                log.info("여드름 통계 보정 - acneType: {}, {} -> {}", stats.getAcneType(), stats.getCount(), actual);
+                stats.updateCount(actual);
+            }
+        }
+    }
+
+    private void increment(String acneType, long delta) {
+        if (publicAcneStatsRepository.increment(acneType, delta) == 0) {
+            log.warn("여드름 통계 카운터 없음, 다음 재집계에서 반영 - acneType: {}", acneType);
+        }
+    }
+}
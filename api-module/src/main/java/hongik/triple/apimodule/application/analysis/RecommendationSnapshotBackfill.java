@@ -0,0 +1,44 @@
+package hongik.triple.apimodule.application.analysis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 분석의 추천 결과 (행별 JSON 복사본) 를 스냅샷으로 이전하는 백그라운드 작업
+ * - 배치마다 짧은 트랜잭션으로 나누어 처리하고, 남은 행이 없으면 이후 실행은 생략
+ * - 모든 인스턴스에서 실행되지만 배치 대상을 SKIP LOCKED 로 선점하므로 인스턴스끼리 같은 행을 처리하지 않음
+ */
+@Slf4j
+@Component
+public class RecommendationSnapshotBackfill {
+
+    private final RecommendationSnapshotService recommendationSnapshotService;
+    private final int batchSize;
+    private volatile boolean completed;
+
+    public RecommendationSnapshotBackfill(RecommendationSnapshotService recommendationSnapshotService,
+                                          @Value("${analysis.snapshot.backfill-batch-size:500}") int batchSize) {
+        this.recommendationSnapshotService = recommendationSnapshotService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${analysis.snapshot.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${analysis.snapshot.backfill-interval-ms:1000}")
+    public void run() {
+        if (completed) {
+            return;
+        }
+
+        try {
+            int migrated = recommendationSnapshotService.backfill(batchSize);
+            if (migrated < batchSize) {
+                completed = true;
+                log.info("추천 스냅샷 백필 완료");
+            }
+        } catch (RuntimeException e) {
+            log.error("추천 스냅샷 백필 실패 (다음 실행에서 재시도)", e);
+        }
+    }
+}
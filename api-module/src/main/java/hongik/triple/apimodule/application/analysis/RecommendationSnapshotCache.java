@@ -0,0 +1,96 @@
+package hongik.triple.apimodule.application.analysis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.RecommendationSnapshot;
+import hongik.triple.domainmodule.domain.analysis.repository.RecommendationSnapshotRepository;
+import hongik.triple.inframodule.recommendation.Recommendation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 스냅샷 조회 캐시 (snapshot_id -> 추천 영상 / 제품)
+ * - 스냅샷은 변경되지 않으므로 만료 없이 크기 기준으로만 제거
+ * - 같은 스냅샷을 참조하는 분석은 JSON 을 다시 조회 / 파싱하지 않고 같은 결과를 공유
+ */
+@Component
+public class RecommendationSnapshotCache {
+
+    private final RecommendationSnapshotRepository recommendationSnapshotRepository;
+    private final Cache<Long, Recommendation> snapshots;
+
+    public RecommendationSnapshotCache(RecommendationSnapshotRepository recommendationSnapshotRepository,
+                                       @Value("${analysis.snapshot.cache-size:1000}") long cacheSize) {
+        this.recommendationSnapshotRepository = recommendationSnapshotRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 분석의 추천 결과
+     * - 스냅샷이 연결되지 않은 (백필 전) 분석은 행에 저장된 추천 결과 사용
+     */
+    public Recommendation recommendationOf(Analysis analysis) {
+        Long snapshotId = analysis.getSnapshotId();
+        if (snapshotId == null) {
+            return new Recommendation(analysis.getVideoData(), analysis.getProductData());
+        }
+
+        Recommendation cached = snapshots.getIfPresent(snapshotId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회되지 않은 스냅샷은 캐시하지 않음
+        Optional<Recommendation> loaded = recommendationSnapshotRepository.findById(snapshotId).map(this::toRecommendation);
+        loaded.ifPresent(recommendation -> snapshots.put(snapshotId, recommendation));
+        return loaded.orElseGet(() -> new Recommendation(List.of(), List.of()));
+    }
+
+    /**
+     * 목록의 추천 결과 (analysisId -> 추천 결과)
+     * - 캐시에 없는 스냅샷은 목록 단위로 모아 한 번의 IN 조회로 가져옴 (분석마다 조회하지 않음)
+     */
+    public Map<Long, Recommendation> recommendationsOf(List<Analysis> analyses) {
+        Set<Long> snapshotIds = analyses.stream()
+                .map(Analysis::getSnapshotId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Recommendation> loaded = snapshotIds.isEmpty() ? Map.of() : snapshots.getAll(snapshotIds, this::loadAll);
+
+        Map<Long, Recommendation> recommendations = new HashMap<>();
+        for (Analysis analysis : analyses) {
+            Long snapshotId = analysis.getSnapshotId();
+            recommendations.put(analysis.getAnalysisId(), snapshotId == null
+                    ? new Recommendation(analysis.getVideoData(), analysis.getProductData())
+                    : loaded.getOrDefault(snapshotId, new Recommendation(List.of(), List.of())));
+        }
+        return recommendations;
+    }
+
+    // 저장 직후의 스냅샷 등록 (복제 지연과 무관하게 바로 응답에 사용)
+    void put(Long snapshotId, Recommendation recommendation) {
+        snapshots.put(snapshotId, new Recommendation(
+                List.copyOf(recommendation.videoList()), List.copyOf(recommendation.productList())));
+    }
+
+    // 조회되지 않은 스냅샷은 결과에서 빠지므로 캐시하지 않음
+    private Map<Long, Recommendation> loadAll(Set<? extends Long> snapshotIds) {
+        return recommendationSnapshotRepository.findAllById(Set.copyOf(snapshotIds)).stream()
+                .collect(Collectors.toMap(RecommendationSnapshot::getSnapshotId, this::toRecommendation));
+    }
+
+    private Recommendation toRecommendation(RecommendationSnapshot snapshot) {
+        return new Recommendation(List.copyOf(snapshot.getVideoData()), List.copyOf(snapshot.getProductData()));
+    }
+}
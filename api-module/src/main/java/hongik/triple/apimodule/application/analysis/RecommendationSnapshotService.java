@@ -0,0 +1,110 @@
+package hongik.triple.apimodule.application.analysis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.analysis.repository.RecommendationSnapshotRepository;
+import hongik.triple.inframodule.recommendation.Recommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 추천 스냅샷 저장
+ * - 추천 영상 / 제품 JSON 의 SHA-256 을 키로 recommendation_snapshot 에 한 번만 저장하고, 분석에는 snapshot_id 만 기록
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationSnapshotService {
+
+    private final RecommendationSnapshotRepository recommendationSnapshotRepository;
+    private final AnalysisRepository analysisRepository;
+    private final RecommendationSnapshotCache recommendationSnapshotCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 분석의 추천 결과를 스냅샷으로 저장 (같은 내용의 스냅샷이 있으면 재사용) 하고 분석에 연결
+     * - 호출 측 트랜잭션 (분석 저장) 안에서 실행
+     */
+    @Transactional
+    public void link(Analysis analysis) {
+        Recommendation recommendation = new Recommendation(
+                Objects.requireNonNullElse(analysis.getVideoData(), List.of()),
+                Objects.requireNonNullElse(analysis.getProductData(), List.of()));
+
+        Long snapshotId = snapshotIdOf(recommendation.videoList(), recommendation.productList());
+        analysis.linkSnapshot(snapshotId);
+        putAfterCommit(snapshotId, recommendation);
+    }
+
+    /**
+     * 스냅샷이 연결되지 않은 기존 분석을 batchSize 개씩 스냅샷으로 이전
+     * - 대상 행을 FOR UPDATE SKIP LOCKED 로 선점하므로 여러 인스턴스가 동시에 실행해도 같은 행을 중복 처리하지 않음
+     * - 삭제된 분석도 이전하여, 백필이 끝나면 video_data / product_data 컬럼에 남은 데이터가 없음
+     * @return 이전한 분석 수 (0 이면 완료)
+     */
+    @Transactional
+    public int backfill(int batchSize) {
+        List<Analysis> analyses = analysisRepository.claimSnapshotBackfill(batchSize);
+        analyses.forEach(this::link);
+        return analyses.size();
+    }
+
+    /*
+    커밋된 스냅샷만 조회 캐시에 등록 (롤백되어 사라진 스냅샷 ID 가 캐시에 남지 않도록 함), 트랜잭션 밖이면 즉시 등록
+     */
+    private void putAfterCommit(Long snapshotId, Recommendation recommendation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recommendationSnapshotCache.put(snapshotId, recommendation);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recommendationSnapshotCache.put(snapshotId, recommendation);
+            }
+        });
+    }
+
+    private Long snapshotIdOf(List<YoutubeVideoDto> videoData, List<NaverProductDto> productData) {
+        String videoJson = toJson(videoData);
+        String productJson = toJson(productData);
+        String contentHash = sha256(videoJson + "\n" + productJson);
+
+        return recommendationSnapshotRepository.findIdByContentHash(contentHash)
+                .orElseGet(() -> {
+                    recommendationSnapshotRepository.insertIfAbsent(contentHash, videoJson, productJson);
+                    return recommendationSnapshotRepository.findIdByContentHash(contentHash).orElseThrow();
+                });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("추천 결과 직렬화 실패", e);
+        }
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
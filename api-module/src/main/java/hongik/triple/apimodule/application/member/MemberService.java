@@ -1,9 +1,12 @@
 package hongik.triple.apimodule.application.member;
 
+import hongik.triple.apimodule.global.security.PrincipalCache;
 import hongik.triple.apimodule.global.security.jwt.TokenProvider;
 import hongik.triple.commonmodule.dto.member.MemberReq;
 import hongik.triple.commonmodule.dto.member.MemberRes;
 import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
 import hongik.triple.domainmodule.domain.member.Member;
 import hongik.triple.domainmodule.domain.member.repository.MemberRepository;
 import hongik.triple.domainmodule.domain.survey.Survey;
@@ -33,6 +36,7 @@ public class MemberService {
     private final KakaoClient kakaoClient;
     private final GoogleClient googleClient;
     private final TokenProvider tokenProvider;
+    private final PrincipalCache principalCache;
 
     public String getKakaoLoginUrl(String redirectUri) {
         return kakaoClient.getKakaoAuthUrl(redirectUri);
@@ -54,7 +58,9 @@ public class MemberService {
 
     @Transactional
     public void withdrawal(Member member) {
-        memberRepository.delete(member);
+        Member managedMember = findManagedMember(member);
+        principalCache.evictAfterCompletion(managedMember);
+        memberRepository.delete(managedMember);
     }
 
     @Transactional
@@ -82,9 +88,10 @@ public class MemberService {
 
     @Transactional
     public MemberRes updateProfile(Member member, MemberReq memberReq) {
-        member.updateSkinType(memberReq.skin_type());
-        member.updateName(memberReq.name());
-        Member updateMember = memberRepository.save(member);
+        Member updateMember = findManagedMember(member);
+        principalCache.evictAfterCompletion(updateMember);
+        updateMember.updateSkinType(memberReq.skin_type());
+        updateMember.updateName(memberReq.name());
 
         return MemberRes.builder()
                 .id(updateMember.getMemberId())
@@ -131,4 +138,10 @@ public class MemberService {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         return time.format(formatter);
     }
-}
\ No newline at end of file
+
+    // 인증 정보의 회원은 요청 범위의 준영속 객체이므로, 회원 정보를 바꿀 때는 영속 회원을 다시 조회
+    private Member findManagedMember(Member member) {
+        return memberRepository.findById(member.getMemberId())
+                .orElseThrow(() -> new ApplicationException(ErrorCode.NOT_FOUND_EXCEPTION));
+    }
+}
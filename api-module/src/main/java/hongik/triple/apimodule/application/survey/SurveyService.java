@@ -1,5 +1,6 @@
 package hongik.triple.apimodule.application.survey;
 
+import hongik.triple.apimodule.global.security.PrincipalCache;
 import hongik.triple.commonmodule.dto.survey.SurveyOptionDto;
 import hongik.triple.commonmodule.dto.survey.SurveyQuestionDto;
 import hongik.triple.commonmodule.dto.survey.SurveyReq;
@@ -27,6 +28,7 @@ public class SurveyService {
 
     private final SurveyRepository surveyRepository;
     private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public SurveyRes registerSurvey(Member authenticatedUser, SurveyReq request) {
@@ -47,6 +49,7 @@ public class SurveyService {
 
         Survey savedSurvey = surveyRepository.save(survey);
         member.updateSkinType(skinType.name()); // 유저 피부타입 세팅
+        principalCache.evictAfterCompletion(member);
 
         // Response
         return SurveyRes.builder()
@@ -1,6 +1,7 @@
 package hongik.triple.apimodule.global.config;
 
 import hongik.triple.apimodule.global.security.ExceptionFilter;
+import hongik.triple.apimodule.global.security.ReadAfterWriteFilter;
 import hongik.triple.apimodule.global.security.jwt.JwtAccessDeniedHandler;
 import hongik.triple.apimodule.global.security.jwt.JwtAuthenticationEntryPoint;
 import hongik.triple.apimodule.global.security.jwt.JwtFilter;
@@ -27,8 +28,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 인증 없이 접근하는 경로 (JwtFilter 도 토큰을 검증하지 않음)
+    public static final String[] PUBLIC_PATHS = {
+            "/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", // Swagger UI
+            "/error",
+            "/api/v1/auth/**" // 로그인
+    };
+
     private final JwtFilter jwtFilter;
     private final ExceptionFilter exceptionFilter;
+    private final ReadAfterWriteFilter readAfterWriteFilter;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
@@ -58,14 +67,12 @@ public class SecurityConfig {
         );
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(exceptionFilter, JwtFilter.class);
+        http.addFilterAfter(readAfterWriteFilter, JwtFilter.class);
 
         // 요청 URI별 권한 설정
         http.authorizeHttpRequests((authorize) ->
-                // Swagger UI 외부 접속 허용
-                authorize.requestMatchers( "/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
-                        // 로그인 로직 접속 허용
-                        .requestMatchers("/error").permitAll()
-                        .requestMatchers("/api/v1/auth/**").permitAll()
+                // Swagger UI, 로그인 로직 접속 허용
+                authorize.requestMatchers(PUBLIC_PATHS).permitAll()
                         .requestMatchers("/api/v1/member/**").authenticated()
                         // 이외의 모든 요청은 인증 정보 필요
                         .anyRequest().permitAll());
@@ -3,7 +3,9 @@ package hongik.triple.apimodule.global.exception;
 import hongik.triple.apimodule.global.common.ErrorResponse;
 import hongik.triple.commonmodule.exception.ApplicationException;
 import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.commonmodule.exception.RetryableException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,6 +16,14 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(RetryableException.class)
+    public ResponseEntity<ErrorResponse> retryableException(RetryableException e) {
+        return ResponseEntity
+                .status(e.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getErrorCode()));
+    }
+
     @ExceptionHandler(ApplicationException.class)
     public ResponseEntity<ErrorResponse> applicationException(ApplicationException e) {
         return ResponseEntity
@@ -0,0 +1,26 @@
+package hongik.triple.apimodule.global.security;
+
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.domain.member.Member;
+
+/**
+ * 인증 회원 스냅샷 (PrincipalCache 에 저장되어 여러 요청이 공유하는 불변 값)
+ */
+public record MemberPrincipal(
+        Long memberId,
+        String email,
+        MemberType memberType,
+        String skinType,
+        String name
+) {
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member.getMemberId(), member.getEmail(), member.getMemberType(),
+                member.getSkinType(), member.getName());
+    }
+
+    // 요청마다 새로 만드는 준영속 회원 (조회 조건 / 연관관계 참조용)
+    public Member toMember() {
+        return Member.of(memberId, name, email, memberType, skinType);
+    }
+}
@@ -0,0 +1,111 @@
+package hongik.triple.apimodule.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.datasource.ReadAfterWriteGuard;
+import hongik.triple.domainmodule.domain.member.Member;
+import hongik.triple.domainmodule.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 회원 (principal) 로컬 캐시
+ * - JWT 인증마다 실행되던 회원 조회를 (email, memberType) 키로 짧은 시간 캐시
+ * - 불변 스냅샷 (MemberPrincipal) 만 저장하고, 회원 정보를 바꾸는 서비스는 영속 회원을 다시 조회하여 수정한 뒤 evictAfterCompletion 으로 무효화
+ * - 적재는 primary 에서 조회하고, 조회 도중 무효화가 일어났으면 저장하지 않음 (커밋 전에 읽은 이전 값이 무효화 뒤에 다시 저장되는 경합 방지)
+ * - 다른 서버 인스턴스의 캐시는 TTL 이 지나야 갱신됨 (탈퇴 / 프로필 변경이 최대 TTL 만큼 늦게 반영될 수 있음)
+ * - 적중률은 cache_gets_total{cache="member-principal"} 로 노출
+ */
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "member-principal";
+
+    private final MemberRepository memberRepository;
+    private final ReadAfterWriteGuard readAfterWriteGuard;
+    private final Cache<PrincipalKey, MemberPrincipal> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PrincipalCache(MemberRepository memberRepository,
+                          ReadAfterWriteGuard readAfterWriteGuard,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        this.memberRepository = memberRepository;
+        this.readAfterWriteGuard = readAfterWriteGuard;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 인증 회원 조회 (캐시에 없으면 primary 에서 조회 후 저장, 없는 회원은 캐시하지 않음)
+     * - JwtFilter 는 ReadAfterWriteFilter 가 클라이언트를 bind 하기 전에 실행되므로, 복제본에서 읽으면 방금 바꾼 프로필의 이전 값을 다시 캐시할 수 있음
+     * @param email 토큰의 email
+     * @param memberType 토큰의 회원 유형
+     * @return 탈퇴하지 않은 회원의 스냅샷
+     */
+    public Optional<MemberPrincipal> find(String email, MemberType memberType) {
+        PrincipalKey key = new PrincipalKey(email, memberType);
+        MemberPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = evictions.get();
+        Optional<MemberPrincipal> loaded = readAfterWriteGuard.readFromPrimary(() ->
+                        memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(email, memberType))
+                .map(MemberPrincipal::from);
+        loaded.ifPresent(principal -> {
+            cache.put(key, principal);
+            if (evictions.get() != generation) {
+                cache.invalidate(key); // 조회 도중 무효화됨 (커밋 전 값을 읽었을 수 있음)
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 현재 트랜잭션이 끝나면 회원 캐시 무효화, 트랜잭션 밖이면 즉시 무효화
+     * @param member 정보가 바뀌는 회원
+     */
+    public void evictAfterCompletion(Member member) {
+        PrincipalKey key = new PrincipalKey(member.getEmail(), member.getMemberType());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(key);
+            }
+        });
+    }
+
+    // 진행 중인 적재가 결과를 저장하지 않도록 세대를 먼저 올린 뒤 무효화
+    private void evict(PrincipalKey key) {
+        evictions.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    private record PrincipalKey(
+            String email,
+            MemberType memberType
+    ) {
+    }
+}
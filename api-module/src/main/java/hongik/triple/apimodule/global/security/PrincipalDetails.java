@@ -13,17 +13,20 @@ import java.util.Map;
 public class PrincipalDetails implements UserDetails { //, OAuth2User
 
     @Getter
-    private final Member member;
+    private final MemberPrincipal principal;
+    @Getter
+    private final Member member; // 캐시된 스냅샷으로 만든 요청 범위의 준영속 회원 (요청끼리 공유하지 않음)
     private Map<String, Object> attributes;
 
     // 일반 로그인
-    public PrincipalDetails(Member member) {
-        this.member = member;
+    public PrincipalDetails(MemberPrincipal principal) {
+        this.principal = principal;
+        this.member = principal.toMember();
     }
 
     // OAuth 로그인
-    public PrincipalDetails(Member member, Map<String, Object> attributes) {
-        this.member = member;
+    public PrincipalDetails(MemberPrincipal principal, Map<String, Object> attributes) {
+        this(principal);
         this.attributes = attributes;
     }
 
@@ -31,7 +34,7 @@ public class PrincipalDetails implements UserDetails { //, OAuth2User
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + member.getMemberType().name()));
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + principal.memberType().name()));
 
         return authorities;
     }
@@ -45,7 +48,7 @@ public class PrincipalDetails implements UserDetails { //, OAuth2User
     // 사용자의 이름 반환
     @Override
     public String getUsername() {
-        return member.getName();
+        return principal.name();
     }
 
     // 계정이 잠기지 않았으므로 true 반환
@@ -0,0 +1,41 @@
+package hongik.triple.apimodule.global.security;
+
+import hongik.triple.domainmodule.datasource.ReadAfterWriteGuard;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청한 회원을 읽기 후 쓰기 보호 대상으로 등록 (JwtFilter 이후 실행)
+ * - 최근 쓰기를 커밋한 회원의 조회는 복제본 대신 primary 에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadAfterWriteFilter extends OncePerRequestFilter {
+
+    private final ReadAfterWriteGuard readAfterWriteGuard;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof PrincipalDetails principalDetails)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        readAfterWriteGuard.bind(String.valueOf(principalDetails.getPrincipal().memberId()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readAfterWriteGuard.unbind();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package hongik.triple.apimodule.global.security.jwt;
 
+import hongik.triple.apimodule.global.config.SecurityConfig;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,25 +9,39 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
+    // 인증 없이 접근하는 경로는 토큰을 검증하지 않음 (그 외 permitAll 경로는 로그인 사용자 정보를 쓰므로 검증)
+    private static final RequestMatcher PUBLIC_PATHS = new OrRequestMatcher(Arrays.stream(SecurityConfig.PUBLIC_PATHS)
+            .<RequestMatcher>map(AntPathRequestMatcher::antMatcher)
+            .toList());
+
     private final TokenProvider tokenProvider;
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PUBLIC_PATHS.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
         // 토큰이 존재할 경우, Authentication에 인증 정보 저장 및 로그 출력
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
+        if (StringUtils.hasText(token)) {
             Authentication authentication = tokenProvider.getAuthentication(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
             // log.info("Security Context 인증 정보 저장: " + authentication.getEmail(), requestURI);
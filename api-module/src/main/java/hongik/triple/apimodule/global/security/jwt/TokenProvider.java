@@ -1,13 +1,17 @@
 package hongik.triple.apimodule.global.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import hongik.triple.apimodule.global.security.MemberPrincipal;
+import hongik.triple.apimodule.global.security.PrincipalCache;
 import hongik.triple.apimodule.global.security.PrincipalDetails;
 import hongik.triple.commonmodule.enumerate.MemberType;
 import hongik.triple.commonmodule.exception.ApplicationException;
 import hongik.triple.commonmodule.exception.ErrorCode;
 import hongik.triple.domainmodule.domain.member.Member;
-import hongik.triple.domainmodule.domain.member.repository.MemberRepository;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -19,7 +23,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 @RequiredArgsConstructor
@@ -27,8 +37,12 @@ public class TokenProvider {
 
     @Value("${jwt.secret}")
     private String secretKey;
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
     private SecretKey key;
-    private final MemberRepository memberRepository;
+    private JwtParser parser; // 키가 고정이므로 한 번만 생성
+    private Cache<String, VerifiedToken> verifiedTokens; // 최근 검증한 토큰 (키: 토큰의 SHA-256, 토큰 만료 시각까지 보관)
+    private final PrincipalCache principalCache;
 
     // ATK 만료시간: 1일
     private static final long accessTokenExpirationTime = 7 * 24 * 60 * 60 * 1000L;
@@ -40,6 +54,13 @@ public class TokenProvider {
     protected void init() {
         byte[] secretKeyBytes = Decoders.BASE64.decode(secretKey);
         key = Keys.hmacShaKeyFor(secretKeyBytes);
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     /**
@@ -71,62 +92,82 @@ public class TokenProvider {
                 .build();
     }
 
-    /**
-     * 토큰 유효성 검사
-     * @param token - 일반적으로 액세스 토큰 / 토큰 재발급 요청 시에는 리프레쉬 토큰이 들어옴
-     * @return 유효하면 true, 유효하지 않으면 false 반환
-     */
-    public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return claims.getPayload().getExpiration().after(new Date());
-        } catch (Exception e) {
-            throw new ApplicationException(ErrorCode.INTERNAL_SERVER_EXCEPTION); // TOO: update
-        }
-    }
-
     /**
      * 토큰에서 정보를 추출해서 Authentication 객체를 반환
      * @param token - 액세스 토큰으로, 해당 토큰에서 정보를 추출해서 사용
      * @return 토큰 정보와 일치하는 Authentication 객체 반환
      */
     public Authentication getAuthentication(String token) {
-        String email = getEmail(token);
-        MemberType memberType = getMemberType(token);
+        VerifiedToken verifiedToken = verify(token);
 
-        Member member = memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(email, memberType)
+        MemberPrincipal principal = principalCache.find(verifiedToken.email(), verifiedToken.memberType())
                 .orElseThrow(() -> new ApplicationException(ErrorCode.NOT_FOUND_EXCEPTION));
 
-        PrincipalDetails principalDetails = new PrincipalDetails(member);
+        PrincipalDetails principalDetails = new PrincipalDetails(principal);
 
         return new UsernamePasswordAuthenticationToken(principalDetails, "", principalDetails.getAuthorities());
     }
 
     /**
-     * 토큰에서 email 정보 반환
-     * @param token - 일반적으로 액세스 토큰 / 토큰 재발급 요청 시에는 리프레쉬 토큰이 들어옴
-     * @return 사용자의 email 반환
+     * 토큰 검증 (서명 / 만료) 후 인증에 필요한 클레임 반환
+     * - 최근 검증한 토큰은 만료 시각까지 다이제스트 (SHA-256) 로 캐시하여 다시 파싱 / 서명 검증하지 않음
+     * @param token - 액세스 토큰
+     * @return 검증된 토큰의 email, 회원 유형, 만료 시각
      */
-    public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public VerifiedToken verify(String token) {
+        return verifiedTokens.get(digest(token), digest -> parse(token));
     }
 
-    public MemberType getMemberType(String token) {
-        String memberTypeStr = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("memberType", String.class);
+    // 토큰 1회 파싱 (서명 검증 + 만료 확인)
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    MemberType.valueOf(claims.get("memberType", String.class)),
+                    claims.getExpiration().toInstant());
+        } catch (Exception e) {
+            throw new ApplicationException(ErrorCode.INTERNAL_SERVER_EXCEPTION); // TOO: update
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /*
+    검증 결과는 토큰 만료 시각까지만 보관
+     */
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
 
-        return MemberType.valueOf(memberTypeStr);
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken verifiedToken, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), verifiedToken.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /*
+    검증된 토큰 정보
+     */
+    public record VerifiedToken(
+            String email,
+            MemberType memberType,
+            Instant expiresAt
+    ) {
     }
 }
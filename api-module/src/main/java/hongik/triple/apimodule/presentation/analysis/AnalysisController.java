@@ -1,10 +1,15 @@
 package hongik.triple.apimodule.presentation.analysis;
 
+import hongik.triple.apimodule.application.analysis.AnalysisJobService;
 import hongik.triple.apimodule.application.analysis.AnalysisService;
 import hongik.triple.apimodule.global.common.ApplicationResponse;
 import hongik.triple.apimodule.global.security.PrincipalDetails;
+import hongik.triple.commonmodule.dto.analysis.AnalysisJobRes;
+import hongik.triple.commonmodule.dto.analysis.AnalysisPerformReq;
 import hongik.triple.commonmodule.dto.analysis.AnalysisReq;
 import hongik.triple.commonmodule.dto.analysis.AnalysisRes;
+import hongik.triple.commonmodule.dto.analysis.AnalysisUploadReq;
+import hongik.triple.commonmodule.dto.analysis.AnalysisUploadRes;
 import hongik.triple.commonmodule.dto.survey.SurveyRes;
 import hongik.triple.inframodule.s3.S3Client;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,9 +21,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/analysis")
@@ -26,10 +35,45 @@ import org.springframework.web.multipart.MultipartFile;
 @Tag(name = "Analysis", description = "피부 분석 관련 API")
 public class AnalysisController {
 
+    // 목록 응답 형태 (full: 추천 영상 / 제품 포함, card: 목록 카드용 요약)
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_CARD = "card";
+
     private final AnalysisService analysisService;
+    private final AnalysisJobService analysisJobService;
     private final S3Client s3Client;
 
-    @PostMapping("/perform")
+    @PostMapping("/upload-url")
+    @Operation(summary = "피부 이미지 업로드 URL 발급", description = "S3에 피부 이미지를 직접 업로드할 수 있는 presigned PUT URL을 발급합니다. 응답의 Content-Type / Content-Length 그대로 업로드해야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "업로드 URL 발급 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AnalysisUploadRes.class))),
+            @ApiResponse(responseCode = "400",
+                    description = "허용되지 않는 파일 형식 또는 크기")
+    })
+    public ApplicationResponse<?> createUploadUrl(@AuthenticationPrincipal PrincipalDetails principalDetails, @RequestBody AnalysisUploadReq req) {
+        return ApplicationResponse.ok(analysisService.createUploadUrl(principalDetails.getMember(), req));
+    }
+
+    @PostMapping(value = "/perform", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "피부 이미지 분석 (직접 업로드)", description = "presigned URL로 업로드한 이미지의 key를 전달받아, 분석 결과를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "피부이미지 분석 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AnalysisRes.class))),
+            @ApiResponse(responseCode = "403",
+                    description = "본인이 업로드하지 않은 이미지"),
+            @ApiResponse(responseCode = "500",
+                    description = "서버 오류")
+    })
+    public ApplicationResponse<?> performAnalysisWithUploadedImage(@AuthenticationPrincipal PrincipalDetails principalDetails, @RequestBody AnalysisPerformReq req) {
+        return ApplicationResponse.ok(analysisService.performAnalysis(principalDetails.getMember(), req));
+    }
+
+    @PostMapping(value = "/perform", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "피부 이미지 분석", description = "사용자에게 피부 이미지를 전달받아, 분석 결과를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
@@ -43,8 +87,34 @@ public class AnalysisController {
         return ApplicationResponse.ok(analysisService.performAnalysis(principalDetails.getMember(), multipartFile));
     }
 
+    @PostMapping("/jobs")
+    @Operation(summary = "피부 이미지 분석 작업 등록", description = "피부 이미지 분석을 비동기 작업으로 등록하고, 작업 ID를 즉시 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "분석 작업 등록 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AnalysisJobRes.class))),
+            @ApiResponse(responseCode = "503",
+                    description = "분석 작업 대기열 초과")
+    })
+    public ApplicationResponse<?> submitAnalysisJob(@AuthenticationPrincipal PrincipalDetails principalDetails, @RequestPart(value = "file") MultipartFile multipartFile) {
+        return ApplicationResponse.ok(analysisJobService.submit(principalDetails.getMember(), multipartFile));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "피부 이미지 분석 작업 조회", description = "분석 작업의 진행 상태를 조회합니다. 완료된 경우 분석 결과를 함께 반환합니다.")
+    public ApplicationResponse<?> getAnalysisJob(@AuthenticationPrincipal PrincipalDetails principalDetails, @PathVariable String jobId) {
+        return ApplicationResponse.ok(analysisJobService.getJob(principalDetails.getMember(), jobId));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "피부 이미지 분석 작업 진행 상황 구독", description = "분석 작업의 단계별 진행 상황을 Server-Sent Events로 전달합니다.")
+    public SseEmitter subscribeAnalysisJob(@AuthenticationPrincipal PrincipalDetails principalDetails, @PathVariable String jobId) {
+        return analysisJobService.subscribe(principalDetails.getMember(), jobId);
+    }
+
     @GetMapping("/main")
-    @Operation(summary = "[홈화면] 피플즈 로그 썸네일 조회", description = "홈화면의 피플즈 로그에 노출되는 상위 3개의 분석 이미지를 조회합니다.")
+    @Operation(summary = "[홈화면] 피플즈 로그 썸네일 조회", description = "홈화면의 피플즈 로그에 노출되는 상위 3개의 분석 이미지를 조회합니다. view=card 이면 추천 영상 / 제품 목록을 제외한 카드 형태로 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "AnceLog Main Page 에서 노출할 피부 분석 이미지 결과 목록",
@@ -53,15 +123,28 @@ public class AnalysisController {
             @ApiResponse(responseCode = "500",
                     description = "서버 오류")
     })
-    public ApplicationResponse<?> getAnalysisListForMainPage() {
+    public ApplicationResponse<?> getAnalysisListForMainPage(@RequestParam(name = "view", defaultValue = VIEW_FULL) String view) {
+        if (isCardView(view)) {
+            return ApplicationResponse.ok(analysisService.getAnalysisCardsForMainPage());
+        }
         return ApplicationResponse.ok(analysisService.getAnalysisListForMainPage());
     }
 
     @GetMapping("/my")
-    @Operation(summary = "나의 진단로그 리스트 조회", description = "나의 진단로그 페이지의 리스트를 조회합니다.")
+    @Operation(summary = "나의 진단로그 리스트 조회", description = "나의 진단로그 페이지의 리스트를 조회합니다. cursor 를 전달하면 (첫 목록은 빈 값) 전체 개수 없이 다음 커서와 함께 이어서 조회합니다. view=card 이면 추천 영상 / 제품 목록을 제외한 카드 형태로 반환합니다.")
     public ApplicationResponse<?> getAnalysisListForMyPage(@AuthenticationPrincipal PrincipalDetails principalDetails,
                                                            @RequestParam(name = "type") String acneType,
+                                                           @RequestParam(name = "cursor", required = false) String cursor,
+                                                           @RequestParam(name = "view", defaultValue = VIEW_FULL) String view,
                                                            @PageableDefault(size = 4) Pageable pageable) {
+        if (isCardView(view)) {
+            return ApplicationResponse.ok(cursor != null
+                    ? analysisService.getAnalysisCardSliceForMyPage(principalDetails.getMember(), acneType, cursor, pageable.getPageSize())
+                    : analysisService.getAnalysisCardListForMyPage(principalDetails.getMember(), acneType, pageable));
+        }
+        if (cursor != null) {
+            return ApplicationResponse.ok(analysisService.getAnalysisSliceForMyPage(principalDetails.getMember(), acneType, cursor, pageable.getPageSize()));
+        }
         return ApplicationResponse.ok(analysisService.getAnalysisListForMyPage(principalDetails.getMember(), acneType, pageable));
     }
 
@@ -72,9 +155,19 @@ public class AnalysisController {
     }
 
     @GetMapping("/log")
-    @Operation(summary = "피플즈 로그 리스트 조회", description = "피플즈 로그 페이지의 리스트를 조회합니다.")
+    @Operation(summary = "피플즈 로그 리스트 조회", description = "피플즈 로그 페이지의 리스트를 조회합니다. cursor 를 전달하면 (첫 목록은 빈 값) 전체 개수 없이 다음 커서와 함께 이어서 조회합니다. view=card 이면 추천 영상 / 제품 목록을 제외한 카드 형태로 반환합니다.")
     public ApplicationResponse<?> getAnalysisPaginationForLogPage(@RequestParam(name = "type") String acneType,
+                                                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                                                  @RequestParam(name = "view", defaultValue = VIEW_FULL) String view,
                                                                   @PageableDefault(size = 4) Pageable pageable) {
+        if (isCardView(view)) {
+            return ApplicationResponse.ok(cursor != null
+                    ? analysisService.getAnalysisCardSliceForLogPage(acneType, cursor, pageable.getPageSize())
+                    : analysisService.getAnalysisCardPaginationForLogPage(acneType, pageable));
+        }
+        if (cursor != null) {
+            return ApplicationResponse.ok(analysisService.getAnalysisSliceForLogPage(acneType, cursor, pageable.getPageSize()));
+        }
         return ApplicationResponse.ok(analysisService.getAnalysisPaginationForLogPage(acneType, pageable));
     }
 
@@ -94,9 +187,9 @@ public class AnalysisController {
 
     @PostMapping("/image")
     @Operation(summary = "이미지 업로드", description = "S3에 이미지를 업로드하는 API 입니다. (어드민용)")
-    public ApplicationResponse<?> upload(@RequestPart MultipartFile file, @RequestParam(name = "dir") String dir) {
+    public CompletableFuture<ApplicationResponse<?>> upload(@RequestPart MultipartFile file, @RequestParam(name = "dir") String dir) {
 
-        return ApplicationResponse.ok(s3Client.uploadImage(file, dir));
+        return s3Client.uploadImageAsync(file, dir).thenApply(ApplicationResponse::ok);
     }
 
     @DeleteMapping("/image")
@@ -118,4 +211,8 @@ public class AnalysisController {
     public ApplicationResponse<?> getProductRecommendationsForMainPage() {
         return ApplicationResponse.ok(analysisService.getNaverProducts());
     }
+
+    private boolean isCardView(String view) {
+        return VIEW_CARD.equalsIgnoreCase(view);
+    }
 }
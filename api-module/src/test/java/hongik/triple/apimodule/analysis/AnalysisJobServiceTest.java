@@ -0,0 +1,267 @@
+package hongik.triple.apimodule.analysis;
+
+import hongik.triple.apimodule.application.analysis.AnalysisJobEmitters;
+import hongik.triple.apimodule.application.analysis.AnalysisJobService;
+import hongik.triple.apimodule.application.analysis.AnalysisService;
+import hongik.triple.commonmodule.dto.analysis.AnalysisJobRes;
+import hongik.triple.commonmodule.dto.analysis.AnalysisRes;
+import hongik.triple.commonmodule.dto.analysis.ThumbnailDto;
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.domainmodule.domain.analysis.AnalysisJob;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisJobRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImageIngestor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisJobService 테스트")
+class AnalysisJobServiceTest {
+
+    @Mock
+    private AnalysisService analysisService;
+
+    @Mock
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Mock
+    private AnalysisJobEmitters analysisJobEmitters;
+
+    @Spy
+    private ImageIngestor imageIngestor = new ImageIngestor(new SimpleMeterRegistry(), 4096, 4, System.getProperty("java.io.tmpdir"));
+
+    @Spy
+    private Executor analysisJobExecutor = new SyncTaskExecutor();
+
+    @InjectMocks
+    private AnalysisJobService analysisJobService;
+
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        member = new Member("user", "email@test.com", MemberType.KAKAO);
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+    }
+
+    private MultipartFile mockFile() {
+        return new MockMultipartFile("file", "test.jpg", "image/jpeg", "dummy".getBytes());
+    }
+
+    private AnalysisRes analysisRes(Long analysisId) {
+        return new AnalysisRes(analysisId, "cdn/img", new ThumbnailDto("cdn/img", "cdn/img"), "2025.01.01", true, "PAPULES",
+                "description", "careMethod", "guide", List.of(), List.of());
+    }
+
+    @Nested
+    @DisplayName("submit()은")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("작업을 등록하고 워커에서 분석을 완료 처리한다.")
+        void success() {
+            given(analysisJobRepository.save(any(AnalysisJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(analysisService.analyze(eq(member), any(ImageFile.class), any())).willReturn(analysisRes(10L));
+            given(analysisJobRepository.complete(anyString(), eq(10L))).willReturn(1);
+
+            AnalysisJobRes res = analysisJobService.submit(member, mockFile());
+
+            assertThat(res.jobId()).isNotBlank();
+            assertThat(res.status()).isEqualTo(AnalysisJobStatus.PENDING.name());
+
+            verify(analysisJobRepository).complete(res.jobId(), 10L);
+
+            ArgumentCaptor<AnalysisJobRes> event = ArgumentCaptor.forClass(AnalysisJobRes.class);
+            verify(analysisJobEmitters).publish(eq(res.jobId()), event.capture());
+            assertThat(event.getValue().status()).isEqualTo(AnalysisJobStatus.COMPLETED.name());
+            assertThat(event.getValue().result().analysisId()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("분석 중 예외가 발생하면 작업을 실패 처리한다.")
+        void failure() {
+            given(analysisJobRepository.save(any(AnalysisJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(analysisService.analyze(eq(member), any(ImageFile.class), any()))
+                    .willThrow(new ApplicationException(ErrorCode.FAILED_UPLOAD_FILE));
+
+            AnalysisJobRes res = analysisJobService.submit(member, mockFile());
+
+            verify(analysisJobRepository).fail(res.jobId(), ErrorCode.FAILED_UPLOAD_FILE.getMessage());
+            verify(analysisJobRepository, never()).complete(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("워커 대기열이 가득 차면 작업을 거절한다.")
+        void rejected() {
+            given(analysisJobRepository.save(any(AnalysisJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+            doThrow(new RejectedExecutionException()).when(analysisJobExecutor).execute(any());
+
+            assertThatThrownBy(() -> analysisJobService.submit(member, mockFile()))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.ANALYSIS_JOB_REJECTED);
+
+            verify(analysisJobRepository).fail(anyString(), eq(ErrorCode.ANALYSIS_JOB_REJECTED.getMessage()));
+            verify(analysisService, never()).analyze(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("파일이 비어 있으면 예외를 던진다.")
+        void emptyFile() {
+            MultipartFile empty = new MockMultipartFile("file", new byte[]{});
+
+            assertThatThrownBy(() -> analysisJobService.submit(member, empty))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("File is empty");
+
+            verify(analysisJobRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob()은")
+    class GetJobTest {
+
+        @Test
+        @DisplayName("진행 중인 작업은 현재 단계만 반환한다.")
+        void inProgress() {
+            AnalysisJob job = AnalysisJob.builder().member(member).build();
+            ReflectionTestUtils.setField(job, "status", AnalysisJobStatus.RECOMMENDING);
+
+            given(analysisJobRepository.findByJobIdAndMember_MemberId(job.getJobId(), 1L)).willReturn(Optional.of(job));
+
+            AnalysisJobRes res = analysisJobService.getJob(member, job.getJobId());
+
+            assertThat(res.status()).isEqualTo(AnalysisJobStatus.RECOMMENDING.name());
+            assertThat(res.result()).isNull();
+            verify(analysisService, never()).getAnalysisDetail(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("완료된 작업은 분석 결과를 함께 반환한다.")
+        void completed() {
+            AnalysisJob job = AnalysisJob.builder().member(member).build();
+            ReflectionTestUtils.setField(job, "status", AnalysisJobStatus.COMPLETED);
+            ReflectionTestUtils.setField(job, "analysisId", 10L);
+
+            given(analysisJobRepository.findByJobIdAndMember_MemberId(job.getJobId(), 1L)).willReturn(Optional.of(job));
+            given(analysisService.getAnalysisDetail(member, 10L)).willReturn(analysisRes(10L));
+
+            AnalysisJobRes res = analysisJobService.getJob(member, job.getJobId());
+
+            assertThat(res.result().analysisId()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 작업이거나 존재하지 않으면 예외 발생")
+        void notFound() {
+            given(analysisJobRepository.findByJobIdAndMember_MemberId("unknown", 1L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> analysisJobService.getJob(member, "unknown"))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOT_FOUND_ANALYSIS_JOB);
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 처리된 작업의 워커는")
+    class FinishedByStaleSweepTest {
+
+        @Test
+        @DisplayName("대기열에서 만료된 작업은 분석을 시작하지 않고 이벤트를 보내지 않는다.")
+        void expiredWhilePending() {
+            given(analysisJobRepository.save(any(AnalysisJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(analysisJobRepository.updateStatus(anyString(), eq(AnalysisJobStatus.ANALYZING))).willReturn(0);
+            given(analysisService.analyze(eq(member), any(ImageFile.class), any())).willAnswer(invocation -> {
+                invocation.<Consumer<AnalysisJobStatus>>getArgument(2).accept(AnalysisJobStatus.ANALYZING);
+                return analysisRes(10L);
+            });
+
+            analysisJobService.submit(member, mockFile());
+
+            verify(analysisJobRepository, never()).complete(anyString(), anyLong());
+            verify(analysisJobRepository, never()).fail(anyString(), anyString());
+            verify(analysisJobEmitters, never()).publish(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("만료 처리 뒤에 분석이 끝나면 완료로 바꾸지 못하고, 두 번째 최종 이벤트를 보내지 않는다.")
+        void completedAfterExpired() {
+            given(analysisJobRepository.save(any(AnalysisJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(analysisService.analyze(eq(member), any(ImageFile.class), any())).willReturn(analysisRes(10L));
+            given(analysisJobRepository.complete(anyString(), eq(10L))).willReturn(0);
+
+            analysisJobService.submit(member, mockFile());
+
+            verify(analysisJobEmitters, never()).publish(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("만료 처리 뒤에 분석이 실패해도 실패 이벤트를 다시 보내지 않는다.")
+        void failedAfterExpired() {
+            given(analysisJobRepository.save(any(AnalysisJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(analysisService.analyze(eq(member), any(ImageFile.class), any()))
+                    .willThrow(new ApplicationException(ErrorCode.FAILED_UPLOAD_FILE));
+            given(analysisJobRepository.fail(anyString(), anyString())).willReturn(0);
+
+            analysisJobService.submit(member, mockFile());
+
+            verify(analysisJobEmitters, never()).publish(anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("failStaleJobs()는")
+    class FailStaleJobsTest {
+
+        @Test
+        @DisplayName("중단된 작업을 실패로 전환하고 구독자에게 최종 상태를 전송한다.")
+        void failStale() {
+            LocalDateTime before = LocalDateTime.now().minusMinutes(10);
+            String message = ErrorCode.ANALYSIS_JOB_EXPIRED.getMessage();
+            given(analysisJobRepository.findStaleJobIds(before)).willReturn(List.of("stale", "resumed"));
+            given(analysisJobRepository.failIfStale("stale", message, before)).willReturn(1);
+            given(analysisJobRepository.failIfStale("resumed", message, before)).willReturn(0);
+
+            int failed = analysisJobService.failStaleJobs(before);
+
+            assertThat(failed).isEqualTo(1);
+            ArgumentCaptor<AnalysisJobRes> captor = ArgumentCaptor.forClass(AnalysisJobRes.class);
+            verify(analysisJobEmitters).publish(eq("stale"), captor.capture());
+            assertThat(captor.getValue().status()).isEqualTo(AnalysisJobStatus.FAILED.name());
+            assertThat(captor.getValue().errorMessage()).isEqualTo(message);
+            verify(analysisJobEmitters, never()).publish(eq("resumed"), any());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package hongik.triple.apimodule.analysis;
+
+import hongik.triple.apimodule.application.analysis.AnalysisPersister;
+import hongik.triple.apimodule.application.analysis.AnalysisService;
+import hongik.triple.apimodule.application.analysis.AnalysisThumbnailGenerator;
+import hongik.triple.apimodule.application.analysis.PublicAcneStatsService;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotCache;
+import hongik.triple.commonmodule.dto.analysis.AnalysisReq;
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.member.Member;
+import hongik.triple.inframodule.ai.AIClient;
+import hongik.triple.inframodule.ai.InferenceBulkhead;
+import hongik.triple.inframodule.image.ImageIngestor;
+import hongik.triple.inframodule.image.ImagePreprocessor;
+import hongik.triple.inframodule.recommendation.RecommendationClient;
+import hongik.triple.inframodule.s3.S3Client;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false" // 마이그레이션은 PostgreSQL 전용이므로 H2 는 엔티티 기준으로 생성
+})
+@Import({JpaConfig.class, AnalysisService.class, RecommendationSnapshotCache.class})
+@DisplayName("AnalysisService 상세 / 소유자 확인 쿼리 수 테스트")
+class AnalysisServiceQueryCountTest {
+
+    @MockitoBean
+    private AIClient aiClient;
+
+    @MockitoBean
+    private InferenceBulkhead inferenceBulkhead;
+
+    @MockitoBean
+    private RecommendationClient recommendationClient;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private ImagePreprocessor imagePreprocessor;
+
+    @MockitoBean
+    private ImageIngestor imageIngestor;
+
+    @MockitoBean
+    private AnalysisPersister analysisPersister;
+
+    @MockitoBean
+    private AnalysisThumbnailGenerator analysisThumbnailGenerator;
+
+    @MockitoBean
+    private PublicAcneStatsService publicAcneStatsService;
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member owner;
+    private Member other;
+    private Long analysisId;
+
+    @BeforeEach
+    void setup() {
+        owner = new Member("owner", "owner@test.com", MemberType.KAKAO);
+        other = new Member("other", "other@test.com", MemberType.GOOGLE);
+        entityManager.persist(owner);
+        entityManager.persist(other);
+
+        Analysis analysis = Analysis.builder()
+                .member(owner)
+                .acneType(AcneType.PAPULES)
+                .imageUrl("skin/image.jpg")
+                .isPublic(true)
+                .videoData(List.of())
+                .productData(List.of())
+                .build();
+        entityManager.persist(analysis);
+        analysisId = analysis.getAnalysisId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("내 분석 상세는 소유자 확인을 포함해 한 번의 쿼리로 조회한다.")
+    void analysisDetail() {
+        analysisService.getAnalysisDetail(owner, analysisId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 분석 상세 요청은 원인 구분을 위한 존재 확인까지 두 번의 쿼리로 거절한다.")
+    void analysisDetailOfOtherMember() {
+        assertThatThrownBy(() -> analysisService.getAnalysisDetail(other, analysisId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unauthorized");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("공개 여부 변경은 소유자 확인 조회 한 번과 변경 쿼리 한 번으로 처리한다.")
+    void updateIsPublic() {
+        analysisService.updateIsPublic(owner, new AnalysisReq(analysisId, false));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록의 추천 스냅샷은 분석마다 조회하지 않고 목록 단위로 한 번에 조회한다.")
+    void listSnapshots() {
+        Long first = insertSnapshot("hash-1");
+        Long second = insertSnapshot("hash-2");
+        for (Long snapshotId : List.of(first, first, second)) {
+            Analysis analysis = Analysis.builder()
+                    .member(owner)
+                    .acneType(AcneType.COMEDONES)
+                    .imageUrl("skin/linked.jpg")
+                    .isPublic(true)
+                    .build();
+            analysis.linkSnapshot(snapshotId);
+            entityManager.persist(analysis);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // 목록 조회 1 + 스냅샷 IN 조회 1
+        analysisService.getAnalysisSliceForLogPage("ALL", "", 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 이미 조회한 스냅샷은 캐시에서 사용
+        statistics.clear();
+        analysisService.getAnalysisSliceForLogPage("ALL", "", 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("피플즈 로그 상세는 작성자까지 한 번의 쿼리로 조회한다.")
+    void logDetail() {
+        analysisService.getLogDetail(analysisId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Long insertSnapshot(String contentHash) {
+        entityManager.createNativeQuery("INSERT INTO recommendation_snapshot (content_hash, video_data, product_data) " +
+                        "VALUES (:contentHash, JSON '[]', JSON '[]')")
+                .setParameter("contentHash", contentHash)
+                .executeUpdate();
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT snapshot_id FROM recommendation_snapshot WHERE content_hash = :contentHash")
+                .setParameter("contentHash", contentHash)
+                .getSingleResult()).longValue();
+    }
+}
@@ -1,37 +1,66 @@
 package hongik.triple.apimodule.analysis;
 
+import hongik.triple.apimodule.application.analysis.AnalysisCursor;
+import hongik.triple.apimodule.application.analysis.AnalysisPersister;
 import hongik.triple.apimodule.application.analysis.AnalysisService;
+import hongik.triple.apimodule.application.analysis.AnalysisThumbnailGenerator;
+import hongik.triple.apimodule.application.analysis.PublicAcneStatsService;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotCache;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotService;
 import hongik.triple.commonmodule.dto.analysis.*;
 import hongik.triple.commonmodule.enumerate.AcneType;
 import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.commonmodule.exception.RetryableException;
 import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisCard;
 import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.analysis.repository.RecommendationSnapshotRepository;
 import hongik.triple.domainmodule.domain.member.Member;
 import hongik.triple.inframodule.ai.AIClient;
-import hongik.triple.inframodule.naver.NaverClient;
+import hongik.triple.inframodule.ai.InferenceBulkhead;
+import hongik.triple.inframodule.ai.PredictionKey;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImageIngestor;
+import hongik.triple.inframodule.image.ImagePreprocessor;
+import hongik.triple.inframodule.recommendation.Recommendation;
+import hongik.triple.inframodule.recommendation.RecommendationClient;
+import hongik.triple.inframodule.s3.PresignedUpload;
 import hongik.triple.inframodule.s3.S3Client;
-import hongik.triple.inframodule.youtube.YoutubeClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -45,10 +74,7 @@ class AnalysisServiceTest {
     private AIClient aiClient;
 
     @Mock
-    private YoutubeClient youtubeClient;
-
-    @Mock
-    private NaverClient naverClient;
+    private RecommendationClient recommendationClient;
 
     @Mock
     private AnalysisRepository analysisRepository;
@@ -56,6 +82,28 @@ class AnalysisServiceTest {
     @Mock
     private S3Client s3Client;
 
+    @Mock
+    private AnalysisThumbnailGenerator analysisThumbnailGenerator;
+
+    @Mock
+    private PublicAcneStatsService publicAcneStatsService;
+
+    @Mock
+    private RecommendationSnapshotService recommendationSnapshotService;
+
+    @Spy
+    private RecommendationSnapshotCache recommendationSnapshotCache =
+            new RecommendationSnapshotCache(mock(RecommendationSnapshotRepository.class), 100);
+
+    @Spy
+    private InferenceBulkhead inferenceBulkhead = new InferenceBulkhead(new SimpleMeterRegistry(), 1, 0, 0, 1, 5);
+
+    @Spy
+    private ImagePreprocessor imagePreprocessor = new ImagePreprocessor(true, 512, 1600, 0.85f);
+
+    @Spy
+    private ImageIngestor imageIngestor = new ImageIngestor(new SimpleMeterRegistry(), 4096, 4, System.getProperty("java.io.tmpdir"));
+
     @InjectMocks
     private AnalysisService analysisService;
 
@@ -65,12 +113,39 @@ class AnalysisServiceTest {
     void setup() {
         member = new Member("user", "email@test.com", MemberType.KAKAO);
         ReflectionTestUtils.setField(member, "memberId", 1L);
+
+        // 저장 단계는 실제 AnalysisPersister 를 통해 mock repository 로 위임
+        ReflectionTestUtils.setField(analysisService, "analysisPersister", new AnalysisPersister(analysisRepository, s3Client, publicAcneStatsService, recommendationSnapshotService));
     }
 
     private MultipartFile mockFile() {
         return new MockMultipartFile("file", "test.jpg", "image/jpeg", "dummy".getBytes());
     }
 
+    /*
+    EXIF Orientation 태그 (APP1) 를 포함한 JPEG 생성
+     */
+    private byte[] jpegWithOrientation(int width, int height, int orientation) throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg);
+        byte[] encoded = jpeg.toByteArray();
+
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(encoded, 0, 2); // SOI
+        result.write(app1);
+        result.write(encoded, 2, encoded.length - 2);
+        return result.toByteArray();
+    }
+
     @Nested
     @DisplayName("performAnalysis()는")
     class PerformAnalysisTest {
@@ -100,14 +175,14 @@ class AnalysisServiceTest {
                     "brand"
             );
 
-            given(s3Client.uploadImage(file, "skin")).willReturn("s3/image.png");
-            given(aiClient.sendPredictRequest(file)).willReturn(mockData);
+            PredictionKey predictionKey = new PredictionKey("v1:hash");
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("s3/image.png"));
+            given(aiClient.predictionKey(any(ImageFile.class))).willReturn(predictionKey);
+            given(aiClient.sendPredictRequest(any(ImageFile.class), eq(predictionKey))).willReturn(mockData);
             given(mockData.labelToSkinType()).willReturn(AcneType.PAPULES);
 
-            given(youtubeClient.searchVideos(anyString(), eq(3)))
-                    .willReturn(List.of(videoDto));
-            given(naverClient.searchProducts(anyString(), eq(3)))
-                    .willReturn(List.of(productDto));
+            given(recommendationClient.recommend("염증성 여드름", 3))
+                    .willReturn(new Recommendation(List.of(videoDto), List.of(productDto)));
 
             Analysis saved = Analysis.builder()
                     .member(member)
@@ -128,8 +203,135 @@ class AnalysisServiceTest {
             assertThat(res.analysisId()).isEqualTo(10L);
             assertThat(res.acneType()).isEqualTo("PAPULES");
             assertThat(res.imageUrl()).isEqualTo("https://cdn/image.png");
+            assertThat(res.thumbnail()).isEqualTo(new ThumbnailDto("https://cdn/image.png", "https://cdn/image.png"));
+            assertThat(res.videoList()).containsExactly(videoDto);
+            assertThat(res.productList()).containsExactly(productDto);
 
+            verify(aiClient, times(1)).predictionKey(any(ImageFile.class)); // 이미지 해시는 캐시 조회 / 추론에 한 번만 계산
+            verify(aiClient).findCachedPrediction(predictionKey);
             verify(analysisRepository, times(1)).save(any());
+            verify(analysisThumbnailGenerator).generateAsync(eq(10L), eq("s3/image.png"), any(ImageFile.class));
+            verify(publicAcneStatsService).recordCreated(saved);
+        }
+
+        @Test
+        @DisplayName("추천 API 중 일부만 응답해도 부분 결과로 분석을 완료한다.")
+        void partialRecommendation() {
+            MultipartFile file = mockFile();
+
+            AnalysisData mockData = mock(AnalysisData.class);
+            YoutubeVideoDto videoDto = new YoutubeVideoDto("id1", "title1", "url1", "channel1", "thumb1");
+
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("s3/image.png"));
+            given(aiClient.sendPredictRequest(any(ImageFile.class), any())).willReturn(mockData);
+            given(mockData.labelToSkinType()).willReturn(AcneType.COMEDONES);
+            given(recommendationClient.recommend("좁쌀 여드름", 3))
+                    .willReturn(new Recommendation(List.of(videoDto), List.of()));
+            given(analysisRepository.save(any())).willAnswer(invocation -> {
+                Analysis analysis = invocation.getArgument(0);
+                ReflectionTestUtils.setField(analysis, "analysisId", 11L);
+                ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now());
+                return analysis;
+            });
+            given(s3Client.getImage("s3/image.png")).willReturn("https://cdn/image.png");
+
+            AnalysisRes res = analysisService.performAnalysis(member, file);
+
+            assertThat(res.videoList()).containsExactly(videoDto);
+            assertThat(res.productList()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("원본 이미지를 EXIF 방향대로 회전하고 AI 입력용 / 저장용 크기로 축소하여 전달한다.")
+        void preprocessImage() throws IOException {
+            MultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", jpegWithOrientation(2000, 1000, 6));
+
+            AnalysisData mockData = mock(AnalysisData.class);
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("s3/image.jpg"));
+            given(aiClient.sendPredictRequest(any(ImageFile.class), any())).willReturn(mockData);
+            given(mockData.labelToSkinType()).willReturn(AcneType.PAPULES);
+            given(recommendationClient.recommend("염증성 여드름", 3)).willReturn(new Recommendation(List.of(), List.of()));
+            given(analysisRepository.save(any())).willAnswer(invocation -> {
+                Analysis analysis = invocation.getArgument(0);
+                ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now());
+                return analysis;
+            });
+
+            analysisService.performAnalysis(member, file);
+
+            ArgumentCaptor<ImageFile> modelInput = ArgumentCaptor.forClass(ImageFile.class);
+            ArgumentCaptor<ImageFile> storage = ArgumentCaptor.forClass(ImageFile.class);
+            verify(aiClient).sendPredictRequest(modelInput.capture(), any());
+            verify(s3Client).uploadImageAsync(storage.capture(), eq("skin"));
+
+            BufferedImage model = ImageIO.read(modelInput.getValue().getInputStream());
+            BufferedImage stored = ImageIO.read(storage.getValue().getInputStream());
+            assertThat(model.getWidth()).isEqualTo(256);
+            assertThat(model.getHeight()).isEqualTo(512);
+            assertThat(stored.getWidth()).isEqualTo(800);
+            assertThat(stored.getHeight()).isEqualTo(1600);
+            assertThat(storage.getValue().getOriginalFilename()).isEqualTo("photo.jpg");
+            assertThat(storage.getValue().getContentType()).isEqualTo("image/jpeg");
+        }
+
+        @Test
+        @DisplayName("추론 슬롯이 모두 사용 중이면 AI 서버를 호출하지 않고 Retry-After 와 함께 거절한다.")
+        void inferenceRejected() {
+            Member other = new Member("other", "other@test.com", MemberType.GOOGLE);
+            ReflectionTestUtils.setField(other, "memberId", 2L);
+
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("s3/image.png"));
+
+            // 다른 회원의 추론이 진행 중인 동안 분석 요청
+            Throwable thrown = inferenceBulkhead.execute(other.getMemberId(),
+                    () -> catchThrowable(() -> analysisService.performAnalysis(member, mockFile())));
+
+            assertThat(thrown).isInstanceOf(RetryableException.class);
+            assertThat(((RetryableException) thrown).getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_BUSY);
+            assertThat(((RetryableException) thrown).getRetryAfterSeconds()).isEqualTo(5);
+            verify(aiClient, never()).sendPredictRequest(any(ImageFile.class), any());
+            verify(s3Client, times(1)).deleteImage("s3/image.png");
+        }
+
+        @Test
+        @DisplayName("캐시된 예측 결과가 있으면 추론 슬롯이 모두 사용 중이어도 대기 / 거절 없이 분석한다.")
+        void cachedPredictionBypassesBulkhead() {
+            Member other = new Member("other", "other@test.com", MemberType.GOOGLE);
+            ReflectionTestUtils.setField(other, "memberId", 2L);
+
+            AnalysisData mockData = mock(AnalysisData.class);
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("s3/image.png"));
+            given(aiClient.findCachedPrediction(any())).willReturn(Optional.of(mockData));
+            given(mockData.labelToSkinType()).willReturn(AcneType.PAPULES);
+            given(recommendationClient.recommend("염증성 여드름", 3)).willReturn(new Recommendation(List.of(), List.of()));
+            given(analysisRepository.save(any())).willAnswer(invocation -> {
+                Analysis analysis = invocation.getArgument(0);
+                ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now());
+                return analysis;
+            });
+
+            // 다른 회원의 추론이 진행 중인 동안 분석 요청
+            AnalysisRes res = inferenceBulkhead.execute(other.getMemberId(),
+                    () -> analysisService.performAnalysis(member, mockFile()));
+
+            assertThat(res.acneType()).isEqualTo(AcneType.PAPULES.name());
+            verify(aiClient, never()).sendPredictRequest(any(ImageFile.class), any());
+        }
+
+        @Test
+        @DisplayName("AI 분석이 실패하면 업로드된 이미지를 삭제하고 예외를 전달한다.")
+        void inferenceFailure() {
+            MultipartFile file = mockFile();
+
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("s3/image.png"));
+            given(aiClient.sendPredictRequest(any(ImageFile.class), any())).willThrow(new RuntimeException("AI server down"));
+
+            assertThatThrownBy(() -> analysisService.performAnalysis(member, file))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("AI server down");
+
+            verify(s3Client, times(1)).deleteImage("s3/image.png");
+            verify(analysisRepository, never()).save(any());
         }
 
         @Test
@@ -145,6 +347,81 @@ class AnalysisServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("createUploadUrl()은")
+    class CreateUploadUrlTest {
+
+        @Test
+        @DisplayName("회원별 업로드 경로에 대한 presigned URL을 발급한다.")
+        void success() {
+            Instant expiresAt = Instant.now().plusSeconds(600);
+            given(s3Client.createUploadUrl("face.jpg", "image/jpeg", 2048L, "skin/upload/1"))
+                    .willReturn(new PresignedUpload("skin/upload/1/key_face.jpg", "https://s3/presigned", "image/jpeg", 2048L, expiresAt));
+
+            AnalysisUploadRes res = analysisService.createUploadUrl(member, new AnalysisUploadReq("face.jpg", "image/jpeg", 2048L));
+
+            assertThat(res.imageKey()).isEqualTo("skin/upload/1/key_face.jpg");
+            assertThat(res.uploadUrl()).isEqualTo("https://s3/presigned");
+            assertThat(res.contentLength()).isEqualTo(2048L);
+        }
+    }
+
+    @Nested
+    @DisplayName("performAnalysis(imageKey)는")
+    class PerformAnalysisWithUploadedImageTest {
+
+        @Test
+        @DisplayName("업로드된 이미지를 S3에서 읽어 분석하고, 임시 업로드 원본을 삭제한다.")
+        void success() {
+            String imageKey = "skin/upload/1/2025-01-01_uuid_face.jpg";
+            AnalysisData mockData = mock(AnalysisData.class);
+
+            given(s3Client.downloadImage(imageKey)).willReturn(ImageFile.of("face.jpg", "image/jpeg", "dummy".getBytes()));
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("skin/image.jpg"));
+            given(aiClient.sendPredictRequest(any(ImageFile.class), any())).willReturn(mockData);
+            given(mockData.labelToSkinType()).willReturn(AcneType.PAPULES);
+            given(recommendationClient.recommend("염증성 여드름", 3)).willReturn(new Recommendation(List.of(), List.of()));
+            given(analysisRepository.save(any())).willAnswer(invocation -> {
+                Analysis analysis = invocation.getArgument(0);
+                ReflectionTestUtils.setField(analysis, "analysisId", 12L);
+                ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now());
+                return analysis;
+            });
+
+            AnalysisRes res = analysisService.performAnalysis(member, new AnalysisPerformReq(imageKey));
+
+            assertThat(res.analysisId()).isEqualTo(12L);
+            verify(s3Client, times(1)).deleteImage(imageKey);
+        }
+
+        @Test
+        @DisplayName("분석이 실패해도 임시 업로드 원본을 삭제하고 예외를 전달한다.")
+        void failure() {
+            String imageKey = "skin/upload/1/2025-01-01_uuid_face.jpg";
+
+            given(s3Client.downloadImage(imageKey)).willReturn(ImageFile.of("face.jpg", "image/jpeg", "dummy".getBytes()));
+            given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin"))).willReturn(CompletableFuture.completedFuture("skin/image.jpg"));
+            given(aiClient.sendPredictRequest(any(ImageFile.class), any())).willThrow(new RuntimeException("AI server down"));
+
+            assertThatThrownBy(() -> analysisService.performAnalysis(member, new AnalysisPerformReq(imageKey)))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("AI server down");
+
+            verify(s3Client, times(1)).deleteImage(imageKey);
+            verify(s3Client, times(1)).deleteImage("skin/image.jpg");
+        }
+
+        @Test
+        @DisplayName("다른 회원의 업로드 경로에 있는 이미지는 분석할 수 없다.")
+        void forbiddenKey() {
+            assertThatThrownBy(() -> analysisService.performAnalysis(member, new AnalysisPerformReq("skin/upload/2/face.jpg")))
+                    .isInstanceOf(ApplicationException.class);
+
+            verify(s3Client, never()).downloadImage(anyString());
+            verify(aiClient, never()).sendPredictRequest(any(ImageFile.class), any());
+        }
+    }
+
     @Nested
     @DisplayName("getAnalysisDetail()은")
     class GetAnalysisDetailTest {
@@ -163,7 +440,7 @@ class AnalysisServiceTest {
             ReflectionTestUtils.setField(analysis, "analysisId", 20L);
             ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now());
 
-            given(analysisRepository.findById(20L)).willReturn(Optional.of(analysis));
+            given(analysisRepository.findByAnalysisIdAndMember_MemberId(20L, 1L)).willReturn(Optional.of(analysis));
             given(s3Client.getImage("img.jpg")).willReturn("cdn/img.jpg");
 
             AnalysisRes res = analysisService.getAnalysisDetail(member, 20L);
@@ -175,20 +452,8 @@ class AnalysisServiceTest {
         @Test
         @DisplayName("다른 사용자의 결과를 조회 시 예외 발생")
         void unauthorized() {
-            Member another = new Member("other", "other@test.com", MemberType.GOOGLE);
-            ReflectionTestUtils.setField(another, "memberId", 99L);
-
-            Analysis analysis = Analysis.builder()
-                    .member(another)
-                    .acneType(AcneType.PAPULES)
-                    .imageUrl("img")
-                    .isPublic(true)
-                    .videoData(List.of())
-                    .productData(List.of())
-                    .build();
-            ReflectionTestUtils.setField(analysis, "analysisId", 20L);
-
-            given(analysisRepository.findById(20L)).willReturn(Optional.of(analysis));
+            given(analysisRepository.findByAnalysisIdAndMember_MemberId(20L, 1L)).willReturn(Optional.empty());
+            given(analysisRepository.existsById(20L)).willReturn(true);
 
             assertThatThrownBy(() -> analysisService.getAnalysisDetail(member, 20L))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -218,17 +483,22 @@ class AnalysisServiceTest {
             given(analysisRepository.findTop3ByIsPublicTrueOrderByCreatedAtDesc())
                     .willReturn(List.of(a1));
 
-            given(analysisRepository.countByAcneTypeAndIsPublicTrue("COMEDONES")).willReturn(3);
-            given(analysisRepository.countByAcneTypeAndIsPublicTrue("PUSTULES")).willReturn(1);
-            given(analysisRepository.countByAcneTypeAndIsPublicTrue("PAPULES")).willReturn(2);
-            given(analysisRepository.countByAcneTypeAndIsPublicTrue("FOLLICULITIS")).willReturn(1);
+            given(publicAcneStatsService.getCounts()).willReturn(Map.of(
+                    AcneType.NORMAL, 0,
+                    AcneType.COMEDONES, 3,
+                    AcneType.PUSTULES, 1,
+                    AcneType.PAPULES, 2,
+                    AcneType.FOLLICULITIS, 1));
 
             given(s3Client.getImage("img1")).willReturn("cdn/img1");
 
-            MainLogRes res = analysisService.getAnalysisListForMainPage();
+            MainLogRes<AnalysisRes> res = analysisService.getAnalysisListForMainPage();
 
             assertThat(res.comedones()).isEqualTo(3);
+            assertThat(res.papules()).isEqualTo(2);
             assertThat(res.analysisRes()).hasSize(1);
+
+            verify(analysisRepository, never()).countPublicGroupByAcneType();
         }
     }
 
@@ -263,6 +533,35 @@ class AnalysisServiceTest {
             assertThat(res.getContent()).hasSize(1);
         }
 
+        @Test
+        @DisplayName("썸네일이 생성된 분석은 크기별 썸네일 URL을 함께 반환한다.")
+        void thumbnailReady() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Analysis a = Analysis.builder()
+                    .member(member)
+                    .acneType(AcneType.PAPULES)
+                    .imageUrl("skin/image.jpg")
+                    .isPublic(true)
+                    .videoData(List.of())
+                    .productData(List.of())
+                    .build();
+
+            ReflectionTestUtils.setField(a, "analysisId", 1L);
+            ReflectionTestUtils.setField(a, "createdAt", LocalDateTime.now());
+            ReflectionTestUtils.setField(a, "thumbnailReady", true);
+
+            given(analysisRepository.findByIsPublicTrueOrderByCreatedAtDesc(pageable))
+                    .willReturn(new PageImpl<>(List.of(a)));
+            given(s3Client.getImage(anyString())).willAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+            Page<AnalysisRes> res = analysisService.getAnalysisPaginationForLogPage("ALL", pageable);
+
+            assertThat(res.getContent().get(0).imageUrl()).isEqualTo("https://cdn/skin/image.jpg");
+            assertThat(res.getContent().get(0).thumbnail())
+                    .isEqualTo(new ThumbnailDto("https://cdn/skin/image_160.jpg", "https://cdn/skin/image_480.jpg"));
+        }
+
         @Test
         @DisplayName("특정 타입이면 타입별 공개 분석을 조회한다.")
         void successType() {
@@ -368,6 +667,156 @@ class AnalysisServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAnalysisSliceForLogPage()는")
+    class GetSliceForLogPageTest {
+
+        private Analysis analysis(Long analysisId, LocalDateTime createdAt) {
+            Analysis a = Analysis.builder()
+                    .member(member)
+                    .acneType(AcneType.PAPULES)
+                    .imageUrl("img" + analysisId)
+                    .isPublic(true)
+                    .videoData(List.of())
+                    .productData(List.of())
+                    .build();
+            ReflectionTestUtils.setField(a, "analysisId", analysisId);
+            ReflectionTestUtils.setField(a, "createdAt", createdAt);
+            return a;
+        }
+
+        @Test
+        @DisplayName("커서가 비어 있으면 첫 목록을 조회하고, 마지막 항목 위치를 다음 커서로 반환한다.")
+        void firstSlice() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            Analysis a1 = analysis(2L, createdAt);
+            Analysis a2 = analysis(1L, createdAt);
+
+            given(analysisRepository.findPublicBefore(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 2))))
+                    .willReturn(new SliceImpl<>(List.of(a1, a2), PageRequest.of(0, 2), true));
+
+            AnalysisSliceRes<AnalysisRes> res = analysisService.getAnalysisSliceForLogPage("ALL", "", 2);
+
+            assertThat(res.content()).extracting(AnalysisRes::analysisId).containsExactly(2L, 1L);
+            assertThat(res.hasNext()).isTrue();
+            assertThat(AnalysisCursor.decode(res.nextCursor())).isEqualTo(new AnalysisCursor(createdAt, 1L));
+        }
+
+        @Test
+        @DisplayName("커서 위치 이후의 타입별 공개 분석을 조회하고, 마지막 목록이면 다음 커서가 없다.")
+        void nextSlice() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            String cursor = new AnalysisCursor(createdAt, 5L).encode();
+
+            given(analysisRepository.findPublicByAcneTypeBefore("PAPULES", createdAt, 5L, PageRequest.of(0, 4)))
+                    .willReturn(new SliceImpl<>(List.of(analysis(4L, createdAt)), PageRequest.of(0, 4), false));
+
+            AnalysisSliceRes<AnalysisRes> res = analysisService.getAnalysisSliceForLogPage("papules", cursor, 4);
+
+            assertThat(res.content()).hasSize(1);
+            assertThat(res.hasNext()).isFalse();
+            assertThat(res.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 커서는 예외 발생")
+        void invalidCursor() {
+            assertThatThrownBy(() -> analysisService.getAnalysisSliceForLogPage("ALL", "not-a-cursor", 4))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR_EXCEPTION);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAnalysisSliceForMyPage()는")
+    class GetSliceForMyPageTest {
+
+        @Test
+        @DisplayName("내 분석을 커서 위치 이후부터 조회한다.")
+        void success() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            String cursor = new AnalysisCursor(createdAt, 5L).encode();
+
+            given(analysisRepository.findByMemberBefore(member, createdAt, 5L, PageRequest.of(0, 4)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 4), false));
+
+            AnalysisSliceRes<AnalysisRes> res = analysisService.getAnalysisSliceForMyPage(member, "ALL", cursor, 4);
+
+            assertThat(res.content()).isEmpty();
+            assertThat(res.nextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("카드 목록 조회는")
+    class AnalysisCardTest {
+
+        private AnalysisCard card(Long analysisId, LocalDateTime createdAt) {
+            AnalysisCard card = mock(AnalysisCard.class);
+            given(card.getAnalysisId()).willReturn(analysisId);
+            given(card.getImageUrl()).willReturn("skin/" + analysisId + ".jpg");
+            given(card.getThumbnailReady()).willReturn(true);
+            given(card.getAcneType()).willReturn("PAPULES");
+            given(card.getIsPublic()).willReturn(true);
+            given(card.getCreatedAt()).willReturn(createdAt);
+            return card;
+        }
+
+        @Test
+        @DisplayName("메인 페이지 카드는 카드 컬럼만 조회하고 추천 목록 없이 반환한다.")
+        void mainPage() {
+            AnalysisCard card = card(1L, LocalDateTime.now());
+            given(analysisRepository.findTop3ByIsPublicTrueOrderByCreatedAtDesc(AnalysisCard.class)).willReturn(List.of(card));
+            given(publicAcneStatsService.getCounts()).willReturn(Map.of(
+                    AcneType.NORMAL, 0,
+                    AcneType.COMEDONES, 0,
+                    AcneType.PUSTULES, 0,
+                    AcneType.PAPULES, 1,
+                    AcneType.FOLLICULITIS, 0));
+            given(s3Client.getImage(anyString())).willAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+            MainLogRes<AnalysisCardRes> res = analysisService.getAnalysisCardsForMainPage();
+
+            assertThat(res.papules()).isEqualTo(1);
+            assertThat(res.analysisRes()).containsExactly(new AnalysisCardRes(
+                    1L,
+                    "https://cdn/skin/1.jpg",
+                    new ThumbnailDto("https://cdn/skin/1_160.jpg", "https://cdn/skin/1_480.jpg"),
+                    res.analysisRes().get(0).createdAt(),
+                    true,
+                    "PAPULES"));
+            verify(analysisRepository, never()).findTop3ByIsPublicTrueOrderByCreatedAtDesc();
+        }
+
+        @Test
+        @DisplayName("피플즈 로그 카드는 타입별 카드 페이지를 조회한다.")
+        void logPage() {
+            Pageable pageable = PageRequest.of(0, 4);
+            AnalysisCard card = card(1L, LocalDateTime.now());
+            given(analysisRepository.findByIsPublicTrueAndAcneTypeOrderByCreatedAtDesc("PAPULES", pageable, AnalysisCard.class))
+                    .willReturn(new PageImpl<>(List.of(card)));
+
+            Page<AnalysisCardRes> res = analysisService.getAnalysisCardPaginationForLogPage("PAPULES", pageable);
+
+            assertThat(res.getContent()).extracting(AnalysisCardRes::analysisId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("마이페이지 카드 커서 조회는 마지막 카드 위치를 다음 커서로 반환한다.")
+        void myPageSlice() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            AnalysisCard card = card(3L, createdAt);
+            given(analysisRepository.findCardsByMemberBefore(eq(member), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 1))))
+                    .willReturn(new SliceImpl<>(List.of(card), PageRequest.of(0, 1), true));
+
+            AnalysisSliceRes<AnalysisCardRes> res = analysisService.getAnalysisCardSliceForMyPage(member, "ALL", "", 1);
+
+            assertThat(res.hasNext()).isTrue();
+            assertThat(AnalysisCursor.decode(res.nextCursor())).isEqualTo(new AnalysisCursor(createdAt, 3L));
+        }
+    }
+
     @Nested
     @DisplayName("getLogDetail()은")
     class GetLogDetailTest {
@@ -386,7 +835,7 @@ class AnalysisServiceTest {
             ReflectionTestUtils.setField(a, "analysisId", 40L);
             ReflectionTestUtils.setField(a, "createdAt", LocalDateTime.now());
 
-            given(analysisRepository.findById(40L)).willReturn(Optional.of(a));
+            given(analysisRepository.findWithMemberByAnalysisId(40L)).willReturn(Optional.of(a));
             given(s3Client.getImage("img")).willReturn("cdn/img");
 
             AnalysisLogRes res = analysisService.getLogDetail(40L);
@@ -398,7 +847,7 @@ class AnalysisServiceTest {
         @Test
         @DisplayName("존재하지 않는 로그 조회 시 예외 발생")
         void notFound() {
-            given(analysisRepository.findById(123L)).willReturn(Optional.empty());
+            given(analysisRepository.findWithMemberByAnalysisId(123L)).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> analysisService.getLogDetail(123L))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -426,33 +875,22 @@ class AnalysisServiceTest {
             ReflectionTestUtils.setField(a, "analysisId", 10L);
             ReflectionTestUtils.setField(a, "createdAt", LocalDateTime.now());
 
-            given(analysisRepository.findById(10L)).willReturn(Optional.of(a));
+            given(analysisRepository.findByAnalysisIdAndMember_MemberId(10L, 1L)).willReturn(Optional.of(a));
             given(s3Client.getImage("img")).willReturn("cdn/img");
 
             AnalysisRes res = analysisService.updateIsPublic(member, req);
 
             assertThat(res.isPublic()).isFalse();
+            verify(publicAcneStatsService).recordVisibilityChanged(a, true);
         }
 
         @Test
         @DisplayName("다른 사용자가 수정하면 예외 발생")
         void unauthorized() {
-            Member attacker = new Member("attacker", "a@test.com", MemberType.GOOGLE);
-            ReflectionTestUtils.setField(attacker, "memberId", 99L);
-
             AnalysisReq req = new AnalysisReq(10L, true);
 
-            Analysis target = Analysis.builder()
-                    .member(attacker)
-                    .acneType(AcneType.PAPULES)
-                    .imageUrl("img")
-                    .isPublic(false)
-                    .videoData(List.of())
-                    .productData(List.of())
-                    .build();
-            ReflectionTestUtils.setField(target, "analysisId", 10L);
-
-            given(analysisRepository.findById(10L)).willReturn(Optional.of(target));
+            given(analysisRepository.findByAnalysisIdAndMember_MemberId(10L, 1L)).willReturn(Optional.empty());
+            given(analysisRepository.existsById(10L)).willReturn(true);
 
             assertThatThrownBy(() -> analysisService.updateIsPublic(member, req))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -475,7 +913,7 @@ class AnalysisServiceTest {
                     "thumb"
             );
 
-            given(youtubeClient.searchVideos("피부관리", 3))
+            given(recommendationClient.videos("피부관리", 3))
                     .willReturn(List.of(video));
 
             List<YoutubeVideoDto> res = analysisService.getYoutubeVideos();
@@ -502,7 +940,7 @@ class AnalysisServiceTest {
                     "brand"
             );
 
-            given(naverClient.searchProducts("피부관리", 3))
+            given(recommendationClient.products("피부관리", 3))
                     .willReturn(List.of(product));
 
             List<NaverProductDto> res = analysisService.getNaverProducts();
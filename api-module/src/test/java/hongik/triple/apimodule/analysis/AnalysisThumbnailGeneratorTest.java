@@ -0,0 +1,141 @@
+package hongik.triple.apimodule.analysis;
+
+import hongik.triple.apimodule.application.analysis.AnalysisThumbnailGenerator;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImagePreprocessor;
+import hongik.triple.inframodule.image.ImageVariant;
+import hongik.triple.inframodule.s3.S3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisThumbnailGenerator 테스트")
+class AnalysisThumbnailGeneratorTest {
+
+    private static final long ANALYSIS_ID = 10L;
+    private static final String IMAGE_KEY = "skin/image.jpg";
+    private static final long UPLOAD_TIMEOUT_MILLIS = 200;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private AnalysisRepository analysisRepository;
+
+    private final ImagePreprocessor imagePreprocessor = new ImagePreprocessor(true, 512, 1600, 0.85f);
+    private AnalysisThumbnailGenerator analysisThumbnailGenerator;
+
+    @BeforeEach
+    void setup() {
+        analysisThumbnailGenerator = new AnalysisThumbnailGenerator(
+                imagePreprocessor, s3Client, analysisRepository, new SyncTaskExecutor(), UPLOAD_TIMEOUT_MILLIS);
+    }
+
+    private static ImageFile jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg);
+        return ImageFile.of("image.jpg", "image/jpeg", jpeg.toByteArray());
+    }
+
+    @Nested
+    @DisplayName("generateAsync()는")
+    class GenerateAsyncTest {
+
+        @Test
+        @DisplayName("크기별 썸네일을 원본 key 기준으로 업로드한 뒤 thumbnail_ready 를 표시한다.")
+        void success() throws IOException {
+            given(s3Client.uploadThumbnailAsync(any(ImageFile.class), any(ImageVariant.class), eq(IMAGE_KEY)))
+                    .willAnswer(invocation -> CompletableFuture.completedFuture(
+                            ((ImageVariant) invocation.getArgument(1)).keyOf(IMAGE_KEY)));
+
+            analysisThumbnailGenerator.generateAsync(ANALYSIS_ID, IMAGE_KEY, jpeg(1600, 800));
+
+            ArgumentCaptor<ImageFile> thumbnails = ArgumentCaptor.forClass(ImageFile.class);
+            ArgumentCaptor<ImageVariant> variants = ArgumentCaptor.forClass(ImageVariant.class);
+            verify(s3Client, times(2)).uploadThumbnailAsync(thumbnails.capture(), variants.capture(), eq(IMAGE_KEY));
+            assertThat(variants.getAllValues()).containsExactlyInAnyOrder(ImageVariant.values());
+            for (int i = 0; i < thumbnails.getAllValues().size(); i++) {
+                BufferedImage thumbnail = ImageIO.read(thumbnails.getAllValues().get(i).getInputStream());
+                assertThat(thumbnail.getWidth()).isEqualTo(variants.getAllValues().get(i).getSize());
+                assertThat(thumbnail.getHeight()).isEqualTo(variants.getAllValues().get(i).getSize() / 2);
+            }
+            verify(analysisRepository).markThumbnailReady(ANALYSIS_ID);
+        }
+
+        @Test
+        @DisplayName("업로드가 하나라도 실패하면 thumbnail_ready 를 표시하지 않는다.")
+        void uploadFailure() throws IOException {
+            given(s3Client.uploadThumbnailAsync(any(ImageFile.class), any(ImageVariant.class), eq(IMAGE_KEY)))
+                    .willReturn(CompletableFuture.completedFuture("ok"))
+                    .willReturn(CompletableFuture.failedFuture(new IllegalStateException("S3 upload failed")));
+
+            assertThatCode(() -> analysisThumbnailGenerator.generateAsync(ANALYSIS_ID, IMAGE_KEY, jpeg(1600, 800)))
+                    .doesNotThrowAnyException();
+
+            verify(analysisRepository, never()).markThumbnailReady(anyLong());
+        }
+
+        @Test
+        @DisplayName("업로드가 제한 시간 안에 끝나지 않으면 기다리지 않고 thumbnail_ready 를 표시하지 않는다.")
+        void uploadTimeout() throws IOException {
+            given(s3Client.uploadThumbnailAsync(any(ImageFile.class), any(ImageVariant.class), eq(IMAGE_KEY)))
+                    .willReturn(new CompletableFuture<>());
+
+            long start = System.nanoTime();
+            analysisThumbnailGenerator.generateAsync(ANALYSIS_ID, IMAGE_KEY, jpeg(1600, 800));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(elapsedMillis).isGreaterThanOrEqualTo(UPLOAD_TIMEOUT_MILLIS).isLessThan(5_000);
+            verify(analysisRepository, never()).markThumbnailReady(anyLong());
+        }
+
+        @Test
+        @DisplayName("썸네일을 만들 수 없는 이미지는 업로드하지 않는다.")
+        void unsupportedImage() {
+            analysisThumbnailGenerator.generateAsync(
+                    ANALYSIS_ID, IMAGE_KEY, ImageFile.of("image.jpg", "image/jpeg", "not an image".getBytes()));
+
+            verify(s3Client, never()).uploadThumbnailAsync(any(), any(), any());
+            verify(analysisRepository, never()).markThumbnailReady(anyLong());
+        }
+
+        @Test
+        @DisplayName("작업 큐가 가득 차면 썸네일 생성을 생략한다.")
+        void rejected() throws IOException {
+            AnalysisThumbnailGenerator generator = new AnalysisThumbnailGenerator(
+                    imagePreprocessor, s3Client, analysisRepository, task -> {
+                        throw new TaskRejectedException("queue full");
+                    }, UPLOAD_TIMEOUT_MILLIS);
+
+            assertThatCode(() -> generator.generateAsync(ANALYSIS_ID, IMAGE_KEY, jpeg(1600, 800)))
+                    .doesNotThrowAnyException();
+
+            verify(s3Client, never()).uploadThumbnailAsync(any(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package hongik.triple.apimodule.analysis;
+
+import hongik.triple.apimodule.application.analysis.AnalysisPersister;
+import hongik.triple.apimodule.application.analysis.AnalysisService;
+import hongik.triple.apimodule.application.analysis.AnalysisThumbnailGenerator;
+import hongik.triple.apimodule.application.analysis.PublicAcneStatsService;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotCache;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotService;
+import hongik.triple.commonmodule.dto.analysis.AnalysisData;
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.analysis.repository.RecommendationSnapshotRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import hongik.triple.inframodule.ai.AIClient;
+import hongik.triple.inframodule.ai.InferenceBulkhead;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImageIngestor;
+import hongik.triple.inframodule.image.ImagePreprocessor;
+import hongik.triple.inframodule.recommendation.Recommendation;
+import hongik.triple.inframodule.recommendation.RecommendationClient;
+import hongik.triple.inframodule.s3.S3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(AnalysisTransactionTest.Config.class)
+@DisplayName("AnalysisService 트랜잭션 범위 테스트")
+class AnalysisTransactionTest {
+
+    private static final long EXTERNAL_LATENCY_MILLIS = 300;
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({AnalysisService.class, AnalysisPersister.class})
+    static class Config {
+
+        @Bean
+        RecordingTransactionManager transactionManager() {
+            return new RecordingTransactionManager();
+        }
+
+        @Bean
+        ImagePreprocessor imagePreprocessor() {
+            return new ImagePreprocessor(true, 512, 1600, 0.85f);
+        }
+
+        @Bean
+        ImageIngestor imageIngestor() {
+            return new ImageIngestor(new SimpleMeterRegistry(), 4096, 4, System.getProperty("java.io.tmpdir"));
+        }
+
+        @Bean
+        RecommendationSnapshotCache recommendationSnapshotCache() {
+            return new RecommendationSnapshotCache(mock(RecommendationSnapshotRepository.class), 100);
+        }
+
+        @Bean
+        InferenceBulkhead inferenceBulkhead() {
+            return new InferenceBulkhead(new SimpleMeterRegistry(), 8, 32, 10000, 2, 5);
+        }
+    }
+
+    @MockitoBean
+    private AIClient aiClient;
+
+    @MockitoBean
+    private RecommendationClient recommendationClient;
+
+    @MockitoBean
+    private AnalysisRepository analysisRepository;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private AnalysisThumbnailGenerator analysisThumbnailGenerator;
+
+    @MockitoBean
+    private PublicAcneStatsService publicAcneStatsService;
+
+    @MockitoBean
+    private RecommendationSnapshotService recommendationSnapshotService;
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+
+    private Member member;
+
+    // 외부 호출 시점에 트랜잭션이 열려 있었는지 기록
+    private final List<Boolean> transactionActiveDuringExternalCall = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        member = new Member("user", "email@test.com", MemberType.KAKAO);
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+        transactionManager.clear();
+        transactionActiveDuringExternalCall.clear();
+
+        AnalysisData analysisData = mock(AnalysisData.class);
+        given(analysisData.labelToSkinType()).willReturn(AcneType.PAPULES);
+
+        given(s3Client.uploadImageAsync(any(ImageFile.class), eq("skin")))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(slowExternalCall("s3/image.jpg")));
+        given(aiClient.sendPredictRequest(any(ImageFile.class), any()))
+                .willAnswer(invocation -> slowExternalCall(analysisData));
+        given(recommendationClient.recommend(anyString(), anyInt()))
+                .willAnswer(invocation -> slowExternalCall(new Recommendation(List.of(), List.of())));
+    }
+
+    private <T> T slowExternalCall(T result) throws InterruptedException {
+        transactionActiveDuringExternalCall.add(TransactionSynchronizationManager.isActualTransactionActive());
+        TimeUnit.MILLISECONDS.sleep(EXTERNAL_LATENCY_MILLIS);
+        return result;
+    }
+
+    private MockMultipartFile mockFile() {
+        return new MockMultipartFile("file", "test.jpg", "image/jpeg", "dummy".getBytes());
+    }
+
+    @Test
+    @DisplayName("외부 API 지연과 무관하게 트랜잭션은 저장 단계에서만 짧게 유지된다.")
+    void transactionHoldTimeIsIndependentOfExternalLatency() {
+        given(analysisRepository.save(any())).willAnswer(invocation -> {
+            Analysis analysis = invocation.getArgument(0);
+            ReflectionTestUtils.setField(analysis, "analysisId", 1L);
+            ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now());
+            return analysis;
+        });
+
+        analysisService.performAnalysis(member, mockFile());
+
+        assertThat(transactionActiveDuringExternalCall).hasSize(3).containsOnly(false);
+        assertThat(transactionManager.committed).isEqualTo(1);
+        assertThat(transactionManager.maxHoldMillis()).isLessThan(EXTERNAL_LATENCY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 트랜잭션을 롤백하고 업로드된 S3 이미지를 삭제한다.")
+    void compensateUploadOnPersistFailure() {
+        given(analysisRepository.save(any())).willThrow(new IllegalStateException("DB down"));
+
+        assertThatThrownBy(() -> analysisService.performAnalysis(member, mockFile()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("DB down");
+
+        assertThat(transactionManager.rolledBack).isEqualTo(1);
+        verify(s3Client, times(1)).deleteImage("s3/image.jpg");
+    }
+
+    /*
+    트랜잭션 시작 ~ 종료 시간 (= 커넥션 점유 시간) 을 기록하는 트랜잭션 매니저
+     */
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<Long> holdNanos = new CopyOnWriteArrayList<>();
+        private int committed;
+        private int rolledBack;
+
+        void clear() {
+            holdNanos.clear();
+            committed = 0;
+            rolledBack = 0;
+        }
+
+        long maxHoldMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(holdNanos.stream().mapToLong(Long::longValue).max().orElse(0));
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new long[1];
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((long[]) transaction)[0] = System.nanoTime();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed++;
+            record(status);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack++;
+            record(status);
+        }
+
+        private void record(DefaultTransactionStatus status) {
+            holdNanos.add(System.nanoTime() - ((long[]) status.getTransaction())[0]);
+        }
+    }
+}
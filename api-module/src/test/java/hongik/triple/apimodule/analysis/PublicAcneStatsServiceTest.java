@@ -0,0 +1,153 @@
+package hongik.triple.apimodule.analysis;
+
+import hongik.triple.apimodule.application.analysis.PublicAcneStatsService;
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.PublicAcneStats;
+import hongik.triple.domainmodule.domain.analysis.repository.AcneTypeCount;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.analysis.repository.PublicAcneStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicAcneStatsService 테스트")
+class PublicAcneStatsServiceTest {
+
+    @Mock
+    private PublicAcneStatsRepository publicAcneStatsRepository;
+
+    @Mock
+    private AnalysisRepository analysisRepository;
+
+    @InjectMocks
+    private PublicAcneStatsService publicAcneStatsService;
+
+    private Analysis analysis(boolean isPublic) {
+        return Analysis.builder()
+                .acneType(AcneType.PAPULES)
+                .imageUrl("img")
+                .isPublic(isPublic)
+                .videoData(List.of())
+                .productData(List.of())
+                .build();
+    }
+
+    private AcneTypeCount count(AcneType acneType, long count) {
+        return new AcneTypeCount() {
+            @Override
+            public String getAcneType() {
+                return acneType.name();
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("getCounts()는")
+    class GetCountsTest {
+
+        @Test
+        @DisplayName("카운터 테이블에서 유형별 개수를 조회하고, 카운터가 없는 유형은 0으로 채운다.")
+        void success() {
+            given(publicAcneStatsRepository.findAll()).willReturn(List.of(
+                    new PublicAcneStats(AcneType.COMEDONES, 3),
+                    new PublicAcneStats(AcneType.PAPULES, 2)));
+
+            Map<AcneType, Integer> counts = publicAcneStatsService.getCounts();
+
+            assertThat(counts)
+                    .containsEntry(AcneType.COMEDONES, 3)
+                    .containsEntry(AcneType.PAPULES, 2)
+                    .containsEntry(AcneType.PUSTULES, 0)
+                    .containsEntry(AcneType.FOLLICULITIS, 0);
+            verifyNoInteractions(analysisRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("카운터 증감은")
+    class RecordTest {
+
+        @Test
+        @DisplayName("공개 분석이 생성되면 해당 유형을 1 증가시킨다.")
+        void createdPublic() {
+            given(publicAcneStatsRepository.increment("PAPULES", 1)).willReturn(1);
+
+            publicAcneStatsService.recordCreated(analysis(true));
+
+            verify(publicAcneStatsRepository).increment("PAPULES", 1);
+        }
+
+        @Test
+        @DisplayName("비공개 분석은 집계하지 않는다.")
+        void createdPrivate() {
+            publicAcneStatsService.recordCreated(analysis(false));
+
+            verify(publicAcneStatsRepository, never()).increment(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("공개에서 비공개로 바뀌면 1 감소시키고, 변경이 없으면 그대로 둔다.")
+        void visibilityChanged() {
+            given(publicAcneStatsRepository.increment("PAPULES", -1)).willReturn(1);
+
+            publicAcneStatsService.recordVisibilityChanged(analysis(false), true);
+            publicAcneStatsService.recordVisibilityChanged(analysis(false), false);
+
+            verify(publicAcneStatsRepository, times(1)).increment("PAPULES", -1);
+            verify(publicAcneStatsRepository, never()).increment("PAPULES", 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile()은")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("없는 카운터를 생성하고 행을 잠근 뒤, GROUP BY 집계 결과로 어긋난 카운터를 보정한다.")
+        void success() {
+            PublicAcneStats papules = new PublicAcneStats(AcneType.PAPULES, 5);
+            PublicAcneStats comedones = new PublicAcneStats(AcneType.COMEDONES, 1);
+            PublicAcneStats pustules = new PublicAcneStats(AcneType.PUSTULES, 2);
+
+            given(publicAcneStatsRepository.findAllForUpdate()).willReturn(List.of(comedones, papules, pustules));
+            given(analysisRepository.countPublicGroupByAcneType())
+                    .willReturn(List.of(count(AcneType.PAPULES, 7), count(AcneType.COMEDONES, 1)));
+
+            publicAcneStatsService.reconcile();
+
+            assertThat(papules.getCount()).isEqualTo(7L);
+            assertThat(comedones.getCount()).isEqualTo(1L);
+            assertThat(pustules.getCount()).isZero();
+
+            for (AcneType acneType : AcneType.values()) {
+                verify(publicAcneStatsRepository).insertIfAbsent(acneType.name());
+            }
+            verify(publicAcneStatsRepository, never()).save(any());
+
+            // 카운터 행을 잠근 뒤에 집계
+            InOrder inOrder = inOrder(publicAcneStatsRepository, analysisRepository);
+            inOrder.verify(publicAcneStatsRepository).findAllForUpdate();
+            inOrder.verify(analysisRepository).countPublicGroupByAcneType();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package hongik.triple.apimodule.analysis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotCache;
+import hongik.triple.apimodule.application.analysis.RecommendationSnapshotService;
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.RecommendationSnapshot;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.analysis.repository.RecommendationSnapshotRepository;
+import hongik.triple.inframodule.recommendation.Recommendation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationSnapshotService 테스트")
+class RecommendationSnapshotServiceTest {
+
+    @Mock
+    private RecommendationSnapshotRepository recommendationSnapshotRepository;
+
+    @Mock
+    private AnalysisRepository analysisRepository;
+
+    private RecommendationSnapshotCache recommendationSnapshotCache;
+    private RecommendationSnapshotService recommendationSnapshotService;
+
+    private final YoutubeVideoDto video = new YoutubeVideoDto("id1", "title1", "url1", "channel1", "thumb1");
+    private final NaverProductDto product = new NaverProductDto("p1", "상품1", "url", 1000, "img", "category", "mall", "brand");
+
+    @BeforeEach
+    void setup() {
+        recommendationSnapshotCache = new RecommendationSnapshotCache(recommendationSnapshotRepository, 100);
+        recommendationSnapshotService = new RecommendationSnapshotService(
+                recommendationSnapshotRepository, analysisRepository, recommendationSnapshotCache, new ObjectMapper());
+    }
+
+    private Analysis analysis(List<YoutubeVideoDto> videoData, List<NaverProductDto> productData) {
+        return Analysis.builder()
+                .acneType(AcneType.PAPULES)
+                .imageUrl("img")
+                .isPublic(true)
+                .videoData(videoData)
+                .productData(productData)
+                .build();
+    }
+
+    private Analysis linked(Long analysisId, Long snapshotId) {
+        Analysis analysis = analysis(null, null);
+        ReflectionTestUtils.setField(analysis, "analysisId", analysisId);
+        ReflectionTestUtils.setField(analysis, "snapshotId", snapshotId);
+        return analysis;
+    }
+
+    private RecommendationSnapshot snapshot(List<YoutubeVideoDto> videoData, List<NaverProductDto> productData) {
+        RecommendationSnapshot snapshot = mock(RecommendationSnapshot.class);
+        given(snapshot.getVideoData()).willReturn(videoData);
+        given(snapshot.getProductData()).willReturn(productData);
+        return snapshot;
+    }
+
+    @Nested
+    @DisplayName("link()는")
+    class LinkTest {
+
+        @Test
+        @DisplayName("같은 내용의 스냅샷이 있으면 새로 저장하지 않고 재사용하며, 분석의 JSON 복사본을 비운다.")
+        void reuseSnapshot() {
+            given(recommendationSnapshotRepository.findIdByContentHash(anyString())).willReturn(Optional.of(7L));
+            Analysis first = analysis(List.of(video), List.of(product));
+            Analysis second = analysis(List.of(video), List.of(product));
+
+            recommendationSnapshotService.link(first);
+            recommendationSnapshotService.link(second);
+
+            assertThat(first.getSnapshotId()).isEqualTo(7L);
+            assertThat(second.getSnapshotId()).isEqualTo(7L);
+            assertThat(first.getVideoData()).isNull();
+            assertThat(first.getProductData()).isNull();
+            verify(recommendationSnapshotRepository, never()).insertIfAbsent(anyString(), anyString(), anyString());
+
+            ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+            verify(recommendationSnapshotRepository, times(2)).findIdByContentHash(hashes.capture());
+            assertThat(hashes.getAllValues().get(0)).hasSize(64).isEqualTo(hashes.getAllValues().get(1));
+        }
+
+        @Test
+        @DisplayName("처음 보는 내용이면 스냅샷을 저장하고, 내용이 다르면 다른 해시를 사용한다.")
+        void insertSnapshot() {
+            given(recommendationSnapshotRepository.findIdByContentHash(anyString()))
+                    .willReturn(Optional.empty())
+                    .willReturn(Optional.of(8L))
+                    .willReturn(Optional.empty())
+                    .willReturn(Optional.of(9L));
+
+            recommendationSnapshotService.link(analysis(List.of(video), List.of(product)));
+            recommendationSnapshotService.link(analysis(List.of(video), List.of()));
+
+            ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> videoJson = ArgumentCaptor.forClass(String.class);
+            verify(recommendationSnapshotRepository, times(2)).insertIfAbsent(hashes.capture(), videoJson.capture(), anyString());
+            assertThat(hashes.getAllValues().get(0)).isNotEqualTo(hashes.getAllValues().get(1));
+            assertThat(videoJson.getAllValues().get(0)).contains("\"videoId\":\"id1\"");
+        }
+
+        @Test
+        @DisplayName("연결한 스냅샷은 조회 캐시에 등록되어 DB 조회 없이 응답에 사용된다.")
+        void cacheLinkedSnapshot() {
+            given(recommendationSnapshotRepository.findIdByContentHash(anyString())).willReturn(Optional.of(7L));
+            Analysis analysis = analysis(List.of(video), List.of(product));
+
+            recommendationSnapshotService.link(analysis);
+            Recommendation recommendation = recommendationSnapshotCache.recommendationOf(analysis);
+
+            assertThat(recommendation.videoList()).containsExactly(video);
+            assertThat(recommendation.productList()).containsExactly(product);
+            verify(recommendationSnapshotRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 연결한 스냅샷은 커밋된 뒤에 조회 캐시에 등록한다.")
+        void cacheAfterCommit() {
+            given(recommendationSnapshotRepository.findIdByContentHash(anyString())).willReturn(Optional.of(7L));
+            Analysis analysis = analysis(List.of(video), List.of(product));
+            ReflectionTestUtils.setField(analysis, "analysisId", 1L);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                recommendationSnapshotService.link(analysis);
+                // 커밋 전에는 캐시에 없으므로 DB 조회 (조회되지 않으면 빈 추천 결과)
+                assertThat(recommendationSnapshotCache.recommendationsOf(List.of(analysis)).get(1L).videoList()).isEmpty();
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(recommendationSnapshotCache.recommendationOf(analysis).videoList()).containsExactly(video);
+            verify(recommendationSnapshotRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("backfill()은")
+    class BackfillTest {
+
+        @Test
+        @DisplayName("스냅샷이 없는 분석을 배치 크기만큼 선점하여 스냅샷으로 이전한다.")
+        void success() {
+            Analysis legacy = analysis(List.of(video), List.of(product));
+            given(analysisRepository.claimSnapshotBackfill(100)).willReturn(List.of(legacy));
+            given(recommendationSnapshotRepository.findIdByContentHash(anyString())).willReturn(Optional.of(7L));
+
+            int migrated = recommendationSnapshotService.backfill(100);
+
+            assertThat(migrated).isEqualTo(1);
+            assertThat(legacy.getSnapshotId()).isEqualTo(7L);
+            assertThat(legacy.getVideoData()).isNull();
+            verify(analysisRepository).claimSnapshotBackfill(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("RecommendationSnapshotCache는")
+    class CacheTest {
+
+        @Test
+        @DisplayName("같은 스냅샷을 참조하는 분석은 한 번만 조회한다.")
+        void loadOnce() {
+            RecommendationSnapshot snapshot = snapshot(List.of(video), List.of(product));
+            given(recommendationSnapshotRepository.findById(7L)).willReturn(Optional.of(snapshot));
+
+            Analysis first = analysis(null, null);
+            Analysis second = analysis(null, null);
+            ReflectionTestUtils.setField(first, "snapshotId", 7L);
+            ReflectionTestUtils.setField(second, "snapshotId", 7L);
+
+            Recommendation firstRecommendation = recommendationSnapshotCache.recommendationOf(first);
+            Recommendation secondRecommendation = recommendationSnapshotCache.recommendationOf(second);
+
+            assertThat(firstRecommendation.videoList()).containsExactly(video);
+            assertThat(secondRecommendation).isSameAs(firstRecommendation);
+            verify(recommendationSnapshotRepository, times(1)).findById(7L);
+        }
+
+        @Test
+        @DisplayName("목록의 스냅샷은 캐시에 없는 것만 모아 한 번에 조회하고, 없는 스냅샷은 빈 추천 결과로 응답한다.")
+        void loadPageAtOnce() {
+            RecommendationSnapshot seven = snapshot(List.of(video), List.of());
+            RecommendationSnapshot eight = snapshot(List.of(), List.of(product));
+            given(seven.getSnapshotId()).willReturn(7L);
+            given(eight.getSnapshotId()).willReturn(8L);
+            given(recommendationSnapshotRepository.findAllById(Set.of(7L, 8L, 9L))).willReturn(List.of(seven, eight));
+
+            List<Analysis> page = List.of(linked(1L, 7L), linked(2L, 7L), linked(3L, 8L), linked(4L, 9L));
+            Map<Long, Recommendation> recommendations = recommendationSnapshotCache.recommendationsOf(page);
+
+            assertThat(recommendations.get(1L).videoList()).containsExactly(video);
+            assertThat(recommendations.get(2L)).isSameAs(recommendations.get(1L));
+            assertThat(recommendations.get(3L).productList()).containsExactly(product);
+            assertThat(recommendations.get(4L).videoList()).isEmpty();
+
+            // 캐시된 스냅샷은 다시 조회하지 않음
+            given(recommendationSnapshotRepository.findAllById(Set.of(9L))).willReturn(List.of());
+            recommendationSnapshotCache.recommendationsOf(page);
+            verify(recommendationSnapshotRepository).findAllById(Set.of(9L));
+            verify(recommendationSnapshotRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("스냅샷이 연결되지 않은 분석은 행에 저장된 추천 결과를 사용한다.")
+        void legacyRow() {
+            Recommendation recommendation = recommendationSnapshotCache.recommendationOf(analysis(List.of(video), List.of()));
+
+            assertThat(recommendation.videoList()).containsExactly(video);
+            assertThat(recommendation.productList()).isEmpty();
+            verifyNoInteractions(recommendationSnapshotRepository);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package hongik.triple.apimodule.global;
+
+import hongik.triple.apimodule.global.common.ErrorResponse;
+import hongik.triple.apimodule.global.exception.GlobalExceptionHandler;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.commonmodule.exception.RetryableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalExceptionHandler 테스트")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+
+    @Nested
+    @DisplayName("추론 bulkhead 거절은")
+    class RetryableExceptionTest {
+
+        @Test
+        @DisplayName("회원당 한도 초과를 429 와 Retry-After 헤더로 응답한다.")
+        void tooManyRequests() {
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.retryableException(
+                    new RetryableException(ErrorCode.TOO_MANY_ANALYSIS_REQUESTS, 5));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+            assertThat(response.getBody().code()).isEqualTo(ErrorCode.TOO_MANY_ANALYSIS_REQUESTS.getCode());
+        }
+
+        @Test
+        @DisplayName("대기열 초과 / 대기 시간 초과를 503 과 Retry-After 헤더로 응답한다.")
+        void serviceUnavailable() {
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.retryableException(
+                    new RetryableException(ErrorCode.AI_SERVER_BUSY, 5));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+            assertThat(response.getBody().code()).isEqualTo(ErrorCode.AI_SERVER_BUSY.getCode());
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package hongik.triple.apimodule.member;
 
 import hongik.triple.apimodule.application.member.MemberService;
+import hongik.triple.apimodule.global.security.PrincipalCache;
 import hongik.triple.apimodule.global.security.jwt.TokenProvider;
 import hongik.triple.apimodule.global.security.jwt.TokenDto;
 import hongik.triple.commonmodule.dto.member.MemberReq;
 import hongik.triple.commonmodule.dto.member.MemberRes;
 import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
 import hongik.triple.domainmodule.domain.member.Member;
 import hongik.triple.domainmodule.domain.member.repository.MemberRepository;
 import hongik.triple.inframodule.oauth.google.GoogleClient;
@@ -47,6 +50,9 @@ public class MemberServiceTest {
     @Mock
     private TokenProvider tokenProvider;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -359,19 +365,38 @@ public class MemberServiceTest {
         @DisplayName("회원 정보를 정상적으로 수정한다.")
         void success() {
             // given
-            Member member = new Member("oldName", "email@test.com", MemberType.KAKAO);
+            Member authenticated = Member.of(1L, "oldName", "email@test.com", MemberType.KAKAO, null);
+            Member managed = Member.of(1L, "oldName", "email@test.com", MemberType.KAKAO, null);
             MemberReq req = new MemberReq("newName", "OILY");
 
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(member);
+            given(memberRepository.findById(1L))
+                    .willReturn(Optional.of(managed));
 
             // when
-            MemberRes result = memberService.updateProfile(member, req);
+            MemberRes result = memberService.updateProfile(authenticated, req);
 
             // then
             assertThat(result.name()).isEqualTo("newName");
             assertThat(result.skinType()).isEqualTo("OILY");
-            verify(memberRepository, times(1)).save(member);
+            assertThat(managed.getName()).isEqualTo("newName");
+            assertThat(authenticated.getName()).isEqualTo("oldName"); // 인증 정보의 회원은 수정하지 않음
+            verify(principalCache, times(1)).evictAfterCompletion(managed);
+        }
+
+        @Test
+        @DisplayName("회원이 없으면 예외를 던진다.")
+        void notFound() {
+            // given
+            Member authenticated = Member.of(1L, "oldName", "email@test.com", MemberType.KAKAO, null);
+            given(memberRepository.findById(1L))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> memberService.updateProfile(authenticated, new MemberReq("newName", "OILY")))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOT_FOUND_EXCEPTION);
+            verify(principalCache, times(0)).evictAfterCompletion(any());
         }
     }
 
@@ -383,13 +408,17 @@ public class MemberServiceTest {
         @DisplayName("회원 탈퇴를 정상적으로 수행한다.")
         void success() {
             // given
-            Member member = new Member("nickname", "email@test.com", MemberType.GOOGLE);
+            Member authenticated = Member.of(1L, "nickname", "email@test.com", MemberType.GOOGLE, null);
+            Member managed = Member.of(1L, "nickname", "email@test.com", MemberType.GOOGLE, null);
+            given(memberRepository.findById(1L))
+                    .willReturn(Optional.of(managed));
 
             // when
-            memberService.withdrawal(member);
+            memberService.withdrawal(authenticated);
 
             // then
-            verify(memberRepository, times(1)).delete(member);
+            verify(memberRepository, times(1)).delete(managed);
+            verify(principalCache, times(1)).evictAfterCompletion(managed);
         }
     }
 }
\ No newline at end of file
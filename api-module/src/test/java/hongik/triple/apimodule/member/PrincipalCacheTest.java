@@ -0,0 +1,173 @@
+package hongik.triple.apimodule.member;
+
+import hongik.triple.apimodule.global.security.MemberPrincipal;
+import hongik.triple.apimodule.global.security.PrincipalCache;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.datasource.ReadAfterWriteGuard;
+import hongik.triple.domainmodule.domain.member.Member;
+import hongik.triple.domainmodule.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PrincipalCache 테스트")
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "email@test.com";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ReadAfterWriteGuard readAfterWriteGuard;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(memberRepository, readAfterWriteGuard, meterRegistry, 30, 100);
+        member = Member.of(1L, "user", EMAIL, MemberType.KAKAO, "OILY");
+        given(readAfterWriteGuard.readFromPrimary(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "member-principal").tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Nested
+    @DisplayName("find()는")
+    class FindTest {
+
+        @Test
+        @DisplayName("같은 회원은 primary 에서 한 번만 조회하고, 적중 / 미스 횟수를 기록한다.")
+        void cacheHit() {
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO))
+                    .willReturn(Optional.of(member));
+
+            MemberPrincipal expected = new MemberPrincipal(1L, EMAIL, MemberType.KAKAO, "OILY", "user");
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).contains(expected);
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).contains(expected);
+
+            verify(readAfterWriteGuard, times(1)).readFromPrimary(any());
+            verify(memberRepository, times(1)).findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO);
+            assertThat(cacheGets("hit")).isEqualTo(1);
+            assertThat(cacheGets("miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("회원 엔티티가 아닌 스냅샷을 캐시하므로, 조회한 엔티티를 수정해도 캐시된 값은 바뀌지 않는다.")
+        void snapshot() {
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO))
+                    .willReturn(Optional.of(member));
+            principalCache.find(EMAIL, MemberType.KAKAO);
+
+            member.updateName("changed");
+
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).get()
+                    .extracting(MemberPrincipal::name)
+                    .isEqualTo("user");
+        }
+
+        @Test
+        @DisplayName("조회 도중 무효화되면 조회 결과를 캐시하지 않는다.")
+        void evictedWhileLoading() {
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO))
+                    .willAnswer(invocation -> {
+                        principalCache.evictAfterCompletion(member); // 커밋 전 값을 읽은 뒤 다른 요청의 트랜잭션이 끝남
+                        return Optional.of(member);
+                    })
+                    .willReturn(Optional.of(member));
+
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).isPresent();
+            principalCache.find(EMAIL, MemberType.KAKAO);
+            principalCache.find(EMAIL, MemberType.KAKAO);
+
+            verify(memberRepository, times(2)).findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO);
+        }
+
+        @Test
+        @DisplayName("회원 유형이 다르면 다른 회원으로 조회한다.")
+        void keyedByMemberType() {
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO))
+                    .willReturn(Optional.of(member));
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.GOOGLE))
+                    .willReturn(Optional.empty());
+
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).isPresent();
+            assertThat(principalCache.find(EMAIL, MemberType.GOOGLE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("없는 회원은 캐시하지 않는다.")
+        void missingMemberNotCached() {
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO))
+                    .willReturn(Optional.empty());
+
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).isEmpty();
+            assertThat(principalCache.find(EMAIL, MemberType.KAKAO)).isEmpty();
+
+            verify(memberRepository, times(2)).findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO);
+        }
+    }
+
+    @Nested
+    @DisplayName("evictAfterCompletion()은")
+    class EvictAfterCompletionTest {
+
+        @BeforeEach
+        void setup() {
+            given(memberRepository.findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO))
+                    .willReturn(Optional.of(member));
+            principalCache.find(EMAIL, MemberType.KAKAO);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 즉시 무효화한다.")
+        void withoutTransaction() {
+            principalCache.evictAfterCompletion(member);
+            principalCache.find(EMAIL, MemberType.KAKAO);
+
+            verify(memberRepository, times(2)).findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 트랜잭션이 끝난 뒤 무효화한다.")
+        void afterCompletion() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                principalCache.evictAfterCompletion(member);
+                principalCache.find(EMAIL, MemberType.KAKAO);
+                verify(memberRepository, times(1)).findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            principalCache.find(EMAIL, MemberType.KAKAO);
+            verify(memberRepository, times(2)).findMemberByEmailAndMemberTypeAndDeletedAtIsNull(EMAIL, MemberType.KAKAO);
+        }
+    }
+}
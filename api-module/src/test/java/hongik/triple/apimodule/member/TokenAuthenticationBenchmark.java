@@ -0,0 +1,91 @@
+package hongik.triple.apimodule.member;
+
+import hongik.triple.apimodule.global.security.PrincipalCache;
+import hongik.triple.apimodule.global.security.jwt.TokenProvider;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.domain.member.Member;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요청당 토큰 인증 비용 측정 (./gradlew :api-module:benchmark 로 실행, 기본 test 태스크에서 제외)
+ * - 변경 전: validateToken / getEmail / getMemberType 이 각각 파서를 만들고 서명을 검증 (요청당 3회)
+ * - 변경 후 (캐시 미스): 공유 파서로 1회 검증
+ * - 변경 후 (캐시 적중): 토큰 다이제스트로 검증 결과 조회
+ * - 회원 조회 (PrincipalCache) 는 측정에서 제외
+ */
+@Tag("benchmark")
+@DisplayName("토큰 인증 비용 측정")
+class TokenAuthenticationBenchmark {
+
+    private static final String SECRET = "YWNuZWxvZy10b2tlbi1wcm92aWRlci10ZXN0LXNlY3JldC1rZXktMzJieXRlcw==";
+    private static final int TOKENS = 1_000;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    private TokenProvider tokenProvider;
+    private String[] tokens;
+
+    @BeforeEach
+    void setup() {
+        tokenProvider = new TokenProvider(mock(PrincipalCache.class));
+        ReflectionTestUtils.setField(tokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+
+        tokens = IntStream.range(0, TOKENS)
+                .mapToObj(i -> tokenProvider.createToken(new Member("user" + i, "user" + i + "@test.com", MemberType.KAKAO)).accessToken())
+                .toArray(String[]::new);
+    }
+
+    @Test
+    @DisplayName("요청당 토큰 검증 시간 (ns/op) 을 비교한다.")
+    void nanosPerRequest() {
+        System.out.printf("parse x3 (before): %,d ns/op%n", measure(this::parseThreeTimes));
+        System.out.printf("parse x1 (miss)  : %,d ns/op%n", measure(this::parseOnceUncached));
+        System.out.printf("cached (hit)     : %,d ns/op%n", measure(tokenProvider::verify));
+    }
+
+    // 기존 validateToken + getEmail + getMemberType
+    private void parseThreeTimes(String token) {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getExpiration();
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().get("memberType", String.class);
+    }
+
+    // 캐시 미스 시 경로 (매번 새 TokenProvider 캐시를 쓰지 않도록 private parse 를 직접 호출)
+    private void parseOnceUncached(String token) {
+        ReflectionTestUtils.invokeMethod(tokenProvider, "parse", token);
+    }
+
+    private long measure(Consumer<String> authentication) {
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            run(authentication);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            run(authentication);
+        }
+        return (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * TOKENS);
+    }
+
+    private void run(Consumer<String> authentication) {
+        for (String token : tokens) {
+            authentication.accept(token);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package hongik.triple.apimodule.member;
+
+import hongik.triple.apimodule.global.security.PrincipalCache;
+import hongik.triple.apimodule.global.security.MemberPrincipal;
+import hongik.triple.apimodule.global.security.PrincipalDetails;
+import hongik.triple.apimodule.global.security.jwt.JwtFilter;
+import hongik.triple.apimodule.global.security.jwt.TokenProvider;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.domainmodule.domain.member.Member;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TokenProvider 테스트")
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+    private static final String SECRET = "YWNuZWxvZy10b2tlbi1wcm92aWRlci10ZXN0LXNlY3JldC1rZXktMzJieXRlcw==";
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private TokenProvider tokenProvider;
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        tokenProvider = new TokenProvider(principalCache);
+        ReflectionTestUtils.setField(tokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        member = new Member("user", "email@test.com", MemberType.KAKAO);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private String accessToken() {
+        return tokenProvider.createToken(member).accessToken();
+    }
+
+    @Nested
+    @DisplayName("verify()는")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("토큰을 한 번 파싱하여 email / 회원 유형 / 만료 시각을 반환하고, 같은 토큰은 캐시된 결과를 사용한다.")
+        void success() {
+            String token = accessToken();
+
+            TokenProvider.VerifiedToken first = tokenProvider.verify(token);
+            TokenProvider.VerifiedToken second = tokenProvider.verify(token);
+
+            assertThat(first.email()).isEqualTo("email@test.com");
+            assertThat(first.memberType()).isEqualTo(MemberType.KAKAO);
+            assertThat(first.expiresAt()).isAfter(new Date().toInstant());
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("서명이 다른 토큰은 예외를 던진다.")
+        void invalidSignature() {
+            String token = accessToken();
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThatThrownBy(() -> tokenProvider.verify(tampered))
+                    .isInstanceOf(ApplicationException.class);
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 예외를 던진다.")
+        void expired() {
+            String token = Jwts.builder()
+                    .subject("email@test.com")
+                    .claim("memberType", MemberType.KAKAO.name())
+                    .expiration(new Date(System.currentTimeMillis() - 1000))
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                    .compact();
+
+            assertThatThrownBy(() -> tokenProvider.verify(token))
+                    .isInstanceOf(ApplicationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAuthentication()은")
+    class GetAuthenticationTest {
+
+        @Test
+        @DisplayName("토큰의 email / 회원 유형으로 인증 회원을 조회한다.")
+        void success() {
+            given(principalCache.find("email@test.com", MemberType.KAKAO)).willReturn(Optional.of(MemberPrincipal.from(member)));
+
+            Authentication authentication = tokenProvider.getAuthentication(accessToken());
+
+            PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
+            assertThat(principalDetails.getPrincipal()).isEqualTo(MemberPrincipal.from(member));
+            assertThat(principalDetails.getMember().getEmail()).isEqualTo("email@test.com");
+        }
+
+        @Test
+        @DisplayName("회원이 없으면 예외를 던진다.")
+        void memberNotFound() {
+            given(principalCache.find("email@test.com", MemberType.KAKAO)).willReturn(Optional.empty());
+            String token = accessToken();
+
+            assertThatThrownBy(() -> tokenProvider.getAuthentication(token))
+                    .isInstanceOf(ApplicationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("JwtFilter는")
+    class JwtFilterTest {
+
+        private MockHttpServletRequest request(String uri, String token) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+            request.setServletPath(uri);
+            request.addHeader("Authorization", "Bearer " + token);
+            return request;
+        }
+
+        @Test
+        @DisplayName("인증이 필요 없는 경로는 토큰을 검증하지 않는다.")
+        void publicPath() throws Exception {
+            TokenProvider spy = spy(tokenProvider);
+            JwtFilter jwtFilter = new JwtFilter(spy);
+
+            jwtFilter.doFilter(request("/api/v1/auth/login", "invalid"), new MockHttpServletResponse(), new MockFilterChain());
+
+            verify(spy, never()).getAuthentication(any());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("그 외 경로는 토큰으로 인증 정보를 저장한다.")
+        void authenticate() throws Exception {
+            given(principalCache.find("email@test.com", MemberType.KAKAO)).willReturn(Optional.of(MemberPrincipal.from(member)));
+            JwtFilter jwtFilter = new JwtFilter(tokenProvider);
+
+            jwtFilter.doFilter(request("/api/v1/analysis/main", accessToken()), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                    .isInstanceOf(PrincipalDetails.class);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package hongik.triple.apimodule.survey;
 
 import hongik.triple.apimodule.application.survey.SurveyService;
+import hongik.triple.apimodule.global.security.PrincipalCache;
 import hongik.triple.commonmodule.dto.survey.SurveyReq;
 import hongik.triple.commonmodule.dto.survey.SurveyRes;
 import hongik.triple.commonmodule.enumerate.MemberType;
@@ -44,6 +45,9 @@ class SurveyServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private SurveyService surveyService;
 
@@ -95,6 +99,7 @@ class SurveyServiceTest {
             assertThat(result.totalScore()).isGreaterThan(0);
 
             verify(surveyRepository, times(1)).save(any());
+            verify(principalCache, times(1)).evictAfterCompletion(member);
         }
 
         @Test
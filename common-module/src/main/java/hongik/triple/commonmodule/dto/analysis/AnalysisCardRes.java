@@ -0,0 +1,14 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+/**
+ * 목록 화면용 분석 카드 (추천 영상 / 제품 목록 제외)
+ */
+public record AnalysisCardRes(
+        Long analysisId,
+        String imageUrl,
+        ThumbnailDto thumbnail,
+        String createdAt,
+        Boolean isPublic,
+        String acneType
+) {
+}
@@ -0,0 +1,15 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnalysisJobRes(
+        String jobId,
+        String status,
+        String description,
+        String errorMessage,
+        AnalysisRes result      // 분석 완료 시에만 포함
+) {
+}
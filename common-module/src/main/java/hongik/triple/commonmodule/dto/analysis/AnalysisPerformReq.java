@@ -0,0 +1,6 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+public record AnalysisPerformReq(
+        String imageKey
+) {
+}
@@ -5,6 +5,7 @@ import java.util.List;
 public record AnalysisRes(
         Long analysisId,
         String imageUrl,
+        ThumbnailDto thumbnail,
         String createdAt,
         Boolean isPublic,
         String acneType,
@@ -0,0 +1,16 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+import java.util.List;
+
+/**
+ * 커서 기반 분석 목록
+ * @param content 분석 목록 (AnalysisRes 또는 AnalysisCardRes)
+ * @param nextCursor 다음 목록 조회용 커서 (마지막 목록이면 null)
+ * @param hasNext 다음 목록 존재 여부
+ */
+public record AnalysisSliceRes<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,8 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+public record AnalysisUploadReq(
+        String fileName,
+        String contentType,
+        Long contentLength
+) {
+}
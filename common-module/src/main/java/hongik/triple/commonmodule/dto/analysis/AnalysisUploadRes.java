@@ -0,0 +1,12 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+import java.time.LocalDateTime;
+
+public record AnalysisUploadRes(
+        String imageKey,
+        String uploadUrl,
+        String contentType,
+        Long contentLength,
+        LocalDateTime expiresAt
+) {
+}
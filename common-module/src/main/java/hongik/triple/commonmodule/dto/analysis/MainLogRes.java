@@ -4,15 +4,15 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
 
-public record MainLogRes(
+public record MainLogRes<T>(
         @JsonProperty("COMEDONES") int comedones,
         @JsonProperty("PUSTULES") int pustules,
         @JsonProperty("PAPULES") int papules,
         @JsonProperty("FOLLICULITIS") int follicultis,
-        List<AnalysisRes> analysisRes
+        List<T> analysisRes    // AnalysisRes 또는 AnalysisCardRes
 ) {
-    public static MainLogRes from(int comedones, int pustules, int papules, int follicultis, List<AnalysisRes> analysisRes) {
-        return new MainLogRes(
+    public static <T> MainLogRes<T> from(int comedones, int pustules, int papules, int follicultis, List<T> analysisRes) {
+        return new MainLogRes<>(
                 comedones,
                 pustules,
                 papules,
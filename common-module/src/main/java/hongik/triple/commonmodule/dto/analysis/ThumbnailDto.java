@@ -0,0 +1,12 @@
+package hongik.triple.commonmodule.dto.analysis;
+
+/**
+ * 목록 화면용 썸네일 URL (썸네일 생성 전에는 원본 이미지 URL)
+ * @param small 160px 썸네일
+ * @param medium 480px 썸네일
+ */
+public record ThumbnailDto(
+        String small,
+        String medium
+) {
+}
@@ -0,0 +1,24 @@
+package hongik.triple.commonmodule.enumerate;
+
+import lombok.Getter;
+
+@Getter
+public enum AnalysisJobStatus {
+
+    PENDING("분석 대기 중입니다."),
+    ANALYZING("피부 이미지를 분석하고 있습니다."),
+    RECOMMENDING("맞춤 영상과 제품을 찾고 있습니다."),
+    SAVING("분석 결과를 저장하고 있습니다."),
+    COMPLETED("분석이 완료되었습니다."),
+    FAILED("분석에 실패하였습니다.");
+
+    private final String description;
+
+    AnalysisJobStatus(String description) {
+        this.description = description;
+    }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
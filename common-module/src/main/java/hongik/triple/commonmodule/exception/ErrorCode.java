@@ -21,6 +21,7 @@ public enum ErrorCode {
     FORBIDDEN_EXCEPTION(HttpStatus.FORBIDDEN, 2005, "인가되지 않는 요청입니다."),
     ALREADY_EXIST_EXCEPTION(HttpStatus.BAD_REQUEST, 2006, "이미 존재하는 리소스입니다."),
     INVALID_SORT_EXCEPTION(HttpStatus.BAD_REQUEST, 2007, "올바르지 않은 정렬 값입니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST, 2008, "올바르지 않은 커서 값입니다."),
 
     // 3000: Image Error
     EMPTY_FILE_EXCEPTION(HttpStatus.BAD_REQUEST, 3000, "파일이 비어있습니다."),
@@ -30,7 +31,17 @@ public enum ErrorCode {
     EMPTY_S3_KEY_EXCEPTION(HttpStatus.BAD_REQUEST, 3004, "S3 key 값이 비어있습니다."),
     NOT_FOUND_S3_EXCEPTION(HttpStatus.NOT_FOUND, 3005, "존재하지 않는 S3 객체입니다."),
     FAILED_DELETE_FILE(HttpStatus.INTERNAL_SERVER_ERROR, 3006, "이미지 삭제에 실패하였습니다."),
-    NOT_ALLOWED_FILE_EXTENSION(HttpStatus.BAD_REQUEST, 3007, "올바르지 않은 파일 확장자입니다.");
+    NOT_ALLOWED_FILE_EXTENSION(HttpStatus.BAD_REQUEST, 3007, "올바르지 않은 파일 확장자입니다."),
+    FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, 3008, "허용된 파일 크기를 초과했습니다."),
+    NOT_ALLOWED_CONTENT_TYPE(HttpStatus.BAD_REQUEST, 3009, "올바르지 않은 파일 형식입니다."),
+    FORBIDDEN_S3_KEY_EXCEPTION(HttpStatus.FORBIDDEN, 3010, "접근할 수 없는 S3 key 입니다."),
+
+    // 4000: Analysis Error
+    ANALYSIS_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, 4000, "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    NOT_FOUND_ANALYSIS_JOB(HttpStatus.NOT_FOUND, 4001, "존재하지 않는 분석 작업입니다."),
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 4002, "피부 분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_ANALYSIS_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 4003, "진행 중인 피부 분석 요청이 너무 많습니다. 이전 분석이 끝난 후 다시 시도해주세요."),
+    ANALYSIS_JOB_EXPIRED(HttpStatus.INTERNAL_SERVER_ERROR, 4004, "분석 작업이 중단되었습니다. 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final Integer code;
@@ -0,0 +1,16 @@
+package hongik.triple.commonmodule.exception;
+
+import lombok.Getter;
+
+/**
+ * 일시적인 과부하로 거절된 요청 (응답에 Retry-After 헤더 포함)
+ */
+@Getter
+public class RetryableException extends ApplicationException {
+    private final long retryAfterSeconds;
+
+    public RetryableException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
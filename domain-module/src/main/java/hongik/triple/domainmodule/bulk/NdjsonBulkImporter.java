@@ -0,0 +1,109 @@
+package hongik.triple.domainmodule.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * NDJSON (한 줄에 JSON 객체 하나) 대량 적재 (마이그레이션 / 시드 데이터 / 백필)
+ * - 한 줄씩 읽어 엔티티로 변환하고 batchSize 건마다 persist -> flush -> clear 후 커밋 (JDBC 배치 insert, 메모리 사용량 일정)
+ * - 엔티티 키는 시퀀스로 미리 할당받으므로 flush 시 insert 가 batchSize 건씩 묶여 전송됨
+ * - 배치 단위로 커밋하므로 실패 시 이전 배치까지만 반영되고, 실패한 배치의 앞쪽 줄도 저장되지 않음
+ * - 실패하면 NdjsonImportException 의 resumeLine (커밋되지 않은 배치의 첫 줄) 부터 다시 적재 (실패한 줄 번호부터 다시 적재하면 그 배치의 앞쪽 줄이 누락됨)
+ */
+@Slf4j
+@Component
+public class NdjsonBulkImporter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public NdjsonBulkImporter(
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<ObjectMapper> objectMapper,
+            @Value("${spring.jpa.batch-size:50}") int batchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper.getIfAvailable(ObjectMapper::new);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * NDJSON 적재
+     * @param reader NDJSON 입력 (빈 줄은 무시)
+     * @param rowType 한 줄을 읽을 타입
+     * @param toEntity 읽은 행을 저장할 엔티티로 변환
+     * @return 저장한 엔티티 수
+     * @throws NdjsonImportException 읽기 / 파싱 / 변환 / 저장 실패 (다시 적재할 줄 번호 포함)
+     */
+    public <R> long importNdjson(Reader reader, Class<R> rowType, Function<R, ?> toEntity) {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        List<Object> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        long lineNumber = 0;
+        long batchStartLine = 0; // 아직 커밋되지 않은 배치의 첫 줄
+
+        try {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    batchStartLine = lineNumber;
+                }
+                batch.add(toEntity.apply(parse(line, rowType)));
+                if (batch.size() == batchSize) {
+                    imported += persist(batch);
+                }
+            }
+            imported += persist(batch);
+        } catch (IOException | RuntimeException e) {
+            throw new NdjsonImportException(lineNumber, batch.isEmpty() ? lineNumber : batchStartLine, e);
+        }
+
+        log.info("NDJSON 적재 완료 - type: {}, count: {}", rowType.getSimpleName(), imported);
+        return imported;
+    }
+
+    private <R> R parse(String line, Class<R> rowType) {
+        try {
+            return objectMapper.readValue(line, rowType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("NDJSON 파싱 실패", e);
+        }
+    }
+
+    // 한 배치를 하나의 트랜잭션으로 저장하고 영속성 컨텍스트를 비움
+    private int persist(List<Object> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        int count = batch.size();
+        batch.clear();
+        return count;
+    }
+}
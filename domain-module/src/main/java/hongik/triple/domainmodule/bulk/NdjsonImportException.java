@@ -0,0 +1,21 @@
+package hongik.triple.domainmodule.bulk;
+
+import lombok.Getter;
+
+/**
+ * NDJSON 적재 실패
+ * - failedLine: 실패 시점에 처리 중이던 줄 (저장 실패면 실패한 배치의 마지막 줄)
+ * - resumeLine: 커밋되지 않은 첫 줄, 이 줄부터 다시 적재하면 누락 / 중복 없이 이어짐
+ */
+@Getter
+public class NdjsonImportException extends RuntimeException {
+
+    private final long failedLine;
+    private final long resumeLine;
+
+    public NdjsonImportException(long failedLine, long resumeLine, Throwable cause) {
+        super("NDJSON 적재 실패 - line: " + failedLine + ", resume from line: " + resumeLine, cause);
+        this.failedLine = failedLine;
+        this.resumeLine = resumeLine;
+    }
+}
@@ -0,0 +1,80 @@
+package hongik.triple.domainmodule.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import hongik.triple.domainmodule.datasource.ReadAfterWriteGuard;
+import hongik.triple.domainmodule.datasource.ReplicaPool;
+import hongik.triple.domainmodule.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource 설정 (primary + 읽기 전용 복제본)
+ * - spring.datasource.replica.urls 에 복제본이 있으면 읽기 전용 트랜잭션을 복제본으로 라우팅, 없으면 primary 만 사용
+ * - 복제본 계정 / 드라이버는 primary (spring.datasource.*) 와 동일
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    // PostgreSQL 은 배치 insert 를 여러 행 VALUES 한 문장으로 재작성하도록 설정 (reWriteBatchedInserts)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (properties.determineUrl().startsWith(POSTGRES_URL_PREFIX)) {
+            primary.addDataSourceProperty("reWriteBatchedInserts", "true");
+        }
+        return primary;
+    }
+
+    @Bean
+    public ReadAfterWriteGuard readAfterWriteGuard(
+            @Value("${spring.datasource.replica.read-after-write-ms:3000}") long readAfterWriteMillis) {
+        return new ReadAfterWriteGuard(Duration.ofMillis(readAfterWriteMillis));
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(
+            DataSourceProperties properties,
+            @Value("${spring.datasource.replica.urls:}") List<String> urls,
+            @Value("${spring.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMillis,
+            @Value("${spring.datasource.replica.max-lag-ms:3000}") long maxLagMillis) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeoutMillis);
+            replica.setInitializationFailTimeout(-1); // 복제본이 내려가 있어도 애플리케이션은 기동
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaPool(replicas, maxLagMillis, ReplicaPool.POSTGRES_LAG_QUERY);
+    }
+
+    // 복제본이 없으면 primary 를 그대로 사용 (종료 처리는 primaryDataSource 빈에서 진행)
+    @Bean(destroyMethod = "")
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool, ReadAfterWriteGuard readAfterWriteGuard) {
+        if (replicaPool.isEmpty()) {
+            return primaryDataSource;
+        }
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaPool, readAfterWriteGuard));
+    }
+}
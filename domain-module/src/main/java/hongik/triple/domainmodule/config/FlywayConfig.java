@@ -0,0 +1,27 @@
+package hongik.triple.domainmodule.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 마이그레이션 설정 (스크립트: resources/db/migration)
+ * - 빈 DB 는 V1 부터 적용
+ * - ddl-auto 로 이미 테이블이 만들어진 DB 는 기본적으로 마이그레이션하지 않고 기동 실패 (baseline-on-migrate 기본값 false)
+ *   V1 에는 analysis_job, analysis.thumbnail_ready, public_acne_stats 까지 포함되므로, 해당 DB 의 스키마가 V1 과 같은지 확인한 뒤
+ *   spring.flyway.baseline-on-migrate=true 로 한 번만 기동하여 V1 을 baseline 으로 등록 (이후 V2 부터 적용)
+ * - Flyway 를 사용하면 Hibernate 는 스키마를 바꾸지 않고 엔티티 매핑만 검증 (ddl-auto=validate, 누락 / 타입이 다른 컬럼은 기동 시 실패)
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String SCHEMA_VALIDATE = "validate";
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer schemaValidationCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, SCHEMA_VALIDATE);
+    }
+}
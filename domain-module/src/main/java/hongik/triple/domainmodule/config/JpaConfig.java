@@ -3,7 +3,11 @@ package hongik.triple.domainmodule.config;
 import hongik.triple.domainmodule.AcneLogDomainRoot;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -16,4 +20,17 @@ public class JpaConfig {
 
     @PersistenceContext
     private EntityManager em;
-}
\ No newline at end of file
+
+    /*
+    JDBC 배치 insert / update (엔티티 키는 시퀀스로 미리 할당받으므로 flush 시 같은 SQL 을 batchSize 건씩 묶어 전송)
+    EntityManagerFactory 생성 전에 필요하므로 static (설정 인스턴스의 @PersistenceContext 주입과 순환 방지)
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${spring.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package hongik.triple.domainmodule.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 후 쓰기 (read-after-write) 보호
+ * - 쓰기 트랜잭션을 커밋한 클라이언트는 window 동안 읽기 전용 트랜잭션도 primary 에서 조회 (복제 지연으로 방금 쓴 데이터가 안 보이는 문제 방지)
+ * - 클라이언트 구분 값은 요청 처리 스레드에 bind / unbind (api-module 의 요청 필터에서 회원 ID 사용)
+ * - 클라이언트를 bind 하기 전의 조회라도 이전 데이터를 읽으면 안 되는 경우 readFromPrimary 로 primary 에서 조회
+ */
+public class ReadAfterWriteGuard {
+
+    private static final long MAX_CLIENTS = 100_000;
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> primaryRead = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriters;
+    private final boolean enabled;
+
+    public ReadAfterWriteGuard(Duration window) {
+        this.enabled = !window.isZero() && !window.isNegative();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(enabled ? window : Duration.ofMillis(1))
+                .maximumSize(MAX_CLIENTS)
+                .build();
+    }
+
+    public void bind(String clientKey) {
+        currentClient.set(clientKey);
+    }
+
+    public void unbind() {
+        currentClient.remove();
+    }
+
+    /**
+     * read 안의 읽기 전용 트랜잭션을 primary 에서 실행 (쓰기로 기록하지 않음)
+     * - 인증 회원 적재처럼 클라이언트 bind 전에 실행되어 복제 지연의 영향을 받는 조회에 사용
+     * - read 가 새로 시작하는 트랜잭션에만 적용 (이미 커넥션을 가진 트랜잭션 안에서 호출하면 그 커넥션을 그대로 사용)
+     * @param read primary 에서 실행할 조회
+     * @return 조회 결과
+     */
+    public <T> T readFromPrimary(Supplier<T> read) {
+        if (isPrimaryRead()) {
+            return read.get();
+        }
+        primaryRead.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            primaryRead.remove();
+        }
+    }
+
+    /*
+    현재 클라이언트의 쓰기 커밋 기록
+     */
+    void recordWrite() {
+        String clientKey = currentClient.get();
+        if (enabled && clientKey != null) {
+            recentWriters.put(clientKey, Boolean.TRUE);
+        }
+    }
+
+    /*
+    현재 클라이언트가 window 안에 쓰기를 커밋했는지 여부
+     */
+    boolean isRecentWriter() {
+        String clientKey = currentClient.get();
+        return enabled && clientKey != null && recentWriters.getIfPresent(clientKey) != null;
+    }
+
+    /*
+    현재 스레드가 readFromPrimary 구간 안인지 여부
+     */
+    boolean isPrimaryRead() {
+        return Boolean.TRUE.equals(primaryRead.get());
+    }
+}
@@ -0,0 +1,173 @@
+package hongik.triple.domainmodule.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 (replica) 풀
+ * - 사용 중인 커넥션이 가장 적은 정상 복제본에서 커넥션 획득 (least-connections)
+ * - 커넥션 획득 실패 / 헬스 체크 실패 / 복제 지연 초과 시 제외하고, 다음 헬스 체크에서 정상이면 복귀
+ * - 사용 가능한 복제본이 없으면 커넥션을 반환하지 않음 (호출 측에서 primary 사용)
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    // 복제 지연 (ms) - 재생할 WAL 이 없으면 0, primary 에서 실행하면 NULL 비교로 0
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final String lagQuery;
+
+    /**
+     * @param replicas 복제본 DataSource 목록
+     * @param maxLagMillis 허용 복제 지연 (ms)
+     * @param lagQuery 복제 지연 (ms) 조회 쿼리 (null 이면 지연 검사 생략)
+     */
+    public ReplicaPool(List<DataSource> replicas, long maxLagMillis, String lagQuery) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLagMillis;
+        this.lagQuery = lagQuery;
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    /**
+     * 복제본 커넥션 획득
+     * @return 사용 중인 커넥션이 가장 적은 정상 복제본의 커넥션 (사용 가능한 복제본이 없으면 empty)
+     */
+    public Optional<Connection> acquire() {
+        List<Replica> candidates = replicas.stream()
+                .filter(Replica::isHealthy)
+                .sorted(Comparator.comparingInt(Replica::activeConnections))
+                .toList();
+
+        for (Replica replica : candidates) {
+            try {
+                return Optional.of(replica.open());
+            } catch (SQLException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /*
+    복제본 헬스 체크 (커넥션 유효성 + 복제 지연)
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            String failure = inspect(replica);
+            if (failure != null) {
+                eject(replica, failure);
+            } else if (replica.healthy.compareAndSet(false, true)) {
+                log.info("복제본 복귀 - replica: {}", i);
+            }
+        }
+    }
+
+    private String inspect(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return "유효하지 않은 커넥션";
+            }
+            if (lagQuery == null) {
+                return null;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                long lagMillis = resultSet.next() ? resultSet.getLong(1) : 0;
+                return lagMillis > maxLagMillis ? "복제 지연 " + lagMillis + "ms" : null;
+            }
+        } catch (SQLException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void eject(Replica replica, String reason) {
+        if (replica.healthy.compareAndSet(true, false)) {
+            log.warn("복제본 제외 - replica: {}, reason: {}", replicas.indexOf(replica), reason);
+        }
+    }
+
+    private static class Replica {
+
+        private final DataSource dataSource;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean isHealthy() {
+            return healthy.get();
+        }
+
+        private int activeConnections() {
+            return active.get();
+        }
+
+        // 반환된 커넥션을 close 하면 사용 중 개수 감소
+        private Connection open() throws SQLException {
+            active.incrementAndGet();
+            Connection target;
+            try {
+                target = dataSource.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                active.decrementAndGet();
+                throw e;
+            }
+
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionProxy.class.getClassLoader(),
+                    new Class<?>[]{ConnectionProxy.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getTargetConnection" -> target;
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> {
+                            if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                                active.decrementAndGet();
+                            }
+                            try {
+                                yield method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package hongik.triple.domainmodule.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * 트랜잭션 종류에 따른 DataSource 선택
+ * - 읽기 전용 트랜잭션 (@Transactional(readOnly = true)) 은 복제본 풀, 그 외는 primary
+ * - 최근 쓰기를 커밋한 클라이언트의 읽기, readFromPrimary 구간의 읽기, 사용 가능한 복제본이 없을 때의 읽기는 primary
+ * - 트랜잭션 속성이 정해진 뒤 커넥션을 획득해야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+    private final ReadAfterWriteGuard readAfterWriteGuard;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool, ReadAfterWriteGuard readAfterWriteGuard) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        this.readAfterWriteGuard = readAfterWriteGuard;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!readAfterWriteGuard.isRecentWriter() && !readAfterWriteGuard.isPrimaryRead()) {
+                Optional<Connection> replica = replicaPool.acquire();
+                if (replica.isPresent()) {
+                    return replica.get();
+                }
+            }
+            return primary.getConnection();
+        }
+
+        recordWriteAfterCommit();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readAfterWriteGuard.recordWrite();
+            }
+        });
+    }
+}
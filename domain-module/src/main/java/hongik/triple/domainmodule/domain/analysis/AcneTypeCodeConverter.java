@@ -0,0 +1,45 @@
+package hongik.triple.domainmodule.domain.analysis;
+
+import hongik.triple.commonmodule.enumerate.AcneType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * acne_type 컬럼 변환 (AcneType 이름 <-> smallint 코드)
+ * - 엔티티와 쿼리 파라미터는 기존대로 AcneType 이름 문자열을 사용하고, DB 에는 코드로 저장
+ * - 코드는 마이그레이션 (V2__analysis_list_indexes.sql) 과 동일해야 하며, 저장된 값이므로 변경 / 재사용 금지
+ */
+@Converter
+public class AcneTypeCodeConverter implements AttributeConverter<String, Short> {
+
+    private static final Map<AcneType, Short> CODES = new EnumMap<>(Map.of(
+            AcneType.NORMAL, (short) 0,
+            AcneType.COMEDONES, (short) 1,
+            AcneType.PUSTULES, (short) 2,
+            AcneType.PAPULES, (short) 3,
+            AcneType.FOLLICULITIS, (short) 4
+    ));
+
+    @Override
+    public Short convertToDatabaseColumn(String acneType) {
+        if (acneType == null) {
+            return null;
+        }
+        return CODES.get(AcneType.valueOf(acneType));
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        if (code == null) {
+            return null;
+        }
+        return CODES.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(code))
+                .map(entry -> entry.getKey().name())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 acne_type 코드: " + code));
+    }
+}
@@ -11,21 +11,25 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "analysis")
+@Table(name = "analysis") // 인덱스는 마이그레이션 (db/migration) 에서 관리
 @SQLDelete(sql = "UPDATE analysis SET deleted_at = NOW() where analysis_id = ?")
+@SQLRestriction("deleted_at IS NULL") // 목록 인덱스가 삭제되지 않은 행만 포함하는 부분 인덱스
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Analysis extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_seq")
+    @SequenceGenerator(name = "analysis_seq", sequenceName = "analysis_seq", allocationSize = 50)
     @Column(name = "analysis_id")
     private Long analysisId;
 
@@ -36,12 +40,23 @@ public class Analysis extends BaseTimeEntity {
     @Column(name = "image_url", nullable = false, columnDefinition = "text")
     private String imageUrl;
 
-    @Column(name = "acne_type", nullable = false, length = 20)
-    private String acneType; // @Enumerated(EnumType.STRING) 사용 X, String 형식으로 저장
+    @Convert(converter = AcneTypeCodeConverter.class)
+    @Column(name = "acne_type", nullable = false)
+    private String acneType; // @Enumerated 사용 X, AcneType 이름으로 다루고 DB 에는 smallint 코드로 저장
 
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic;
 
+    // 목록 화면용 썸네일 (ImageVariant) 업로드 완료 여부
+    @ColumnDefault("false")
+    @Column(name = "thumbnail_ready", nullable = false)
+    private Boolean thumbnailReady;
+
+    // 추천 영상 / 제품 스냅샷 (RecommendationSnapshot) ID
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    // 스냅샷 연결 전 (백필 전) 행의 추천 결과 - 스냅샷이 연결되면 비움
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "video_data", columnDefinition = "json")
     private List<YoutubeVideoDto> videoData;
@@ -54,6 +69,13 @@ public class Analysis extends BaseTimeEntity {
         this.isPublic = isPublic;
     }
 
+    // 추천 결과를 스냅샷 참조로 대체
+    public void linkSnapshot(Long snapshotId) {
+        this.snapshotId = snapshotId;
+        this.videoData = null;
+        this.productData = null;
+    }
+
     @Builder
     public Analysis(Member member,
                     AcneType acneType,
@@ -65,6 +87,7 @@ public class Analysis extends BaseTimeEntity {
         this.acneType = acneType.name();
         this.imageUrl = imageUrl;
         this.isPublic = isPublic;
+        this.thumbnailReady = false;
         this.videoData = videoData;
         this.productData = productData;
     }
@@ -0,0 +1,56 @@
+package hongik.triple.domainmodule.domain.analysis;
+
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import hongik.triple.domainmodule.common.BaseTimeEntity;
+import hongik.triple.domainmodule.domain.member.Member;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+@Entity
+@Getter
+@Table(name = "analysis_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisJob extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId; // 클라이언트에 노출되는 ID이므로 순차 ID 대신 UUID 사용
+
+    @JoinColumn(name = "member_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Member member;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AnalysisJobStatus status;
+
+    @Column(name = "analysis_id")
+    private Long analysisId; // 분석 완료 시 생성된 Analysis ID
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Builder
+    public AnalysisJob(Member member) {
+        this.jobId = UUID.randomUUID().toString();
+        this.member = member;
+        this.status = AnalysisJobStatus.PENDING;
+    }
+
+    @Override
+    public String getId() {
+        return jobId;
+    }
+
+    // ID를 직접 할당하므로, 저장 전 merge 조회가 발생하지 않도록 생성 시각으로 신규 여부 판단
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
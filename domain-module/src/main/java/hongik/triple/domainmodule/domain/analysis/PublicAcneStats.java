@@ -0,0 +1,34 @@
+package hongik.triple.domainmodule.domain.analysis;
+
+import hongik.triple.commonmodule.enumerate.AcneType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여드름 유형별 공개 분석 수 (메인 페이지 통계용 카운터)
+ * - 분석 생성 / 공개 여부 변경 시 증감하고, 주기적으로 analysis 테이블 기준으로 재집계
+ */
+@Entity
+@Getter
+@Table(name = "public_acne_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PublicAcneStats {
+
+    @Id
+    @Column(name = "acne_type", length = 20)
+    private String acneType;
+
+    @Column(name = "count", nullable = false)
+    private Long count;
+
+    public PublicAcneStats(AcneType acneType, long count) {
+        this.acneType = acneType.name();
+        this.count = count;
+    }
+
+    public void updateCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,42 @@
+package hongik.triple.domainmodule.domain.analysis;
+
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.List;
+
+/**
+ * 추천 영상 / 제품 스냅샷
+ * - 같은 여드름 유형이면 추천 결과가 대부분 같으므로, 분석마다 JSON 을 복사하지 않고 내용 해시 기준으로 한 번만 저장
+ * - 생성 후 변경하지 않음 (Analysis 는 snapshot_id 로 참조)
+ */
+@Entity
+@Getter
+@Immutable
+@Table(name = "recommendation_snapshot")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecommendationSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "video_data", columnDefinition = "json", nullable = false)
+    private List<YoutubeVideoDto> videoData;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "product_data", columnDefinition = "json", nullable = false)
+    private List<NaverProductDto> productData;
+}
@@ -0,0 +1,11 @@
+package hongik.triple.domainmodule.domain.analysis.repository;
+
+/**
+ * 여드름 유형별 집계 결과
+ */
+public interface AcneTypeCount {
+
+    String getAcneType();
+
+    long getCount();
+}
@@ -0,0 +1,21 @@
+package hongik.triple.domainmodule.domain.analysis.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 카드용 분석 요약 (video_data / product_data JSON 컬럼은 조회하지 않음)
+ */
+public interface AnalysisCard {
+
+    Long getAnalysisId();
+
+    String getImageUrl();
+
+    Boolean getThumbnailReady();
+
+    String getAcneType();
+
+    Boolean getIsPublic();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,47 @@
+package hongik.triple.domainmodule.domain.analysis.repository;
+
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import hongik.triple.domainmodule.domain.analysis.AnalysisJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, String> {
+
+    // 작업 요청자 본인의 작업 조회
+    Optional<AnalysisJob> findByJobIdAndMember_MemberId(String jobId, Long memberId);
+
+    // 진행 단계 갱신 (완료 / 실패 / 진행 단계 갱신은 이미 끝난 작업을 바꾸지 않음, 0 이면 만료 처리 등으로 종료된 작업)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = :status, j.modifiedAt = LOCAL_DATETIME WHERE j.jobId = :jobId AND j.status NOT IN (hongik.triple.commonmodule.enumerate.AnalysisJobStatus.COMPLETED, hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED)")
+    int updateStatus(@Param("jobId") String jobId, @Param("status") AnalysisJobStatus status);
+
+    // 작업 완료 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = hongik.triple.commonmodule.enumerate.AnalysisJobStatus.COMPLETED, j.analysisId = :analysisId, j.modifiedAt = LOCAL_DATETIME WHERE j.jobId = :jobId AND j.status NOT IN (hongik.triple.commonmodule.enumerate.AnalysisJobStatus.COMPLETED, hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED)")
+    int complete(@Param("jobId") String jobId, @Param("analysisId") Long analysisId);
+
+    // 작업 실패 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED, j.errorMessage = :errorMessage, j.modifiedAt = LOCAL_DATETIME WHERE j.jobId = :jobId AND j.status NOT IN (hongik.triple.commonmodule.enumerate.AnalysisJobStatus.COMPLETED, hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED)")
+    int fail(@Param("jobId") String jobId, @Param("errorMessage") String errorMessage);
+
+    // 일정 시간 동안 진행 단계가 바뀌지 않은 미완료 작업 조회
+    @Query("SELECT j.jobId FROM AnalysisJob j WHERE j.status NOT IN (hongik.triple.commonmodule.enumerate.AnalysisJobStatus.COMPLETED, hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED) AND j.modifiedAt < :before")
+    List<String> findStaleJobIds(@Param("before") LocalDateTime before);
+
+    // 조회 이후 진행된 작업은 건드리지 않도록, 여전히 미완료이고 갱신되지 않은 경우에만 실패 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED, j.errorMessage = :errorMessage, j.modifiedAt = LOCAL_DATETIME WHERE j.jobId = :jobId AND j.status NOT IN (hongik.triple.commonmodule.enumerate.AnalysisJobStatus.COMPLETED, hongik.triple.commonmodule.enumerate.AnalysisJobStatus.FAILED) AND j.modifiedAt < :before")
+    int failIfStale(@Param("jobId") String jobId, @Param("errorMessage") String errorMessage, @Param("before") LocalDateTime before);
+}
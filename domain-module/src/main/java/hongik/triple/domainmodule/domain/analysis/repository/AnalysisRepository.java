@@ -4,25 +4,142 @@ import hongik.triple.domainmodule.domain.analysis.Analysis;
 import hongik.triple.domainmodule.domain.member.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface AnalysisRepository extends JpaRepository<Analysis, Long> {
 
+    // 피플즈 로그 상세용 - 작성자를 함께 조회 (지연 로딩으로 인한 추가 쿼리 방지)
+    @EntityGraph(attributePaths = "member")
+    Optional<Analysis> findWithMemberByAnalysisId(Long analysisId);
+
+    // 본인 분석 조회 - 소유자 확인을 조회 조건으로 처리 (WHERE analysis_id = ? AND member_id = ?)
+    Optional<Analysis> findByAnalysisIdAndMember_MemberId(Long analysisId, Long memberId);
+
     // 메인 페이지용
     List<Analysis> findTop3ByIsPublicTrueOrderByCreatedAtDesc();
-    int countByAcneTypeAndIsPublicTrue(String acneType);
+
+    // 메인 페이지용 - 카드 조회 (type 에 AnalysisCard 를 전달하면 카드 컬럼만 조회)
+    <T> List<T> findTop3ByIsPublicTrueOrderByCreatedAtDesc(Class<T> type);
+
+    // 메인 페이지 통계 재집계용 - 유형별 공개 분석 수
+    @Query("SELECT a.acneType AS acneType, COUNT(a) AS count FROM Analysis a WHERE a.isPublic = true GROUP BY a.acneType")
+    List<AcneTypeCount> countPublicGroupByAcneType();
 
     // 피플즈 로그 페이지용 - 전체 공개 분석 조회
     Page<Analysis> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
+    <T> Page<T> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable, Class<T> type);
 
     // 피플즈 로그 페이지용 - 타입별 공개 분석 조회
     Page<Analysis> findByIsPublicTrueAndAcneTypeOrderByCreatedAtDesc(String acneType, Pageable pageable);
+    <T> Page<T> findByIsPublicTrueAndAcneTypeOrderByCreatedAtDesc(String acneType, Pageable pageable, Class<T> type);
 
     // 마이페이지용 - 내 전체 분석 조회
     Page<Analysis> findByMemberOrderByCreatedAtDesc(Member member, Pageable pageable);
+    <T> Page<T> findByMemberOrderByCreatedAtDesc(Member member, Pageable pageable, Class<T> type);
 
     // 마이페이지용 - 내 타입별 분석 조회
     Page<Analysis> findByMemberAndAcneTypeOrderByCreatedAtDesc(Member member, String acneType, Pageable pageable);
+    <T> Page<T> findByMemberAndAcneTypeOrderByCreatedAtDesc(Member member, String acneType, Pageable pageable, Class<T> type);
+
+    // 피플즈 로그 페이지용 - 전체 공개 분석 커서 조회 ((created_at, analysis_id) 행 값 비교로 인덱스 범위 탐색, count 쿼리 없음)
+    @Query("SELECT a FROM Analysis a WHERE a.isPublic = true " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<Analysis> findPublicBefore(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("analysisId") Long analysisId,
+                                     Pageable pageable);
+
+    // 피플즈 로그 페이지용 - 타입별 공개 분석 커서 조회
+    @Query("SELECT a FROM Analysis a WHERE a.isPublic = true AND a.acneType = :acneType " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<Analysis> findPublicByAcneTypeBefore(@Param("acneType") String acneType,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("analysisId") Long analysisId,
+                                               Pageable pageable);
+
+    // 마이페이지용 - 내 전체 분석 커서 조회
+    @Query("SELECT a FROM Analysis a WHERE a.member = :member " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<Analysis> findByMemberBefore(@Param("member") Member member,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("analysisId") Long analysisId,
+                                       Pageable pageable);
+
+    // 마이페이지용 - 내 타입별 분석 커서 조회
+    @Query("SELECT a FROM Analysis a WHERE a.member = :member AND a.acneType = :acneType " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<Analysis> findByMemberAndAcneTypeBefore(@Param("member") Member member,
+                                                  @Param("acneType") String acneType,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("analysisId") Long analysisId,
+                                                  Pageable pageable);
+
+    // 피플즈 로그 페이지용 - 전체 공개 분석 카드 커서 조회
+    @Query("SELECT a.analysisId AS analysisId, a.imageUrl AS imageUrl, a.thumbnailReady AS thumbnailReady, " +
+            "a.acneType AS acneType, a.isPublic AS isPublic, a.createdAt AS createdAt " +
+            "FROM Analysis a WHERE a.isPublic = true " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<AnalysisCard> findPublicCardsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("analysisId") Long analysisId,
+                                              Pageable pageable);
+
+    // 피플즈 로그 페이지용 - 타입별 공개 분석 카드 커서 조회
+    @Query("SELECT a.analysisId AS analysisId, a.imageUrl AS imageUrl, a.thumbnailReady AS thumbnailReady, " +
+            "a.acneType AS acneType, a.isPublic AS isPublic, a.createdAt AS createdAt " +
+            "FROM Analysis a WHERE a.isPublic = true AND a.acneType = :acneType " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<AnalysisCard> findPublicCardsByAcneTypeBefore(@Param("acneType") String acneType,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("analysisId") Long analysisId,
+                                                        Pageable pageable);
+
+    // 마이페이지용 - 내 전체 분석 카드 커서 조회
+    @Query("SELECT a.analysisId AS analysisId, a.imageUrl AS imageUrl, a.thumbnailReady AS thumbnailReady, " +
+            "a.acneType AS acneType, a.isPublic AS isPublic, a.createdAt AS createdAt " +
+            "FROM Analysis a WHERE a.member = :member " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<AnalysisCard> findCardsByMemberBefore(@Param("member") Member member,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("analysisId") Long analysisId,
+                                                Pageable pageable);
+
+    // 마이페이지용 - 내 타입별 분석 카드 커서 조회
+    @Query("SELECT a.analysisId AS analysisId, a.imageUrl AS imageUrl, a.thumbnailReady AS thumbnailReady, " +
+            "a.acneType AS acneType, a.isPublic AS isPublic, a.createdAt AS createdAt " +
+            "FROM Analysis a WHERE a.member = :member AND a.acneType = :acneType " +
+            "AND (a.createdAt, a.analysisId) < (:createdAt, :analysisId) " +
+            "ORDER BY a.createdAt DESC, a.analysisId DESC")
+    Slice<AnalysisCard> findCardsByMemberAndAcneTypeBefore(@Param("member") Member member,
+                                                           @Param("acneType") String acneType,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("analysisId") Long analysisId,
+                                                           Pageable pageable);
+
+    // 추천 스냅샷 백필 대상 선점 (analysis_id 오름차순, 다른 인스턴스가 잠근 행은 건너뜀)
+    // - 삭제된 (deleted_at) 분석도 포함 (JSON 컬럼을 삭제하는 마이그레이션 전에 모든 행을 스냅샷으로 옮겨야 함)
+    @Query(value = "SELECT * FROM analysis WHERE snapshot_id IS NULL " +
+            "ORDER BY analysis_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Analysis> claimSnapshotBackfill(@Param("limit") int limit);
+
+    // 썸네일 업로드 완료 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Analysis a SET a.thumbnailReady = true WHERE a.analysisId = :analysisId")
+    int markThumbnailReady(@Param("analysisId") Long analysisId);
 }
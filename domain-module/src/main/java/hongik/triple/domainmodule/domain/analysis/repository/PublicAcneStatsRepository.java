@@ -0,0 +1,33 @@
+package hongik.triple.domainmodule.domain.analysis.repository;
+
+import hongik.triple.domainmodule.domain.analysis.PublicAcneStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface PublicAcneStatsRepository extends JpaRepository<PublicAcneStats, String> {
+
+    // 카운터 증감 (행 단위 갱신이므로 동시 요청에도 누락 없음)
+    // 분석 저장 / 수정과 같은 트랜잭션에서 호출되므로, 영속성 컨텍스트는 비우지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE PublicAcneStats s SET s.count = s.count + :delta WHERE s.acneType = :acneType")
+    int increment(@Param("acneType") String acneType, @Param("delta") long delta);
+
+    // 없는 유형의 카운터 생성 (여러 인스턴스가 동시에 실행해도 중복 키 오류 없음)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO public_acne_stats (acne_type, count) VALUES (:acneType, 0) ON CONFLICT (acne_type) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("acneType") String acneType);
+
+    // 재집계 동안 카운터 행 잠금 (증감 트랜잭션과 직렬화, 항상 같은 순서로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PublicAcneStats s ORDER BY s.acneType")
+    List<PublicAcneStats> findAllForUpdate();
+}
@@ -0,0 +1,24 @@
+package hongik.triple.domainmodule.domain.analysis.repository;
+
+import hongik.triple.domainmodule.domain.analysis.RecommendationSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RecommendationSnapshotRepository extends JpaRepository<RecommendationSnapshot, Long> {
+
+    @Query("SELECT s.snapshotId FROM RecommendationSnapshot s WHERE s.contentHash = :contentHash")
+    Optional<Long> findIdByContentHash(@Param("contentHash") String contentHash);
+
+    // 동시에 같은 스냅샷을 저장해도 한 행만 생성 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT INTO recommendation_snapshot (content_hash, video_data, product_data) " +
+            "VALUES (:contentHash, CAST(:videoData AS json), CAST(:productData AS json)) " +
+            "ON CONFLICT (content_hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash,
+                       @Param("videoData") String videoData,
+                       @Param("productData") String productData);
+}
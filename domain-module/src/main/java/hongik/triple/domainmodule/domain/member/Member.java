@@ -15,7 +15,8 @@ import org.hibernate.annotations.SQLDelete;
 public class Member extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long memberId;
 
     @Column(name = "name", nullable = false)
@@ -44,4 +45,12 @@ public class Member extends BaseTimeEntity {
         this.email = email;
         this.memberType = memberType;
     }
+
+    // 인증 정보 (캐시된 회원 스냅샷) 로 만든 준영속 회원, 요청 안에서 조회 조건 / 연관관계 참조로만 사용 (회원 정보 변경은 영속 회원을 다시 조회)
+    public static Member of(Long memberId, String name, String email, MemberType memberType, String skinType) {
+        Member member = new Member(name, email, memberType);
+        member.memberId = memberId;
+        member.skinType = skinType;
+        return member;
+    }
 }
@@ -22,7 +22,8 @@ import java.util.Map;
 public class Survey extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_seq")
+    @SequenceGenerator(name = "survey_seq", sequenceName = "survey_seq", allocationSize = 50)
     @Column(name = "survey_id")
     private Long surveyId;
 
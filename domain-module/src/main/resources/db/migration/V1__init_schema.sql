@@ -0,0 +1,68 @@
+-- 초기 스키마 (ddl-auto 로 생성되던 테이블 기준)
+-- 이미 테이블이 있는 DB 는 baseline(V1) 으로 등록되어 이 스크립트를 건너뜀
+
+CREATE TABLE member
+(
+    member_id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    modified_at TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    name        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    member_type VARCHAR(255) NOT NULL,
+    skin_type   VARCHAR(255)
+);
+
+CREATE TABLE analysis
+(
+    analysis_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at      TIMESTAMP(6) NOT NULL,
+    modified_at     TIMESTAMP(6) NOT NULL,
+    deleted_at      TIMESTAMP(6),
+    member_id       BIGINT REFERENCES member (member_id),
+    image_url       TEXT         NOT NULL,
+    acne_type       VARCHAR(20)  NOT NULL,
+    is_public       BOOLEAN      NOT NULL,
+    thumbnail_ready BOOLEAN      NOT NULL DEFAULT FALSE,
+    video_data      JSON,
+    product_data    JSON
+);
+
+CREATE TABLE analysis_job
+(
+    job_id        VARCHAR(36) PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    modified_at   TIMESTAMP(6) NOT NULL,
+    deleted_at    TIMESTAMP(6),
+    member_id     BIGINT REFERENCES member (member_id),
+    status        VARCHAR(20)  NOT NULL,
+    analysis_id   BIGINT,
+    error_message VARCHAR(255)
+);
+
+CREATE TABLE survey
+(
+    survey_id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    modified_at TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    member_id   BIGINT       NOT NULL REFERENCES member (member_id),
+    body        JSON         NOT NULL,
+    skin_type   VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE board
+(
+    board_id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    modified_at TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    title       VARCHAR(200) NOT NULL,
+    content     TEXT         NOT NULL
+);
+
+CREATE TABLE public_acne_stats
+(
+    acne_type VARCHAR(20) PRIMARY KEY,
+    count     BIGINT      NOT NULL
+);
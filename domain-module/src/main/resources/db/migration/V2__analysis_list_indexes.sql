@@ -0,0 +1,39 @@
+-- 분석 목록 조회 경로별 부분 인덱스 + acne_type 코드 저장
+
+-- ddl-auto 로 생성되었던 (삭제 행 포함) 목록 인덱스 정리
+DROP INDEX IF EXISTS idx_analysis_public_created;
+DROP INDEX IF EXISTS idx_analysis_member_created;
+
+-- acne_type 을 문자열 대신 smallint 코드로 저장 (AcneTypeCodeConverter 와 동일한 코드)
+-- 알 수 없는 값이 있으면 NOT NULL 제약으로 마이그레이션이 실패하도록 ELSE 없이 변환
+ALTER TABLE analysis
+    ALTER COLUMN acne_type TYPE SMALLINT USING (
+        CASE acne_type
+            WHEN 'NORMAL' THEN 0
+            WHEN 'COMEDONES' THEN 1
+            WHEN 'PUSTULES' THEN 2
+            WHEN 'PAPULES' THEN 3
+            WHEN 'FOLLICULITIS' THEN 4
+        END
+    );
+
+-- 삭제되지 않은 행만 인덱싱 (조회는 모두 deleted_at IS NULL 조건을 포함)
+-- 메인 / 피플즈 로그 전체 목록
+CREATE INDEX idx_analysis_public_created
+    ON analysis (is_public, created_at DESC, analysis_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 피플즈 로그 유형별 목록 + 유형별 공개 분석 수 집계
+CREATE INDEX idx_analysis_public_type_created
+    ON analysis (is_public, acne_type, created_at DESC, analysis_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 마이페이지 전체 목록
+CREATE INDEX idx_analysis_member_created
+    ON analysis (member_id, created_at DESC, analysis_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 마이페이지 유형별 목록
+CREATE INDEX idx_analysis_member_type_created
+    ON analysis (member_id, acne_type, created_at DESC, analysis_id DESC)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,18 @@
+-- 분석별 추천 영상 / 제품 JSON 복사본 대신 내용 해시로 중복 제거한 스냅샷을 참조
+CREATE TABLE recommendation_snapshot
+(
+    snapshot_id  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL UNIQUE, -- video_data / product_data JSON 의 SHA-256
+    video_data   JSON        NOT NULL,
+    product_data JSON        NOT NULL
+);
+
+-- 기존 행은 RecommendationSnapshotBackfill 이 snapshot_id 를 채우고 video_data / product_data 를 비움
+-- (백필 완료 후 두 컬럼은 이후 마이그레이션에서 삭제)
+ALTER TABLE analysis
+    ADD COLUMN snapshot_id BIGINT REFERENCES recommendation_snapshot (snapshot_id);
+
+-- 백필 대상 조회용
+CREATE INDEX idx_analysis_snapshot_pending
+    ON analysis (analysis_id)
+    WHERE snapshot_id IS NULL;
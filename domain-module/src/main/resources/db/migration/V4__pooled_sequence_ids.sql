@@ -0,0 +1,25 @@
+-- IDENTITY 기본 키를 시퀀스 (증가폭 50) 로 전환
+-- IDENTITY 는 insert 마다 즉시 실행해 키를 받아야 하므로 Hibernate 가 JDBC 배치를 사용하지 못함
+-- Hibernate 는 nextval 한 번으로 50개 키 (v - 49 ~ v) 를 할당받아 사용 (pooled, 엔티티의 allocationSize 와 같아야 함)
+-- 컬럼 기본값도 nextval 로 두어 키를 지정하지 않는 insert (배포 중 기존 버전, 수동 SQL) 는 할당 구간의 마지막 값을 사용하므로 충돌하지 않음
+-- 시퀀스는 기존 최대 키 다음 구간부터 시작
+
+CREATE SEQUENCE member_seq INCREMENT BY 50 OWNED BY member.member_id;
+SELECT setval('member_seq', COALESCE((SELECT MAX(member_id) FROM member), 0) + 50, false);
+ALTER TABLE member ALTER COLUMN member_id DROP IDENTITY IF EXISTS;
+ALTER TABLE member ALTER COLUMN member_id SET DEFAULT nextval('member_seq');
+
+CREATE SEQUENCE analysis_seq INCREMENT BY 50 OWNED BY analysis.analysis_id;
+SELECT setval('analysis_seq', COALESCE((SELECT MAX(analysis_id) FROM analysis), 0) + 50, false);
+ALTER TABLE analysis ALTER COLUMN analysis_id DROP IDENTITY IF EXISTS;
+ALTER TABLE analysis ALTER COLUMN analysis_id SET DEFAULT nextval('analysis_seq');
+
+CREATE SEQUENCE survey_seq INCREMENT BY 50 OWNED BY survey.survey_id;
+SELECT setval('survey_seq', COALESCE((SELECT MAX(survey_id) FROM survey), 0) + 50, false);
+ALTER TABLE survey ALTER COLUMN survey_id DROP IDENTITY IF EXISTS;
+ALTER TABLE survey ALTER COLUMN survey_id SET DEFAULT nextval('survey_seq');
+
+CREATE SEQUENCE board_seq INCREMENT BY 50 OWNED BY board.board_id;
+SELECT setval('board_seq', COALESCE((SELECT MAX(board_id) FROM board), 0) + 50, false);
+ALTER TABLE board ALTER COLUMN board_id DROP IDENTITY IF EXISTS;
+ALTER TABLE board ALTER COLUMN board_id SET DEFAULT nextval('board_seq');
@@ -0,0 +1,5 @@
+-- 중단된 분석 작업 정리 (AnalysisJobSweeper) 조회용 부분 인덱스
+-- 미완료 작업만 인덱싱하므로 완료 / 실패 작업이 쌓여도 크기가 작게 유지됨
+CREATE INDEX IF NOT EXISTS idx_analysis_job_unfinished_modified
+    ON analysis_job (modified_at)
+    WHERE status NOT IN ('COMPLETED', 'FAILED');
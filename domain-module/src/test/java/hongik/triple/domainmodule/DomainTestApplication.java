@@ -0,0 +1,10 @@
+package hongik.triple.domainmodule;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * domain-module 단독 테스트용 부트 설정 (실행 애플리케이션은 api-module)
+ */
+@SpringBootApplication
+public class DomainTestApplication {
+}
@@ -0,0 +1,73 @@
+package hongik.triple.domainmodule.analysis;
+
+import hongik.triple.commonmodule.enumerate.AnalysisJobStatus;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.analysis.AnalysisJob;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisJobRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.flyway.enabled=false") // 마이그레이션은 PostgreSQL 전용이므로 H2 는 엔티티 기준으로 생성
+@Import(JpaConfig.class)
+@DisplayName("AnalysisJobRepository 상태 갱신 테스트")
+class AnalysisJobRepositoryTest {
+
+    private static final String EXPIRED = "expired";
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String jobId;
+
+    @BeforeEach
+    void setup() {
+        Member member = new Member("user", "user@test.com", MemberType.KAKAO);
+        entityManager.persist(member);
+        AnalysisJob job = AnalysisJob.builder().member(member).build();
+        entityManager.persist(job);
+        jobId = job.getJobId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("만료 처리된 작업은 이후 워커의 진행 단계 / 완료 / 실패 갱신으로 바뀌지 않는다.")
+    void workerAfterStaleSweep() {
+        assertThat(analysisJobRepository.failIfStale(jobId, EXPIRED, LocalDateTime.now().plusMinutes(1))).isEqualTo(1);
+
+        assertThat(analysisJobRepository.updateStatus(jobId, AnalysisJobStatus.ANALYZING)).isZero();
+        assertThat(analysisJobRepository.complete(jobId, 10L)).isZero();
+        assertThat(analysisJobRepository.fail(jobId, "worker error")).isZero();
+
+        AnalysisJob job = analysisJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo(EXPIRED);
+        assertThat(job.getAnalysisId()).isNull();
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업은 진행 단계를 갱신하고 완료 처리한다.")
+    void inProgress() {
+        assertThat(analysisJobRepository.updateStatus(jobId, AnalysisJobStatus.ANALYZING)).isEqualTo(1);
+        assertThat(analysisJobRepository.complete(jobId, 10L)).isEqualTo(1);
+
+        AnalysisJob job = analysisJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.COMPLETED);
+        assertThat(job.getAnalysisId()).isEqualTo(10L);
+    }
+}
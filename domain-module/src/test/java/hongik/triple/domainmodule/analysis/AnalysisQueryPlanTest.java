@@ -0,0 +1,315 @@
+package hongik.triple.domainmodule.analysis;
+
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.config.FlywayConfig;
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisCard;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분석 목록 조회 쿼리 실행 계획 테스트 (PostgreSQL)
+ * - ACNELOG_PLAN_TEST_DB_URL 에 테스트용 DB 를 지정한 경우에만 실행 (마이그레이션 적용 후 엔티티 매핑 검증)
+ * - 리포지토리 메서드가 실행한 SQL 을 그대로 PREPARE 하고, 파라미터 값과 무관한 일반 계획 (generic plan) 으로 인덱스 사용 여부 확인
+ * - 플래너 설정은 기본값 그대로 두고, 여러 회원 / 유형 / 공개 여부가 섞인 데이터를 채운 뒤 비용 기반으로 선택된 계획을 확인
+ * - 커서 조회는 (created_at, analysis_id) 경계가 Filter 가 아닌 Index Cond 로 처리되는지 확인
+ * - 회원 / 분석 데이터는 테스트 트랜잭션 안에서 생성 / ANALYZE 하고 롤백
+ */
+@EnabledIfEnvironmentVariable(named = "ACNELOG_PLAN_TEST_DB_URL", matches = ".+")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, FlywayConfig.class, AnalysisQueryPlanTest.SqlCaptureConfig.class})
+@DisplayName("AnalysisRepository 쿼리 실행 계획 테스트")
+class AnalysisQueryPlanTest {
+
+    private static final String PUBLIC_CREATED = "idx_analysis_public_created";
+    private static final String PUBLIC_TYPE_CREATED = "idx_analysis_public_type_created";
+    private static final String MEMBER_CREATED = "idx_analysis_member_created";
+    private static final String MEMBER_TYPE_CREATED = "idx_analysis_member_type_created";
+    private static final String PRIMARY_KEY = "analysis_pkey";
+
+    private static final String ACNE_TYPE = "PAPULES";
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+    private static final int MEMBER_ROWS = 200;
+    private static final int ANALYSIS_ROWS = 50000;
+    private static final String KEYSET_BOUND = "ROW(created_at, analysis_id) < ROW(";
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("ACNELOG_PLAN_TEST_DB_URL"));
+        registry.add("spring.datasource.username",
+                () -> Objects.requireNonNullElse(System.getenv("ACNELOG_PLAN_TEST_DB_USERNAME"), "postgres"));
+        registry.add("spring.datasource.password",
+                () -> Objects.requireNonNullElse(System.getenv("ACNELOG_PLAN_TEST_DB_PASSWORD"), ""));
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    // Hibernate 가 실행하는 SQL 기록
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private AnalysisRepository analysisRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    private Member member;
+    private final LocalDateTime cursorCreatedAt = LocalDateTime.now();
+    private final Long cursorAnalysisId = Long.MAX_VALUE;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        member = new Member("member", "plan@test.com", MemberType.KAKAO);
+        entityManager.persist(member);
+        entityManager.flush();
+
+        // 통계 기반 비용 계산을 위한 데이터 (여러 회원에 나뉘고 삭제 / 비공개 / 유형이 섞인 분석, 테스트 종료 시 롤백)
+        execute("INSERT INTO member (created_at, modified_at, name, email, member_type) " +
+                "SELECT NOW(), NOW(), 'plan' || i, 'plan' || i || '@test.com', 'KAKAO' FROM generate_series(1, " + (MEMBER_ROWS - 1) + ") AS i");
+        execute("INSERT INTO analysis (created_at, modified_at, deleted_at, member_id, image_url, acne_type, is_public, thumbnail_ready) " +
+                "SELECT NOW() - i * INTERVAL '1 minute', NOW(), CASE WHEN i % 10 = 0 THEN NOW() END, m.member_id, " +
+                "'skin/' || i || '.jpg', i % 5, i % 3 <> 0, TRUE FROM generate_series(1, " + ANALYSIS_ROWS + ") AS i " +
+                "JOIN (SELECT member_id, ROW_NUMBER() OVER (ORDER BY member_id) - 1 AS k FROM member WHERE email LIKE 'plan%@test.com') m " +
+                "ON m.k = i % " + MEMBER_ROWS);
+        execute("ANALYZE member");
+        execute("ANALYZE analysis");
+
+        execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        sqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("메인 페이지 최신 공개 분석 조회는 공개 목록 인덱스를 사용한다.")
+    void mainPage() throws SQLException {
+        analysisRepository.findTop3ByIsPublicTrueOrderByCreatedAtDesc();
+        assertIndexScan(PUBLIC_CREATED);
+
+        analysisRepository.findTop3ByIsPublicTrueOrderByCreatedAtDesc(AnalysisCard.class);
+        assertIndexScan(PUBLIC_CREATED);
+    }
+
+    @Test
+    @DisplayName("유형별 공개 분석 수 집계는 analysis 테이블을 한 번만 읽는다.")
+    void countPublicGroupByAcneType() throws SQLException {
+        // 대부분의 행을 읽는 집계이므로 인덱스 대신 Seq Scan 이 선택될 수 있음 (재집계 작업에서만 사용)
+        analysisRepository.countPublicGroupByAcneType();
+        String plan = explain(singleStatement());
+        assertThat(plan).as(plan).containsOnlyOnce("Scan");
+    }
+
+    @Test
+    @DisplayName("피플즈 로그 페이지 조회 (목록 / count) 는 공개 목록 인덱스를 사용한다.")
+    void logPage() throws SQLException {
+        analysisRepository.findByIsPublicTrueOrderByCreatedAtDesc(PAGE);
+        assertIndexScan(PUBLIC_CREATED);
+
+        analysisRepository.findByIsPublicTrueAndAcneTypeOrderByCreatedAtDesc(ACNE_TYPE, PAGE);
+        assertIndexScan(PUBLIC_TYPE_CREATED);
+
+        analysisRepository.findByIsPublicTrueOrderByCreatedAtDesc(PAGE, AnalysisCard.class);
+        assertIndexScan(PUBLIC_CREATED);
+
+        analysisRepository.findByIsPublicTrueAndAcneTypeOrderByCreatedAtDesc(ACNE_TYPE, PAGE, AnalysisCard.class);
+        assertIndexScan(PUBLIC_TYPE_CREATED);
+    }
+
+    @Test
+    @DisplayName("피플즈 로그 커서 조회는 공개 목록 인덱스를 사용한다.")
+    void logPageCursor() throws SQLException {
+        analysisRepository.findPublicBefore(cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(PUBLIC_CREATED);
+
+        analysisRepository.findPublicByAcneTypeBefore(ACNE_TYPE, cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(PUBLIC_TYPE_CREATED);
+
+        analysisRepository.findPublicCardsBefore(cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(PUBLIC_CREATED);
+
+        analysisRepository.findPublicCardsByAcneTypeBefore(ACNE_TYPE, cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(PUBLIC_TYPE_CREATED);
+    }
+
+    @Test
+    @DisplayName("마이페이지 조회 (목록 / count) 는 회원 목록 인덱스를 사용한다.")
+    void myPage() throws SQLException {
+        analysisRepository.findByMemberOrderByCreatedAtDesc(member, PAGE);
+        assertIndexScan(MEMBER_CREATED);
+
+        analysisRepository.findByMemberAndAcneTypeOrderByCreatedAtDesc(member, ACNE_TYPE, PAGE);
+        assertIndexScan(MEMBER_TYPE_CREATED);
+
+        analysisRepository.findByMemberOrderByCreatedAtDesc(member, PAGE, AnalysisCard.class);
+        assertIndexScan(MEMBER_CREATED);
+
+        analysisRepository.findByMemberAndAcneTypeOrderByCreatedAtDesc(member, ACNE_TYPE, PAGE, AnalysisCard.class);
+        assertIndexScan(MEMBER_TYPE_CREATED);
+    }
+
+    @Test
+    @DisplayName("마이페이지 커서 조회는 회원 목록 인덱스를 사용한다.")
+    void myPageCursor() throws SQLException {
+        analysisRepository.findByMemberBefore(member, cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(MEMBER_CREATED);
+
+        analysisRepository.findByMemberAndAcneTypeBefore(member, ACNE_TYPE, cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(MEMBER_TYPE_CREATED);
+
+        analysisRepository.findCardsByMemberBefore(member, cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(MEMBER_CREATED);
+
+        analysisRepository.findCardsByMemberAndAcneTypeBefore(member, ACNE_TYPE, cursorCreatedAt, cursorAnalysisId, PAGE);
+        assertKeysetIndexScan(MEMBER_TYPE_CREATED);
+    }
+
+    @Test
+    @DisplayName("상세 / 소유자 확인 조회는 기본 키 인덱스를 사용한다.")
+    void detail() throws SQLException {
+        analysisRepository.findWithMemberByAnalysisId(1L);
+        assertIndexScan(PRIMARY_KEY);
+
+        analysisRepository.findByAnalysisIdAndMember_MemberId(1L, member.getMemberId());
+        assertIndexScan(PRIMARY_KEY);
+    }
+
+    /*
+    직전 리포지토리 호출의 첫 번째 (목록) SQL 이 analysis 테이블을 Seq Scan 없이 indexNames 중 하나로 읽는지 확인 (작은 member 테이블은 플래너가 Seq Scan 을 고를 수 있음)
+    Page 조회의 count SQL 은 조건에 맞는 행 대부분을 세므로 플래너가 Seq Scan 을 고를 수 있어 검사하지 않음
+     */
+    private String assertIndexScan(String... indexNames) throws SQLException {
+        List<String> statements = List.copyOf(sqlCapture.statements);
+        sqlCapture.statements.clear();
+        assertThat(statements).isNotEmpty();
+
+        String sql = statements.get(0);
+        String plan = explain(sql);
+        assertThat(plan).as("%s%n%s", sql, plan).doesNotContain("Seq Scan on analysis").containsAnyOf(indexNames);
+        return plan;
+    }
+
+    /*
+    커서 조회가 indexName 을 사용하고, (created_at, analysis_id) 경계를 인덱스 탐색 조건으로 처리하는지 확인
+     */
+    private void assertKeysetIndexScan(String indexName) throws SQLException {
+        String plan = assertIndexScan(indexName);
+        assertThat(plan.lines().filter(line -> line.contains("Index Cond:")))
+                .as(plan)
+                .anyMatch(line -> line.contains(KEYSET_BOUND));
+        assertThat(plan.lines().filter(line -> line.contains("Filter:")))
+                .as(plan)
+                .noneMatch(line -> line.contains("created_at"));
+    }
+
+    private String singleStatement() {
+        List<String> statements = List.copyOf(sqlCapture.statements);
+        sqlCapture.statements.clear();
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private String explain(String sql) throws SQLException {
+        NumberedSql numbered = numberedParameters(sql);
+        execute("PREPARE plan_query AS " + numbered.sql());
+        try {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE plan_query" + numbered.nullArguments())) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        } finally {
+            execute("DEALLOCATE plan_query");
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // JDBC 파라미터 (?) 를 PREPARE 용 번호 파라미터 ($1, $2, ...) 로 변환
+    private static NumberedSql numberedParameters(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int count = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++count);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return new NumberedSql(numbered.toString(), count);
+    }
+
+    private record NumberedSql(String sql, int parameterCount) {
+
+        // 일반 계획은 파라미터 값과 무관하므로 모두 NULL 로 실행
+        String nullArguments() {
+            return parameterCount == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameterCount, "NULL")) + ")";
+        }
+    }
+}
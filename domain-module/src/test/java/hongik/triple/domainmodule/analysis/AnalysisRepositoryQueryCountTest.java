@@ -0,0 +1,108 @@
+package hongik.triple.domainmodule.analysis;
+
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false" // 마이그레이션은 PostgreSQL 전용이므로 H2 는 엔티티 기준으로 생성
+})
+@Import(JpaConfig.class)
+@DisplayName("AnalysisRepository 상세 / 소유자 조회 쿼리 수 테스트")
+class AnalysisRepositoryQueryCountTest {
+
+    @Autowired
+    private AnalysisRepository analysisRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member owner;
+    private Member other;
+    private Long analysisId;
+
+    @BeforeEach
+    void setup() {
+        owner = new Member("owner", "owner@test.com", MemberType.KAKAO);
+        other = new Member("other", "other@test.com", MemberType.GOOGLE);
+        entityManager.persist(owner);
+        entityManager.persist(other);
+
+        Analysis analysis = Analysis.builder()
+                .member(owner)
+                .acneType(AcneType.PAPULES)
+                .imageUrl("skin/image.jpg")
+                .isPublic(true)
+                .videoData(List.of())
+                .productData(List.of())
+                .build();
+        entityManager.persist(analysis);
+        analysisId = analysis.getAnalysisId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("피플즈 로그 상세는 작성자까지 한 번의 쿼리로 조회한다.")
+    void findWithMember() {
+        Analysis analysis = analysisRepository.findWithMemberByAnalysisId(analysisId).orElseThrow();
+
+        assertThat(analysis.getMember().getName()).isEqualTo("owner");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findById 후 작성자에 접근하면 지연 로딩으로 쿼리가 한 번 더 발생한다.")
+    void findByIdLoadsMemberLazily() {
+        Analysis analysis = analysisRepository.findById(analysisId).orElseThrow();
+
+        assertThat(analysis.getMember().getName()).isEqualTo("owner");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("소유자 확인 조회는 작성자 조인 없이 한 번의 쿼리로 처리한다.")
+    void findByOwner() {
+        Optional<Analysis> mine = analysisRepository.findByAnalysisIdAndMember_MemberId(analysisId, owner.getMemberId());
+
+        assertThat(mine).isPresent();
+        assertThat(mine.get().getMember().getMemberId()).isEqualTo(owner.getMemberId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 분석은 같은 한 번의 쿼리에서 조회되지 않는다.")
+    void findByOtherMember() {
+        Optional<Analysis> others = analysisRepository.findByAnalysisIdAndMember_MemberId(analysisId, other.getMemberId());
+
+        assertThat(others).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package hongik.triple.domainmodule.analysis;
+
+import hongik.triple.commonmodule.enumerate.AcneType;
+import hongik.triple.commonmodule.enumerate.MemberType;
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.analysis.Analysis;
+import hongik.triple.domainmodule.domain.analysis.repository.AnalysisRepository;
+import hongik.triple.domainmodule.domain.member.Member;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.flyway.enabled=false") // 마이그레이션은 PostgreSQL 전용이므로 H2 는 엔티티 기준으로 생성
+@Import(JpaConfig.class)
+@DisplayName("AnalysisRepository 추천 스냅샷 백필 대상 조회 테스트")
+class AnalysisSnapshotBackfillTest {
+
+    @Autowired
+    private AnalysisRepository analysisRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Analysis persistAnalysis(Member member) {
+        Analysis analysis = Analysis.builder()
+                .member(member)
+                .acneType(AcneType.PAPULES)
+                .imageUrl("skin/image.jpg")
+                .isPublic(true)
+                .videoData(List.of())
+                .productData(List.of())
+                .build();
+        entityManager.persist(analysis);
+        return analysis;
+    }
+
+    @Test
+    @DisplayName("스냅샷이 연결되지 않은 분석은 삭제된 분석까지 선점하고, 연결된 분석은 제외한다.")
+    void includeDeleted() {
+        Member member = new Member("user", "user@test.com", MemberType.KAKAO);
+        entityManager.persist(member);
+        Long pendingId = persistAnalysis(member).getAnalysisId();
+        Analysis deleted = persistAnalysis(member);
+        Analysis linked = persistAnalysis(member);
+        linked.linkSnapshot(1L);
+        entityManager.flush();
+
+        entityManager.remove(deleted); // @SQLDelete 로 deleted_at 만 기록
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(analysisRepository.findById(deleted.getAnalysisId())).isEmpty();
+
+        assertThat(analysisRepository.claimSnapshotBackfill(10))
+                .extracting(Analysis::getAnalysisId)
+                .containsExactly(pendingId, deleted.getAnalysisId());
+    }
+}
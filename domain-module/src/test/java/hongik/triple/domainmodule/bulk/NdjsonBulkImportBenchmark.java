@@ -0,0 +1,95 @@
+package hongik.triple.domainmodule.bulk;
+
+import hongik.triple.domainmodule.config.DataSourceConfig;
+import hongik.triple.domainmodule.config.FlywayConfig;
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.board.Board;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.StringReader;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 insert 처리량 측정 (PostgreSQL)
+ * - 기본 test 태스크에서 제외, ACNELOG_PLAN_TEST_DB_URL 에 테스트용 DB 를 지정하고 ./gradlew :domain-module:benchmark 로 실행
+ * - 같은 NdjsonBulkImporter 경로에서 JDBC 배치 크기만 바꿔 비교 (IDENTITY 키는 행마다 insert 를 실행하므로 배치 크기 1과 같은 왕복 수)
+ * - 측정 데이터는 테스트 트랜잭션과 함께 롤백 (테스트 트랜잭션이 하나의 세션을 사용하므로 세션 단위 배치 크기 설정이 적재에 적용됨)
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "ACNELOG_PLAN_TEST_DB_URL", matches = ".+")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, FlywayConfig.class, DataSourceConfig.class, NdjsonBulkImporter.class})
+@DisplayName("NDJSON 대량 적재 처리량 측정")
+class NdjsonBulkImportBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int WARM_UP_ROWS = 5_000;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("ACNELOG_PLAN_TEST_DB_URL"));
+        registry.add("spring.datasource.username",
+                () -> Objects.requireNonNullElse(System.getenv("ACNELOG_PLAN_TEST_DB_USERNAME"), "postgres"));
+        registry.add("spring.datasource.password",
+                () -> Objects.requireNonNullElse(System.getenv("ACNELOG_PLAN_TEST_DB_PASSWORD"), ""));
+    }
+
+    record BoardRow(String title, String content) {
+    }
+
+    @Autowired
+    private NdjsonBulkImporter ndjsonBulkImporter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("행 단위 insert 와 배치 insert 의 초당 적재 행 수를 비교한다.")
+    void rowsPerSecond() {
+        importRows(WARM_UP_ROWS, 1);
+        importRows(WARM_UP_ROWS, null);
+
+        long rowByRow = importRows(ROWS, 1);
+        long batched = importRows(ROWS, null);
+
+        System.out.printf("row-by-row: %,d rows/s%n", rowByRow);
+        System.out.printf("batched   : %,d rows/s%n", batched);
+    }
+
+    /*
+    현재 세션의 JDBC 배치 크기를 지정하고 적재한 뒤 초당 적재 행 수 반환
+    jdbcBatchSize 가 1이면 IDENTITY 키와 같이 행마다 insert 를 한 번씩 실행, null 이면 설정값 (spring.jpa.batch-size) 사용
+     */
+    private long importRows(int rows, Integer jdbcBatchSize) {
+        String ndjson = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> "{\"title\":\"제목" + i + "\",\"content\":\"벤치마크 내용 " + i + "\"}")
+                .collect(Collectors.joining("\n"));
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+
+        long start = System.nanoTime();
+        long imported = ndjsonBulkImporter.importNdjson(
+                new StringReader(ndjson), BoardRow.class, row -> new Board(row.title(), row.content()));
+        long elapsed = System.nanoTime() - start;
+
+        session.setJdbcBatchSize(null);
+        assertThat(imported).isEqualTo(rows);
+        return rows * 1_000_000_000L / elapsed;
+    }
+}
@@ -0,0 +1,157 @@
+package hongik.triple.domainmodule.bulk;
+
+import hongik.triple.domainmodule.config.JpaConfig;
+import hongik.triple.domainmodule.domain.board.Board;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DataJpaTest(properties = {
+        "spring.jpa.batch-size=50",
+        "spring.flyway.enabled=false" // 마이그레이션은 PostgreSQL 전용이므로 H2 는 엔티티 기준으로 생성
+})
+@Import({JpaConfig.class, NdjsonBulkImporter.class, NdjsonBulkImporterTest.SqlCaptureConfig.class})
+@DisplayName("NdjsonBulkImporter 테스트")
+class NdjsonBulkImporterTest {
+
+    record BoardRow(String title, String content) {
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    // Hibernate 가 준비 (prepare) 한 SQL 기록 - 배치 insert 는 배치마다 한 번만 준비됨
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        long inserts() {
+            return statements.stream().filter(sql -> sql.startsWith("insert")).count();
+        }
+    }
+
+    @Autowired
+    private NdjsonBulkImporter ndjsonBulkImporter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @BeforeEach
+    void setup() {
+        sqlCapture.statements.clear();
+    }
+
+    private static String ndjson(int rows) {
+        return IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> "{\"title\":\"제목" + i + "\",\"content\":\"내용" + i + "\"}")
+                .collect(Collectors.joining("\n"));
+    }
+
+    private long boardCount() {
+        return entityManager.createQuery("select count(b) from Board b", Long.class).getSingleResult();
+    }
+
+    @Test
+    @DisplayName("NDJSON 의 각 줄을 엔티티로 저장하고, insert 를 배치 크기만큼 묶어 실행한다.")
+    void importInBatches() {
+        long imported = ndjsonBulkImporter.importNdjson(
+                new StringReader(ndjson(120) + "\n\n"), BoardRow.class, row -> new Board(row.title(), row.content()));
+
+        assertThat(imported).isEqualTo(120);
+        assertThat(boardCount()).isEqualTo(120);
+        assertThat(sqlCapture.inserts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 중간에 파싱할 수 없는 줄이 있으면 커밋되지 않은 배치의 첫 줄을 재개 위치로 알리고, 이전 배치까지만 저장된다.")
+    void invalidLine() {
+        String input = ndjson(60) + "\n{invalid";
+
+        assertThatThrownBy(() -> ndjsonBulkImporter.importNdjson(
+                new StringReader(input), BoardRow.class, row -> new Board(row.title(), row.content())))
+                .isInstanceOfSatisfying(NdjsonImportException.class, e -> {
+                    assertThat(e.getFailedLine()).isEqualTo(61);
+                    assertThat(e.getResumeLine()).isEqualTo(51);
+                })
+                .hasMessageContaining("resume from line: 51");
+        assertThat(boardCount()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("엔티티 변환에 실패해도 커밋되지 않은 배치의 첫 줄부터 다시 적재하면 누락 / 중복 없이 이어진다.")
+    void resumeAfterConversionFailure() {
+        String input = ndjson(120);
+
+        NdjsonImportException failure = catchThrowableOfType(NdjsonImportException.class, () -> ndjsonBulkImporter.importNdjson(
+                new StringReader(input), BoardRow.class, row -> {
+                    if (row.title().equals("제목75")) {
+                        throw new IllegalStateException("변환 실패");
+                    }
+                    return new Board(row.title(), row.content());
+                }));
+        assertThat(failure.getFailedLine()).isEqualTo(75);
+        assertThat(failure.getResumeLine()).isEqualTo(51);
+        assertThat(boardCount()).isEqualTo(50);
+
+        String remaining = input.lines().skip(failure.getResumeLine() - 1).collect(Collectors.joining("\n"));
+        ndjsonBulkImporter.importNdjson(
+                new StringReader(remaining), BoardRow.class, row -> new Board(row.title(), row.content()));
+
+        assertThat(entityManager.createQuery("select count(distinct b.title) from Board b", Long.class).getSingleResult())
+                .isEqualTo(120);
+        assertThat(boardCount()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("마지막 배치 저장에 실패하면 실패한 배치의 첫 줄을 재개 위치로 알린다.")
+    void persistFailure() {
+        String input = ndjson(60) + "\n\n" + ndjson(30);
+
+        assertThatThrownBy(() -> ndjsonBulkImporter.importNdjson(
+                new StringReader(input), BoardRow.class,
+                row -> new Board(row.title().equals("제목55") ? null : row.title(), row.content())))
+                .isInstanceOfSatisfying(NdjsonImportException.class, e -> {
+                    assertThat(e.getFailedLine()).isEqualTo(91); // 실패한 배치 (51 ~ 91 줄, 61 줄은 빈 줄) 의 마지막 줄
+                    assertThat(e.getResumeLine()).isEqualTo(51);
+                });
+    }
+}
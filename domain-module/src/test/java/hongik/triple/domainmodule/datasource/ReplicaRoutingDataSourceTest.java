@@ -0,0 +1,186 @@
+package hongik.triple.domainmodule.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource 테스트 (H2 인메모리 DB 를 primary / 복제본으로 사용)")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "jdbc:h2:mem:primary";
+    private static final String REPLICA_1 = "jdbc:h2:mem:replica1";
+    private static final String REPLICA_2 = "jdbc:h2:mem:replica2";
+
+    private final SwitchableDataSource replica1 = new SwitchableDataSource(h2(REPLICA_1));
+    private final SwitchableDataSource replica2 = new SwitchableDataSource(h2(REPLICA_2));
+    private final ReadAfterWriteGuard readAfterWriteGuard = new ReadAfterWriteGuard(Duration.ofMinutes(1));
+
+    private ReplicaPool replicaPool;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        replicaPool = new ReplicaPool(List.of(replica1, replica2), 0, null);
+        dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(h2(PRIMARY), replicaPool, readAfterWriteGuard));
+    }
+
+    private static DataSource h2(String url) {
+        return new DriverManagerDataSource(url + ";DB_CLOSE_DELAY=-1");
+    }
+
+    // 테스트용 장애 전환이 가능한 DataSource
+    private static class SwitchableDataSource extends DelegatingDataSource {
+
+        private final AtomicBoolean down = new AtomicBoolean();
+
+        private SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down.get()) {
+                throw new SQLException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+
+    // 트랜잭션 안에서 실제로 사용된 DB URL
+    private String urlInTransaction(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                return connection.getMetaData().getURL();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 라우팅은")
+    class RoutingTest {
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 primary 로 보낸다.")
+        void readOnlyToReplica() {
+            assertThat(urlInTransaction(true)).startsWith(REPLICA_1);
+            assertThat(urlInTransaction(false)).startsWith(PRIMARY);
+        }
+
+        @Test
+        @DisplayName("쓰기를 커밋한 클라이언트의 읽기는 primary 로 보내고, 다른 클라이언트는 복제본을 사용한다.")
+        void readAfterWrite() {
+            try {
+                readAfterWriteGuard.bind("1");
+                assertThat(urlInTransaction(true)).startsWith(REPLICA_1);
+                urlInTransaction(false);
+                assertThat(urlInTransaction(true)).startsWith(PRIMARY);
+
+                readAfterWriteGuard.bind("2");
+                assertThat(urlInTransaction(true)).startsWith(REPLICA_1);
+            } finally {
+                readAfterWriteGuard.unbind();
+            }
+        }
+
+        @Test
+        @DisplayName("readFromPrimary 구간의 읽기는 primary 로 보내고, 쓰기로 기록하지 않는다.")
+        void readFromPrimary() {
+            try {
+                readAfterWriteGuard.bind("1");
+                assertThat(readAfterWriteGuard.readFromPrimary(() -> urlInTransaction(true))).startsWith(PRIMARY);
+                assertThat(urlInTransaction(true)).startsWith(REPLICA_1);
+            } finally {
+                readAfterWriteGuard.unbind();
+            }
+        }
+
+        @Test
+        @DisplayName("보호 구간이 0이면 쓰기 후에도 복제본을 사용한다.")
+        void readAfterWriteDisabled() {
+            ReadAfterWriteGuard disabled = new ReadAfterWriteGuard(Duration.ZERO);
+            dataSource = new LazyConnectionDataSourceProxy(
+                    new ReplicaRoutingDataSource(h2(PRIMARY), replicaPool, disabled));
+            try {
+                disabled.bind("1");
+                urlInTransaction(false);
+                assertThat(urlInTransaction(true)).startsWith(REPLICA_1);
+            } finally {
+                disabled.unbind();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("복제본 풀은")
+    class ReplicaPoolTest {
+
+        @Test
+        @DisplayName("사용 중인 커넥션이 가장 적은 복제본을 선택한다.")
+        void leastConnections() throws SQLException {
+            try (Connection first = replicaPool.acquire().orElseThrow();
+                 Connection second = replicaPool.acquire().orElseThrow()) {
+                assertThat(first.getMetaData().getURL()).startsWith(REPLICA_1);
+                assertThat(second.getMetaData().getURL()).startsWith(REPLICA_2);
+
+                first.close();
+                try (Connection third = replicaPool.acquire().orElseThrow()) {
+                    assertThat(third.getMetaData().getURL()).startsWith(REPLICA_1);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("커넥션 획득에 실패한 복제본은 제외하고, 헬스 체크가 성공하면 복귀시킨다.")
+        void ejectAndRecover() {
+            replica1.down.set(true);
+            assertThat(urlInTransaction(true)).startsWith(REPLICA_2);
+
+            replica1.down.set(false);
+            assertThat(urlInTransaction(true)).startsWith(REPLICA_2);
+
+            replicaPool.checkHealth();
+            assertThat(urlInTransaction(true)).startsWith(REPLICA_1);
+        }
+
+        @Test
+        @DisplayName("헬스 체크에 실패한 복제본은 제외한다.")
+        void ejectOnHealthCheck() {
+            replica1.down.set(true);
+            replicaPool.checkHealth();
+            replica1.down.set(false);
+
+            assertThat(urlInTransaction(true)).startsWith(REPLICA_2);
+        }
+
+        @Test
+        @DisplayName("사용 가능한 복제본이 없으면 읽기 전용 트랜잭션도 primary 로 보낸다.")
+        void allReplicasDown() {
+            replica1.down.set(true);
+            replica2.down.set(true);
+
+            assertThat(urlInTransaction(true)).startsWith(PRIMARY);
+        }
+    }
+}
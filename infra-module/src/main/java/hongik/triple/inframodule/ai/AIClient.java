@@ -1,30 +1,54 @@
 package hongik.triple.inframodule.ai;
 
 import hongik.triple.commonmodule.dto.analysis.AnalysisData;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.inframodule.image.ImageFile;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Component
 public class AIClient {
 
     private final WebClient webClient;
+    private final PredictBatchClient predictBatchClient; // 배치 모드 비활성화 시 null
+    private final PredictionCache predictionCache;
+    private final long batchTimeoutMillis;
 
     /**
      * WebClient를 사용하여 FastAPI 서버와 통신
      *
-     * @param webClientBuilder WebClient 빌더
+     * @param webClient AI 서버 전용 커넥션 풀을 사용하는 WebClient
      * @param baseUrl FastAPI 서버의 URL (application-infra.yml 에서 주입)
+     * @param predictBatchClient 배치 예측 클라이언트 (ai.batch.enabled=true 인 경우에만 존재)
+     * @param predictionCache 이미지 내용 기반 예측 결과 캐시
+     * @param batchTimeoutMillis 배치 응답 최대 대기 시간 (대기열 대기 + AI 서버 응답 시간)
      */
-    public AIClient(WebClient.Builder webClientBuilder,
-                    @Value("${ai.server-url}") String baseUrl) {
+    public AIClient(@Qualifier("aiWebClient") WebClient webClient,
+                    @Value("${ai.server-url}") String baseUrl,
+                    ObjectProvider<PredictBatchClient> predictBatchClient,
+                    PredictionCache predictionCache,
+                    @Value("${ai.batch.await-timeout-ms:35000}") long batchTimeoutMillis) {
         System.out.println("AIClient initialized with baseUrl: " + baseUrl);
-        this.webClient = webClientBuilder
+        this.webClient = webClient.mutate()
                 .baseUrl(baseUrl) // 환경설정 값 사용
                 .build();
+        this.predictBatchClient = predictBatchClient.getIfAvailable();
+        this.predictionCache = predictionCache;
+        this.batchTimeoutMillis = batchTimeoutMillis;
     }
 
     /**
@@ -34,12 +58,82 @@ public class AIClient {
      * @return FastAPI 모델의 JSON 응답
      */
     public AnalysisData sendPredictRequest(MultipartFile file) {
+        return sendPredictRequest(ImageFile.from(file));
+    }
+
+    /**
+     * FastAPI 서버로 이미지 전송 후 예측 결과 받기 (메모리에 보관된 이미지)
+     * - 같은 이미지에 대한 이전 결과가 캐시에 있으면 추론을 생략
+     *
+     * @param file 업로드할 이미지
+     * @return FastAPI 모델의 JSON 응답
+     */
+    public AnalysisData sendPredictRequest(ImageFile file) {
+        return sendPredictRequest(file, predictionCache.keyOf(file));
+    }
+
+    /**
+     * FastAPI 서버로 이미지 전송 후 예측 결과 받기 (캐시 조회에 사용한 키를 그대로 사용하여 이미지를 다시 해시하지 않음)
+     *
+     * @param file 업로드할 이미지
+     * @param key predictionKey 로 계산한 캐시 키
+     * @return FastAPI 모델의 JSON 응답
+     */
+    public AnalysisData sendPredictRequest(ImageFile file, PredictionKey key) {
+        return predictionCache.get(key, () -> predict(file));
+    }
+
+    /**
+     * 예측 결과 캐시 키 계산 (이미지 내용 해시, 분석당 한 번만 호출)
+     *
+     * @param file 예측할 이미지 파일
+     * @return findCachedPrediction / sendPredictRequest 에 전달할 키
+     */
+    public PredictionKey predictionKey(ImageFile file) {
+        return predictionCache.keyOf(file);
+    }
+
+    /**
+     * 캐시된 예측 결과 조회 (AI 서버를 호출하지 않음)
+     *
+     * @param key predictionKey 로 계산한 캐시 키
+     * @return 같은 이미지의 이전 예측 결과
+     */
+    public Optional<AnalysisData> findCachedPrediction(PredictionKey key) {
+        return predictionCache.find(key);
+    }
+
+    private AnalysisData predict(ImageFile file) {
+        if (predictBatchClient != null) {
+            return awaitBatchResult(predictBatchClient.submit(file));
+        }
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        file.addPart(builder, "file");
+
         return webClient.post()
                 .uri("/predict")
                 .contentType(MediaType.MULTIPART_FORM_DATA)
-                .body(BodyInserters.fromMultipartData("file", file.getResource()))
+                .body(BodyInserters.fromMultipartData(builder.build()))
                 .retrieve()
                 .bodyToMono(AnalysisData.class)
                 .block();
     }
-}
\ No newline at end of file
+
+    /*
+    배치 응답 대기 (배치 전송 중 발생한 예외는 원본 예외로 전달, 대기 시간 초과 시 AI 서버 혼잡으로 처리)
+     */
+    private AnalysisData awaitBatchResult(CompletableFuture<AnalysisData> result) {
+        try {
+            return result.orTimeout(batchTimeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ApplicationException(ErrorCode.AI_SERVER_BUSY);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package hongik.triple.inframodule.ai;
+
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.commonmodule.exception.RetryableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AI 추론 동시 실행 제한 (bulkhead)
+ * - 모델 서버로 동시에 보내는 요청 수를 제한하고, 초과분은 제한된 크기의 대기열에서 대기
+ * - 대기열은 회원별로 나누어 라운드 로빈으로 슬롯을 배정 (한 회원이 슬롯을 독점하지 못하도록)
+ * - 회원당 진행 중 요청 한도를 넘으면 429, 대기열이 가득 차거나 대기 시간이 초과되면 503 으로 즉시 거절 (Retry-After 포함)
+ */
+@Component
+public class InferenceBulkhead {
+
+    private static final String REJECTED_COUNTER = "acnelog.ai.bulkhead.rejected";
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long maxWaitMillis;
+    private final int perMemberLimit;
+    private final long retryAfterSeconds;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, ArrayDeque<Waiter>> waiting = new LinkedHashMap<>(); // 순회 순서 = 라운드 로빈 순서
+    private final Map<Long, Integer> memberUsage = new HashMap<>(); // 회원별 진행 중 + 대기 중 요청 수
+    private int inFlight;
+    private int queued;
+
+    public InferenceBulkhead(MeterRegistry meterRegistry,
+                             @Value("${ai.bulkhead.max-concurrent:8}") int maxConcurrent,
+                             @Value("${ai.bulkhead.queue-capacity:32}") int queueCapacity,
+                             @Value("${ai.bulkhead.max-wait-ms:10000}") long maxWaitMillis,
+                             @Value("${ai.bulkhead.per-member-limit:2}") int perMemberLimit,
+                             @Value("${ai.bulkhead.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitMillis = maxWaitMillis;
+        this.perMemberLimit = perMemberLimit;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("acnelog.ai.bulkhead.in-flight", this, InferenceBulkhead::inFlight).register(meterRegistry);
+        Gauge.builder("acnelog.ai.bulkhead.queued", this, InferenceBulkhead::queued).register(meterRegistry);
+        Gauge.builder("acnelog.ai.bulkhead.max-concurrent", () -> maxConcurrent).register(meterRegistry);
+        Gauge.builder("acnelog.ai.bulkhead.queue-capacity", () -> queueCapacity).register(meterRegistry);
+    }
+
+    /**
+     * 슬롯을 확보한 뒤 추론 실행
+     * @param memberId 요청 회원 ID (공정성 단위)
+     * @param inference 추론 호출
+     * @return 추론 결과
+     */
+    public <T> T execute(Long memberId, Supplier<T> inference) {
+        acquire(memberId);
+        try {
+            return inference.get();
+        } finally {
+            release(memberId);
+        }
+    }
+
+    private void acquire(Long memberId) {
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (memberUsage.getOrDefault(memberId, 0) >= perMemberLimit) {
+                throw reject("member_limit", ErrorCode.TOO_MANY_ANALYSIS_REQUESTS);
+            }
+            if (inFlight < maxConcurrent && queued == 0) {
+                inFlight++;
+                memberUsage.merge(memberId, 1, Integer::sum);
+                return;
+            }
+            if (queued >= queueCapacity) {
+                throw reject("queue_full", ErrorCode.AI_SERVER_BUSY);
+            }
+
+            waiter = new Waiter();
+            waiting.computeIfAbsent(memberId, key -> new ArrayDeque<>()).addLast(waiter);
+            queued++;
+            memberUsage.merge(memberId, 1, Integer::sum);
+        } finally {
+            lock.unlock();
+        }
+
+        await(memberId, waiter);
+    }
+
+    /*
+    슬롯 배정 대기 (시간 초과 / 인터럽트 시 대기열에서 제거, 그 사이에 배정되었다면 그대로 진행)
+     */
+    private void await(Long memberId, Waiter waiter) {
+        boolean interrupted = false;
+        try {
+            waiter.latch.await(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+
+        lock.lock();
+        try {
+            if (waiter.granted) {
+                return;
+            }
+
+            ArrayDeque<Waiter> queue = waiting.get(memberId);
+            queue.remove(waiter);
+            if (queue.isEmpty()) {
+                waiting.remove(memberId);
+            }
+            queued--;
+            decrementUsage(memberId);
+        } finally {
+            lock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        throw reject("timeout", ErrorCode.AI_SERVER_BUSY);
+    }
+
+    /*
+    반납된 슬롯은 다음 회원의 대기 요청에 바로 넘김 (in-flight 수는 유지)
+     */
+    private void release(Long memberId) {
+        lock.lock();
+        try {
+            decrementUsage(memberId);
+
+            Waiter next = pollNextWaiter();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+            queued--;
+            next.granted = true;
+            next.latch.countDown();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    맨 앞 회원의 대기 요청을 꺼내고, 남은 요청이 있으면 해당 회원을 맨 뒤로 보냄
+     */
+    private Waiter pollNextWaiter() {
+        Iterator<Map.Entry<Long, ArrayDeque<Waiter>>> iterator = waiting.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+
+        Map.Entry<Long, ArrayDeque<Waiter>> head = iterator.next();
+        iterator.remove();
+
+        ArrayDeque<Waiter> queue = head.getValue();
+        Waiter next = queue.pollFirst();
+        if (!queue.isEmpty()) {
+            waiting.put(head.getKey(), queue);
+        }
+        return next;
+    }
+
+    private void decrementUsage(Long memberId) {
+        memberUsage.computeIfPresent(memberId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private RetryableException reject(String reason, ErrorCode errorCode) {
+        meterRegistry.counter(REJECTED_COUNTER, "reason", reason).increment();
+        return new RetryableException(errorCode, retryAfterSeconds);
+    }
+
+    private int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private boolean granted; // lock 안에서만 읽고 씀
+    }
+}
@@ -0,0 +1,181 @@
+package hongik.triple.inframodule.ai;
+
+import hongik.triple.commonmodule.dto.analysis.AnalysisData;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.inframodule.image.ImageFile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 서버 배치 예측 클라이언트 (ai.batch.enabled=true 인 경우에만 활성화)
+ * - 동시에 들어온 예측 요청을 최대 N개 또는 T밀리초 동안 모아 한 번의 /predict/batch 호출로 전송
+ * - 응답은 요청 순서대로 반환된다고 가정하고, 각 요청자에게 결과를 나누어 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.batch.enabled", havingValue = "true")
+public class PredictBatchClient {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final WebClient webClient;
+    private final String batchPath;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingPrediction> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer queueWaitTimer;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public PredictBatchClient(@Qualifier("aiWebClient") WebClient webClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${ai.server-url}") String baseUrl,
+                              @Value("${ai.batch.path:/predict/batch}") String batchPath,
+                              @Value("${ai.batch.max-size:8}") int maxBatchSize,
+                              @Value("${ai.batch.linger-ms:20}") long lingerMillis,
+                              @Value("${ai.batch.queue-capacity:64}") int queueCapacity) {
+        this.webClient = webClient.mutate().baseUrl(baseUrl).build();
+        this.batchPath = batchPath;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        // 설정값과 현재 대기열 상태를 함께 노출
+        Gauge.builder("acnelog.ai.batch.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("acnelog.ai.batch.queue.capacity", () -> queueCapacity).register(meterRegistry);
+        Gauge.builder("acnelog.ai.batch.max-size", () -> maxBatchSize).register(meterRegistry);
+        Gauge.builder("acnelog.ai.batch.linger", () -> lingerMillis).baseUnit("milliseconds").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("acnelog.ai.batch.size").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("acnelog.ai.batch.queue.wait").register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "ai-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 예측 요청을 대기열에 등록하고, 배치 응답이 도착하면 완료되는 Future 반환
+     */
+    public CompletableFuture<AnalysisData> submit(ImageFile file) {
+        PendingPrediction prediction = new PendingPrediction(file, System.nanoTime(), new CompletableFuture<>());
+        if (!running || !queue.offer(prediction)) {
+            throw new ApplicationException(ErrorCode.AI_SERVER_BUSY);
+        }
+        return prediction.result();
+    }
+
+    /*
+    대기열에서 요청을 모아 배치 단위로 전송 (첫 요청 도착 후 linger 시간 또는 최대 배치 크기까지 수집)
+     */
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingPrediction first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingPrediction> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingPrediction next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("AI 배치 전송 중 예외 발생", e);
+            }
+        }
+    }
+
+    /*
+    배치 전송 (응답을 기다리지 않고 다음 배치 수집을 계속함)
+     */
+    private void send(List<PendingPrediction> batch) {
+        long now = System.nanoTime();
+        batch.forEach(prediction -> queueWaitTimer.record(now - prediction.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSizeSummary.record(batch.size());
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        batch.forEach(prediction -> prediction.file().addPart(builder, "files"));
+
+        webClient.post()
+                .uri(batchPath)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<AnalysisData>>() {})
+                // 본문이 없는 2xx (204 등) 응답은 onNext 없이 완료되므로, 대기 중인 요청이 남지 않도록 실패로 전환
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI batch response is empty")))
+                .subscribe(
+                        results -> complete(batch, results),
+                        error -> batch.forEach(prediction -> prediction.result().completeExceptionally(error))
+                );
+    }
+
+    private void complete(List<PendingPrediction> batch, List<AnalysisData> results) {
+        if (results == null || results.size() != batch.size()) {
+            IllegalStateException error = new IllegalStateException(
+                    "AI batch response size mismatch: expected " + batch.size()
+                            + ", actual " + (results == null ? 0 : results.size()));
+            batch.forEach(prediction -> prediction.result().completeExceptionally(error));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+
+        // 전송되지 못한 요청은 실패 처리
+        List<PendingPrediction> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(prediction ->
+                prediction.result().completeExceptionally(new ApplicationException(ErrorCode.AI_SERVER_BUSY)));
+    }
+
+    private record PendingPrediction(
+            ImageFile file,
+            long enqueuedAt,
+            CompletableFuture<AnalysisData> result
+    ) {
+    }
+}
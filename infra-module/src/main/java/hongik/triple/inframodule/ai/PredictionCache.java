@@ -0,0 +1,174 @@
+package hongik.triple.inframodule.ai;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hongik.triple.commonmodule.dto.analysis.AnalysisData;
+import hongik.triple.inframodule.image.ImageFile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 예측 결과 로컬 캐시
+ * - 재시도 / 중복 요청으로 같은 사진이 다시 들어오면 /predict 호출 없이 이전 결과를 반환
+ * - 키: 모델 버전 + 이미지 내용의 SHA-256 (모델이 바뀌면 이전 결과는 자연스럽게 무시됨), keyOf 로 한 번 계산하여 find / get 에 전달
+ * - 같은 키로 동시에 들어온 요청은 한 번만 추론하고 결과를 공유 (추론은 캐시 잠금 밖에서 실행되어 다른 키의 조회를 막지 않음)
+ */
+@Component
+public class PredictionCache {
+
+    private static final String CACHE_NAME = "ai-prediction";
+    private static final String SAVED_LATENCY_TIMER = "acnelog.ai.cache.saved.latency";
+    private static final PredictionKey DISABLED_KEY = new PredictionKey("");
+
+    private final boolean enabled;
+    private final String modelVersion;
+    private final AsyncCache<PredictionKey, CachedPrediction> cache;
+    private final Timer savedLatencyTimer;
+
+    public PredictionCache(MeterRegistry meterRegistry,
+                           @Value("${ai.cache.enabled:true}") boolean enabled,
+                           @Value("${ai.model-version:v1}") String modelVersion,
+                           @Value("${ai.cache.ttl-minutes:60}") long ttlMinutes,
+                           @Value("${ai.cache.max-size:1000}") long maxSize) {
+        this.enabled = enabled;
+        this.modelVersion = modelVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .buildAsync();
+        this.savedLatencyTimer = Timer.builder(SAVED_LATENCY_TIMER)
+                .description("캐시 적중으로 생략된 AI 추론 시간")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 이미지의 캐시 키 계산 (이미지 전체를 해시하므로 분석당 한 번만 호출, 캐시를 끄면 해시하지 않음)
+     * @param image 예측할 이미지
+     * @return find / get 에 전달할 키
+     */
+    public PredictionKey keyOf(ImageFile image) {
+        if (!enabled) {
+            return DISABLED_KEY;
+        }
+        return new PredictionKey(modelVersion + ":" + sha256(image.getContent()));
+    }
+
+    /**
+     * 캐시된 예측 결과 조회 (없으면 추론 후 저장)
+     * @param key keyOf 로 계산한 키
+     * @param predictor 실제 추론 호출
+     * @return 예측 결과
+     */
+    public AnalysisData get(PredictionKey key, Supplier<AnalysisData> predictor) {
+        if (!enabled) {
+            return predictor.get();
+        }
+
+        // 진행 중인 추론이 없으면 미완료 Future 를 등록하고, 추론은 잠금을 잡지 않은 채 호출 스레드에서 실행
+        CompletableFuture<CachedPrediction> created = new CompletableFuture<>();
+        CompletableFuture<CachedPrediction> future = cache.get(key, (ignored, executor) -> created);
+        if (future == created) {
+            return load(created, predictor);
+        }
+
+        // 이미 완료된 결과만 캐시 적중으로 보고, 진행 중인 추론을 기다린 경우는 절약 시간으로 기록하지 않음
+        boolean hit = future.isDone();
+        CachedPrediction cached = await(future);
+        if (cached == null) {
+            return null;
+        }
+        if (hit) {
+            savedLatencyTimer.record(cached.latencyNanos(), TimeUnit.NANOSECONDS);
+        }
+        return cached.data();
+    }
+
+    /**
+     * 이미 완료된 예측 결과만 조회 (추론하지 않음, 진행 중인 추론도 기다리지 않음)
+     * - 추론 슬롯 (InferenceBulkhead) 을 잡기 전에 확인하여, 캐시 적중 요청이 대기열에서 기다리거나 거절되지 않도록 함
+     * @param key keyOf 로 계산한 키
+     * @return 캐시된 예측 결과
+     */
+    public Optional<AnalysisData> find(PredictionKey key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CompletableFuture<CachedPrediction> future = cache.getIfPresent(key);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+
+        CachedPrediction cached = future.join();
+        if (cached == null) {
+            return Optional.empty();
+        }
+        savedLatencyTimer.record(cached.latencyNanos(), TimeUnit.NANOSECONDS);
+        return Optional.of(cached.data());
+    }
+
+    /*
+    추론 후 결과로 Future 완료 (실패 / null 결과는 Caffeine 이 캐시에서 제거하므로 다음 요청이 다시 추론)
+     */
+    private AnalysisData load(CompletableFuture<CachedPrediction> created, Supplier<AnalysisData> predictor) {
+        long start = System.nanoTime();
+        try {
+            AnalysisData result = predictor.get();
+            created.complete(result == null ? null : new CachedPrediction(result, System.nanoTime() - start));
+            return result;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /*
+    다른 요청이 진행 중인 추론 결과 대기 (추론 중 발생한 예외는 원본 예외로 전달)
+     */
+    private CachedPrediction await(CompletableFuture<CachedPrediction> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String sha256(ByteBuffer content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /*
+    예측 결과와 당시 추론에 걸린 시간 (적중 시 절약된 시간으로 기록)
+     */
+    private record CachedPrediction(
+            AnalysisData data,
+            long latencyNanos
+    ) {
+    }
+}
@@ -0,0 +1,10 @@
+package hongik.triple.inframodule.ai;
+
+/**
+ * 예측 결과 캐시 키 (모델 버전 + 이미지 내용의 SHA-256)
+ * - 이미지 해시는 분석 한 번에 한 번만 계산하도록, 캐시 조회 (find) 와 추론 (get) 에 같은 키를 전달
+ */
+public record PredictionKey(
+        String value
+) {
+}
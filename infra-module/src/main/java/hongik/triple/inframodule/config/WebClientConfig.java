@@ -0,0 +1,120 @@
+package hongik.triple.inframodule.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 HTTP 호출용 WebClient 설정
+ * - 외부 서버 (upstream) 별로 이름 있는 커넥션 풀을 두고, 모든 클라이언트가 이를 재사용 (요청마다 TCP/TLS 연결을 새로 맺지 않음)
+ * - 풀 크기 / 대기 한도 / 유휴 연결 정리 / connect·read·response timeout / keep-alive 설정
+ * - 풀 및 요청 지표는 Micrometer (reactor.netty.*) 로 노출
+ * - 설정: outbound.{upstream}.{max-connections | pending-acquire-max | pending-acquire-timeout-ms | max-idle-seconds |
+ *   max-life-seconds | connect-timeout-ms | read-timeout-ms | response-timeout-ms}
+ */
+@Configuration
+public class WebClientConfig {
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private final WebClient.Builder webClientBuilder;
+    private final Environment environment;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    public WebClientConfig(WebClient.Builder webClientBuilder, Environment environment) {
+        this.webClientBuilder = webClientBuilder;
+        this.environment = environment;
+    }
+
+    @Bean
+    public WebClient aiWebClient() {
+        // 이미지 업로드 + 모델 추론을 기다려야 하므로 응답 대기 시간을 길게 설정
+        return create("ai", new PoolDefaults(32, 2_000, 30_000, 30_000));
+    }
+
+    @Bean
+    public WebClient youtubeWebClient() {
+        return create("youtube", new PoolDefaults(50, 1_000, 3_000, 3_000));
+    }
+
+    @Bean
+    public WebClient naverWebClient() {
+        return create("naver", new PoolDefaults(50, 1_000, 3_000, 3_000));
+    }
+
+    @Bean
+    public WebClient kakaoWebClient() {
+        return create("kakao", new PoolDefaults(20, 1_000, 5_000, 5_000));
+    }
+
+    @Bean
+    public WebClient googleWebClient() {
+        return create("google", new PoolDefaults(20, 1_000, 5_000, 5_000));
+    }
+
+    /*
+    upstream 전용 커넥션 풀을 사용하는 WebClient 생성
+     */
+    private WebClient create(String upstream, PoolDefaults defaults) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(upstream)
+                .maxConnections(property(upstream, "max-connections", defaults.maxConnections()))
+                .pendingAcquireMaxCount(property(upstream, "pending-acquire-max", defaults.maxConnections() * 2))
+                .pendingAcquireTimeout(Duration.ofMillis(property(upstream, "pending-acquire-timeout-ms", 2_000)))
+                .maxIdleTime(Duration.ofSeconds(property(upstream, "max-idle-seconds", 30))) // LB / 서버의 idle timeout 보다 짧게
+                .maxLifeTime(Duration.ofSeconds(property(upstream, "max-life-seconds", 300)))
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true)
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        int readTimeoutMillis = property(upstream, "read-timeout-ms", defaults.readTimeoutMillis());
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, property(upstream, "connect-timeout-ms", defaults.connectTimeoutMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(property(upstream, "response-timeout-ms", defaults.responseTimeoutMillis())))
+                // 요청 단위로 추가한 핸들러는 커넥션이 풀에 반납될 때 제거됨 (유휴 커넥션에는 적용되지 않음)
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)))
+                // 쿼리 스트링을 제외한 경로만 태그로 사용 (지표 cardinality 제한)
+                .metrics(true, uri -> {
+                    int query = uri.indexOf('?');
+                    return query < 0 ? uri : uri.substring(0, query);
+                });
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private int property(String upstream, String key, int defaultValue) {
+        return environment.getProperty("outbound." + upstream + "." + key, Integer.class, defaultValue);
+    }
+
+    @PreDestroy
+    public void disposeConnectionProviders() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private record PoolDefaults(
+            int maxConnections,
+            int connectTimeoutMillis,
+            int readTimeoutMillis,
+            int responseTimeoutMillis
+    ) {
+    }
+}
@@ -0,0 +1,54 @@
+package hongik.triple.inframodule.image;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 크기 direct buffer 풀
+ * - 필요할 때만 할당하며, 최대 개수를 넘으면 null 을 반환 (호출 측에서 디스크로 대체)
+ */
+final class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final BlockingQueue<ByteBuffer> idle;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    DirectBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, maxBuffers));
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        if (allocated.incrementAndGet() > maxBuffers) {
+            allocated.decrementAndGet();
+            return null;
+        }
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        idle.offer(buffer);
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    int allocated() {
+        return allocated.get();
+    }
+
+    int inUse() {
+        return allocated.get() - idle.size();
+    }
+}
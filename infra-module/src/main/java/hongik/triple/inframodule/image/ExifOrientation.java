@@ -0,0 +1,90 @@
+package hongik.triple.inframodule.image;
+
+import java.nio.ByteBuffer;
+
+/**
+ * JPEG EXIF 방향 정보 (Orientation, 0x0112) 파서
+ * - APP1(Exif) 세그먼트의 IFD0 만 읽으며, 값이 없거나 해석할 수 없으면 1(정방향) 반환
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    static int read(ByteBuffer jpeg) {
+        try {
+            if (u8(jpeg, 0) != 0xFF || u8(jpeg, 1) != 0xD8) { // SOI
+                return NORMAL;
+            }
+
+            int offset = 2;
+            while (offset + 4 <= jpeg.limit()) {
+                if (u8(jpeg, offset) != 0xFF) {
+                    return NORMAL;
+                }
+                int marker = u8(jpeg, offset + 1);
+                if (marker == 0xDA || marker == 0xD9) { // SOS, EOI 이후에는 메타데이터가 없음
+                    return NORMAL;
+                }
+
+                int length = u16(jpeg, offset + 2, false);
+                if (marker == 0xE1 && isExif(jpeg, offset + 4)) {
+                    return readTiff(jpeg, offset + 10, Math.min(jpeg.limit(), offset + 2 + length));
+                }
+                offset += 2 + length;
+            }
+            return NORMAL;
+        } catch (IndexOutOfBoundsException e) {
+            return NORMAL;
+        }
+    }
+
+    private static boolean isExif(ByteBuffer b, int offset) {
+        return b.get(offset) == 'E' && b.get(offset + 1) == 'x' && b.get(offset + 2) == 'i' && b.get(offset + 3) == 'f'
+                && b.get(offset + 4) == 0 && b.get(offset + 5) == 0;
+    }
+
+    /*
+    TIFF 헤더 (II: little endian, MM: big endian) 이후 IFD0 의 Orientation 태그 탐색
+     */
+    private static int readTiff(ByteBuffer b, int start, int end) {
+        boolean littleEndian = b.get(start) == 'I' && b.get(start + 1) == 'I';
+        int ifd = start + (int) u32(b, start + 4, littleEndian);
+        if (ifd + 2 > end) {
+            return NORMAL;
+        }
+
+        int entries = u16(b, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (u16(b, entry, littleEndian) == ORIENTATION_TAG) {
+                int value = u16(b, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int u8(ByteBuffer b, int offset) {
+        return b.get(offset) & 0xFF;
+    }
+
+    private static int u16(ByteBuffer b, int offset, boolean littleEndian) {
+        return littleEndian
+                ? u8(b, offset) | u8(b, offset + 1) << 8
+                : u8(b, offset) << 8 | u8(b, offset + 1);
+    }
+
+    private static long u32(ByteBuffer b, int offset, boolean littleEndian) {
+        return littleEndian
+                ? (long) u16(b, offset + 2, true) << 16 | u16(b, offset, true)
+                : (long) u16(b, offset, false) << 16 | u16(b, offset + 2, false);
+    }
+}
@@ -0,0 +1,118 @@
+package hongik.triple.inframodule.image;
+
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 스레드 밖에서도 사용할 수 있도록 보관한 업로드 이미지
+ * - MultipartFile은 요청 종료 시 임시 파일이 삭제되므로, 비동기 처리 시에는 이 객체로 전달
+ * - 내용은 ByteBuffer (힙 / 풀링된 direct buffer / 매핑된 임시 파일) 로 보관하며, 소비자에게는 복사 없는 읽기 전용 view 를 제공
+ * - 사용이 끝나면 close() 로 버퍼 / 임시 파일을 반납
+ */
+public class ImageFile implements AutoCloseable {
+
+    private static final Runnable NO_RELEASE = () -> {};
+
+    @Getter
+    private final String originalFilename;
+    @Getter
+    private final String contentType;
+    private final ByteBuffer content;
+    private final Runnable releaser;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private ImageFile(String originalFilename, String contentType, ByteBuffer content, Runnable releaser) {
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.content = content;
+        this.releaser = releaser;
+    }
+
+    public static ImageFile of(String originalFilename, String contentType, byte[] content) {
+        return new ImageFile(originalFilename, contentType, ByteBuffer.wrap(content), NO_RELEASE);
+    }
+
+    /*
+    외부 버퍼를 감싼 이미지 (close 시 releaser 호출)
+     */
+    static ImageFile of(String originalFilename, String contentType, ByteBuffer content, Runnable releaser) {
+        return new ImageFile(originalFilename, contentType, content, releaser);
+    }
+
+    public static ImageFile from(MultipartFile file) {
+        try {
+            return of(file.getOriginalFilename(), file.getContentType(), file.getBytes());
+        } catch (IOException e) {
+            throw new ApplicationException(ErrorCode.FILE_IO_EXCEPTION);
+        }
+    }
+
+    public long getSize() {
+        return content.remaining();
+    }
+
+    public boolean isEmpty() {
+        return !content.hasRemaining();
+    }
+
+    /*
+    복사 없는 읽기 전용 view (호출마다 독립적인 position 을 가짐)
+     */
+    public ByteBuffer getContent() {
+        return content.asReadOnlyBuffer();
+    }
+
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(getContent());
+    }
+
+    /*
+    일부 구간만 읽는 InputStream (multipart upload 의 part 전송용, 복사 없음)
+     */
+    public InputStream getInputStream(int offset, int length) {
+        return new ByteBufferInputStream(getContent().slice(offset, length));
+    }
+
+    /*
+    multipart 전송용 part 추가 (버퍼를 DataBuffer 로 감싸 그대로 전송, 파일 이름이 있어야 multipart file part로 인식됨)
+     */
+    public void addPart(MultipartBodyBuilder builder, String partName) {
+        builder.asyncPart(partName, Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(getContent())), DataBuffer.class)
+                .filename(originalFilename)
+                .contentType(MediaTypeFactory.getMediaType(originalFilename).orElse(MediaType.APPLICATION_OCTET_STREAM));
+    }
+
+    /*
+    반납할 버퍼가 없는 (힙) 이미지로 변환 - 원본의 close() 이후에도 계속 사용해야 할 때 사용
+    - 이미 힙 이미지라면 복사 없이 그대로 반환
+     */
+    public ImageFile detached() {
+        if (releaser == NO_RELEASE) {
+            return this;
+        }
+        ByteBuffer source = getContent();
+        byte[] copy = new byte[source.remaining()];
+        source.get(copy);
+        return of(originalFilename, contentType, copy);
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            releaser.run();
+        }
+    }
+}
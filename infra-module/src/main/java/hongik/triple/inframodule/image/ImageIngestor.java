@@ -0,0 +1,168 @@
+package hongik.triple.inframodule.image;
+
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 업로드 이미지 수집
+ * - 요청 본문을 정확히 한 번만 읽어 ImageFile 로 보관 (이후 소비자는 복사 없는 view 를 사용)
+ * - 임계값 이하: 풀링된 direct buffer 에 적재 (힙 사용량 / GC 부담 없음)
+ * - 임계값 초과 또는 풀 소진: 임시 파일로 옮긴 뒤 FileChannel 로 메모리 매핑
+ * - 사용 후 반드시 ImageFile.close() 로 반납해야 함
+ */
+@Slf4j
+@Component
+public class ImageIngestor {
+
+    private final DirectBufferPool bufferPool;
+    private final Path spillDirectory;
+    private final Counter spillCounter;
+
+    public ImageIngestor(MeterRegistry meterRegistry,
+                         @Value("${image.ingest.memory-threshold-kb:4096}") int memoryThresholdKb,
+                         @Value("${image.ingest.pool-size:16}") int poolSize,
+                         @Value("${image.ingest.spill-dir:${java.io.tmpdir}}") String spillDirectory) {
+        this.bufferPool = new DirectBufferPool(memoryThresholdKb * 1024, poolSize);
+        this.spillDirectory = Path.of(spillDirectory);
+
+        Gauge.builder("acnelog.image.ingest.buffer.allocated", bufferPool, DirectBufferPool::allocated).register(meterRegistry);
+        Gauge.builder("acnelog.image.ingest.buffer.in-use", bufferPool, DirectBufferPool::inUse).register(meterRegistry);
+        this.spillCounter = Counter.builder("acnelog.image.ingest.spill").register(meterRegistry);
+    }
+
+    /**
+     * 업로드 파일을 한 번 읽어 ImageFile 로 변환
+     * @param file 업로드된 파일
+     * @return 버퍼 또는 임시 파일에 보관된 이미지 (사용 후 close 필요)
+     */
+    public ImageFile ingest(MultipartFile file) {
+        try {
+            if (file.getSize() <= bufferPool.bufferSize()) {
+                ByteBuffer buffer = bufferPool.acquire();
+                if (buffer != null) {
+                    return readIntoBuffer(file.getOriginalFilename(), file.getContentType(), file, buffer);
+                }
+            }
+            // 디스크에 있는 multipart 임시 파일은 복사 없이 이동됨
+            return spillToDisk(file.getOriginalFilename(), file.getContentType(), path -> file.transferTo(path.toFile()));
+        } catch (IOException e) {
+            log.error("업로드 이미지 수집 실패: {}", file.getOriginalFilename(), e);
+            throw new ApplicationException(ErrorCode.FILE_IO_EXCEPTION);
+        }
+    }
+
+    /**
+     * 스트림 (ex. S3 객체) 을 한 번 읽어 ImageFile 로 변환
+     * @param filename 파일 이름
+     * @param contentType 콘텐츠 타입
+     * @param size 스트림 전체 크기
+     * @param input 읽을 스트림
+     * @return 버퍼 또는 임시 파일에 보관된 이미지 (사용 후 close 필요)
+     */
+    public ImageFile ingest(String filename, String contentType, long size, InputStream input) {
+        try {
+            if (size <= bufferPool.bufferSize()) {
+                ByteBuffer buffer = bufferPool.acquire();
+                if (buffer != null) {
+                    return readIntoBuffer(filename, contentType, () -> input, buffer);
+                }
+            }
+            return spillToDisk(filename, contentType, path -> Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING));
+        } catch (IOException e) {
+            log.error("이미지 수집 실패: {}", filename, e);
+            throw new ApplicationException(ErrorCode.FILE_IO_EXCEPTION);
+        }
+    }
+
+    private ImageFile readIntoBuffer(String filename, String contentType, InputStreamSource source, ByteBuffer buffer) throws IOException {
+        try (InputStream input = source.getInputStream();
+             ReadableByteChannel channel = Channels.newChannel(input)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+
+            // 버퍼가 가득 찼는데 입력이 남아 있으면 (선언된 크기보다 긴 입력) 잘라내지 않고 임시 파일로 옮김
+            ByteBuffer probe = ByteBuffer.allocate(1);
+            if (!buffer.hasRemaining() && channel.read(probe) > 0) {
+                log.warn("선언된 크기보다 긴 이미지 입력 - 임시 파일로 전환: {}", filename);
+                buffer.flip();
+                probe.flip();
+                ImageFile spilled = spillToDisk(filename, contentType, path -> {
+                    try (FileChannel out = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                        writeFully(out, buffer);
+                        writeFully(out, probe);
+                        input.transferTo(Channels.newOutputStream(out));
+                    }
+                });
+                bufferPool.release(buffer);
+                return spilled;
+            }
+        } catch (IOException | RuntimeException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+
+        buffer.flip();
+        return ImageFile.of(filename, contentType, buffer, () -> bufferPool.release(buffer));
+    }
+
+    private void writeFully(FileChannel out, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            out.write(source);
+        }
+    }
+
+    /*
+    임시 파일에 기록한 뒤 메모리 매핑
+     */
+    private ImageFile spillToDisk(String filename, String contentType, SpillWriter writer) throws IOException {
+        Path path = Files.createTempFile(spillDirectory, "acnelog-upload-", ".tmp");
+        try {
+            writer.write(path);
+
+            MappedByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            spillCounter.increment();
+            return ImageFile.of(filename, contentType, mapped, () -> delete(path));
+        } catch (IOException | RuntimeException e) {
+            delete(path);
+            throw e;
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SpillWriter {
+        void write(Path path) throws IOException;
+    }
+}
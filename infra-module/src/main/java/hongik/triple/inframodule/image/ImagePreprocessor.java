@@ -0,0 +1,251 @@
+package hongik.triple.inframodule.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 이미지 전처리 (ImageIO 기반, 네이티브 의존성 없음)
+ * - 한 번만 디코딩한 뒤 EXIF 방향을 적용하고 메타데이터를 제거
+ * - AI 모델 입력 크기와 저장용 최대 크기로 각각 축소한 JPEG 을 생성해 AI 호출과 S3 업로드에서 함께 사용
+ * - 목록 화면용 썸네일 (ImageVariant) 생성
+ * - 디코딩할 수 없는 형식이면 원본을 그대로 사용
+ */
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    private static final String OUTPUT_FORMAT = "jpeg";
+    private static final String OUTPUT_CONTENT_TYPE = "image/jpeg";
+    private static final String OUTPUT_EXTENSION = ".jpg";
+
+    private final boolean enabled;
+    private final int modelSize;
+    private final int storageSize;
+    private final float quality;
+
+    public ImagePreprocessor(@Value("${image.preprocess.enabled:true}") boolean enabled,
+                             @Value("${image.preprocess.model-size:512}") int modelSize,
+                             @Value("${image.preprocess.storage-size:1600}") int storageSize,
+                             @Value("${image.preprocess.quality:0.85}") float quality) {
+        this.enabled = enabled;
+        this.modelSize = modelSize;
+        this.storageSize = Math.max(storageSize, modelSize);
+        this.quality = quality;
+    }
+
+    /**
+     * 이미지 전처리
+     * @param image 업로드된 원본 이미지
+     * @return AI 모델 입력용 / S3 저장용 이미지
+     */
+    public PreprocessedImage preprocess(ImageFile image) {
+        if (!enabled) {
+            return PreprocessedImage.original(image);
+        }
+
+        try {
+            BufferedImage decoded = decode(image);
+            if (decoded == null) {
+                log.warn("이미지 전처리 생략 (지원하지 않는 형식): {}", image.getOriginalFilename());
+                return PreprocessedImage.original(image);
+            }
+
+            int orientation = ExifOrientation.read(image.getContent());
+            BufferedImage storage = orientAndFit(decoded, orientation, storageSize);
+            BufferedImage modelInput = fit(storage, modelSize);
+
+            String filename = toJpegFilename(image.getOriginalFilename());
+            return new PreprocessedImage(
+                    ImageFile.of(filename, OUTPUT_CONTENT_TYPE, encode(modelInput)),
+                    ImageFile.of(filename, OUTPUT_CONTENT_TYPE, encode(storage))
+            );
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 전처리 실패, 원본 사용: {}", image.getOriginalFilename(), e);
+            return PreprocessedImage.original(image);
+        }
+    }
+
+    /**
+     * 목록 화면용 썸네일 생성
+     * @param image S3 에 저장된 이미지 (또는 원본 이미지)
+     * @return 크기별 JPEG 썸네일 (디코딩할 수 없는 형식이면 빈 Map)
+     */
+    public Map<ImageVariant, ImageFile> thumbnails(ImageFile image) {
+        Map<ImageVariant, ImageFile> thumbnails = new EnumMap<>(ImageVariant.class);
+        try {
+            BufferedImage decoded = decode(image);
+            if (decoded == null) {
+                log.warn("썸네일 생성 생략 (지원하지 않는 형식): {}", image.getOriginalFilename());
+                return thumbnails;
+            }
+
+            // 큰 크기부터 축소하여 다음 크기의 입력으로 재사용
+            BufferedImage current = orientAndFit(decoded, ExifOrientation.read(image.getContent()), storageSize);
+            List<ImageVariant> variants = new ArrayList<>(List.of(ImageVariant.values()));
+            variants.sort(Comparator.comparingInt(ImageVariant::getSize).reversed());
+            for (ImageVariant variant : variants) {
+                current = fit(current, variant.getSize());
+                thumbnails.put(variant, ImageFile.of(
+                        variant.filenameOf(image.getOriginalFilename()), OUTPUT_CONTENT_TYPE, encode(current)));
+            }
+            return thumbnails;
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: {}", image.getOriginalFilename(), e);
+            return new EnumMap<>(ImageVariant.class);
+        }
+    }
+
+    /*
+    디코딩 (저장 크기보다 충분히 큰 이미지는 읽는 시점에 서브샘플링하여 메모리 사용량 절감)
+     */
+    private BufferedImage decode(ImageFile image) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(image.getInputStream())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true); // 메타데이터는 읽지 않음
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longSide / storageSize);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /*
+    EXIF 방향을 적용하면서 최대 크기에 맞게 축소 (투명 영역은 흰색으로 채움)
+     */
+    private BufferedImage orientAndFit(BufferedImage source, int orientation, int maxSize) {
+        BufferedImage fitted = fit(source, maxSize);
+        int width = fitted.getWidth();
+        int height = fitted.getHeight();
+        boolean swap = orientation >= 5;
+
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.drawImage(fitted, orientationTransform(orientation, width, height), null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /*
+    EXIF Orientation 값 (1~8) 에 해당하는 변환
+     */
+    private AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 역대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도 회전
+            default -> new AffineTransform();
+        };
+    }
+
+    /*
+    긴 변이 maxSize 이하가 되도록 축소 (확대하지 않음, 절반씩 단계적으로 줄여 화질 저하 방지)
+     */
+    private BufferedImage fit(BufferedImage source, int maxSize) {
+        int longSide = Math.max(source.getWidth(), source.getHeight());
+        if (longSide <= maxSize && source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+
+        double scale = Math.min(1.0, (double) maxSize / longSide);
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /*
+    JPEG 인코딩 (메타데이터 없이 기록)
+     */
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(OUTPUT_FORMAT).next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private String toJpegFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "image" + OUTPUT_EXTENSION;
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        String baseName = dot > 0 ? originalFilename.substring(0, dot) : originalFilename;
+        return baseName + OUTPUT_EXTENSION;
+    }
+}
@@ -0,0 +1,38 @@
+package hongik.triple.inframodule.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 화면용 썸네일 크기
+ * - 원본 이미지 key 에서 크기 접미사를 붙인 key 로 저장 (ex. skin/abc.jpg -> skin/abc_160.jpg)
+ * - 썸네일은 항상 JPEG 으로 저장
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    SMALL(160),
+    MEDIUM(480);
+
+    private static final String EXTENSION = ".jpg";
+
+    private final int size;
+
+    /*
+    원본 이미지 key 로부터 썸네일 key 생성
+     */
+    public String keyOf(String imageKey) {
+        int slash = imageKey.lastIndexOf('/');
+        int dot = imageKey.lastIndexOf('.');
+        String baseKey = dot > slash ? imageKey.substring(0, dot) : imageKey;
+        return baseKey + "_" + size + EXTENSION;
+    }
+
+    /*
+    썸네일 파일 이름 (원본 파일 이름 기준)
+     */
+    String filenameOf(String originalFilename) {
+        return keyOf(originalFilename == null || originalFilename.isBlank() ? "image" : originalFilename);
+    }
+}
@@ -0,0 +1,19 @@
+package hongik.triple.inframodule.image;
+
+/**
+ * 전처리된 이미지 묶음
+ * @param modelInput AI 모델 입력용 이미지 (모델 입력 크기로 축소)
+ * @param storage S3 저장용 이미지 (저장 최대 크기로 축소)
+ */
+public record PreprocessedImage(
+        ImageFile modelInput,
+        ImageFile storage
+) {
+
+    /*
+    전처리를 건너뛴 경우, 원본을 그대로 사용
+     */
+    public static PreprocessedImage original(ImageFile image) {
+        return new PreprocessedImage(image, image);
+    }
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,10 +26,10 @@ public class NaverClient {
     private static final String SEARCH_PATH = "/v1/search/shop.json";
 
     public NaverClient(
-            WebClient.Builder webClientBuilder,
+            @Qualifier("naverWebClient") WebClient webClient,
             @Value("${naver.api.client-id}") String clientId,
             @Value("${naver.api.client-secret}") String clientSecret) {
-        this.webClient = webClientBuilder.baseUrl(DOMAIN).build();
+        this.webClient = webClient.mutate().baseUrl(DOMAIN).build();
         this.clientId = clientId;
         this.clientSecret = clientSecret;
     }
@@ -37,43 +39,53 @@ public class NaverClient {
      */
     public List<NaverProductDto> searchProducts(String keyword, int display) {
         try {
-            NaverShoppingResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(SEARCH_PATH)
-                            .queryParam("query", keyword)
-                            .queryParam("display", display)
-                            .queryParam("sort", "sim") // sim: 정확도순, date: 날짜순, asc/dsc: 가격 오름차순/내림차순
-                            .build())
-                    .header("X-Naver-Client-Id", clientId)
-                    .header("X-Naver-Client-Secret", clientSecret)
-                    .retrieve()
-                    .bodyToMono(NaverShoppingResponse.class)
-                    .block();
-
-            if (response == null || response.items == null || response.items.isEmpty()) {
-                log.warn("No products found for keyword: {}", keyword);
-                return List.of();
-            }
-
-            return response.items.stream()
-                    .map(item -> new NaverProductDto(
-                            item.productId,
-                            removeHtmlTags(item.title),
-                            item.link,
-                            item.lprice,
-                            item.image,
-                            item.category1,
-                            item.mallName,
-                            item.brand
-                    ))
-                    .collect(Collectors.toList());
-
+            return fetchProducts(keyword, display).block();
         } catch (Exception e) {
             log.error("Failed to search Naver shopping products for keyword: {}", keyword, e);
             return List.of();
         }
     }
 
+    /**
+     * 네이버 쇼핑 API - 상품 검색 (Non-blocking)
+     * - 호출 실패 시 에러 시그널을 그대로 전달하므로, 호출 측에서 fallback을 결정
+     */
+    public Mono<List<NaverProductDto>> fetchProducts(String keyword, int display) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SEARCH_PATH)
+                        .queryParam("query", keyword)
+                        .queryParam("display", display)
+                        .queryParam("sort", "sim") // sim: 정확도순, date: 날짜순, asc/dsc: 가격 오름차순/내림차순
+                        .build())
+                .header("X-Naver-Client-Id", clientId)
+                .header("X-Naver-Client-Secret", clientSecret)
+                .retrieve()
+                .bodyToMono(NaverShoppingResponse.class)
+                .map(response -> toProductList(response, keyword))
+                .defaultIfEmpty(List.of());
+    }
+
+    private List<NaverProductDto> toProductList(NaverShoppingResponse response, String keyword) {
+        if (response.items == null || response.items.isEmpty()) {
+            log.warn("No products found for keyword: {}", keyword);
+            return List.of();
+        }
+
+        return response.items.stream()
+                .map(item -> new NaverProductDto(
+                        item.productId,
+                        removeHtmlTags(item.title),
+                        item.link,
+                        item.lprice,
+                        item.image,
+                        item.category1,
+                        item.mallName,
+                        item.brand
+                ))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 진단명 기반 상품 추천
      */
@@ -3,6 +3,7 @@ package hongik.triple.inframodule.oauth.google;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -15,6 +16,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class GoogleClient {
 
+    // google 전용 커넥션 풀을 공유 (요청마다 WebClient / 커넥션을 새로 만들지 않음)
+    @Qualifier("googleWebClient")
+    private final WebClient webClient;
+
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
 
@@ -53,8 +58,6 @@ public class GoogleClient {
             redirectUri = googleRedirectUri;
         }
 
-        WebClient webClient = WebClient.create(googleTokenUri);
-
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", googleGrantType);
         params.add("client_id", googleClientId);
@@ -82,8 +85,6 @@ public class GoogleClient {
      * access token을 통해 Google 유저 정보 조회
      */
     public GoogleProfile getMemberInfo(GoogleToken googleToken) {
-        WebClient webClient = WebClient.create(googleUserInfoUri);
-
         String response = webClient.get()
                 .uri(googleUserInfoUri)
                 .header("Authorization", "Bearer " + googleToken.access_token())
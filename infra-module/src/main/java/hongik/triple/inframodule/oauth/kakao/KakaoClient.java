@@ -3,6 +3,7 @@ package hongik.triple.inframodule.oauth.kakao;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -15,6 +16,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class KakaoClient {
 
+    // kakao 전용 커넥션 풀을 공유 (요청마다 WebClient / 커넥션을 새로 만들지 않음)
+    @Qualifier("kakaoWebClient")
+    private final WebClient webClient;
+
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String kakaoClientId;
 
@@ -54,9 +59,6 @@ public class KakaoClient {
             redirectUri = kakaoRedirectUri;
         }
 
-        // 요청 보낼 객체 기본 생성
-        WebClient webClient = WebClient.create(kakaoTokenUri);
-
         //요청 본문
         MultiValueMap<String , String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", kakaoGrantType);
@@ -87,9 +89,6 @@ public class KakaoClient {
     }
 
     public KakaoProfile getMemberInfo(KakaoToken kakaoToken) {
-        // 요청 기본 객체 생성
-        WebClient webClient = WebClient.create(kakaoUserInfoUri);
-
         // 요청 보내서 응답 받기
         String response = webClient.post()
                 .uri(kakaoUserInfoUri)
@@ -0,0 +1,12 @@
+package hongik.triple.inframodule.recommendation;
+
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+
+import java.util.List;
+
+public record Recommendation(
+        List<YoutubeVideoDto> videoList,
+        List<NaverProductDto> productList
+) {
+}
@@ -0,0 +1,127 @@
+package hongik.triple.inframodule.recommendation;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import hongik.triple.inframodule.naver.NaverClient;
+import hongik.triple.inframodule.youtube.YoutubeClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 유튜브 / 네이버 추천 결과 로컬 캐시
+ * - 검색 키워드가 여드름 유형별로 고정되어 있으므로, (provider, keyword, count) 단위로 결과를 재사용
+ * - TTL이 지난 항목은 조회 시 기존 값을 즉시 반환하고 백그라운드에서 갱신 (refresh-ahead)
+ * - 갱신 중 외부 API가 실패하면 stale 기간 동안 기존 값을 계속 반환 (stale-while-revalidate)
+ */
+@Slf4j
+@Component
+public class RecommendationCache {
+
+    private static final String CACHE_NAME = "recommendation";
+    private static final String LOAD_FAILURE_COUNTER = "acnelog.recommendation.cache.load.failure";
+
+    private final YoutubeClient youtubeClient;
+    private final NaverClient naverClient;
+    private final MeterRegistry meterRegistry;
+    private final AsyncLoadingCache<CacheKey, List<?>> cache;
+
+    @Autowired
+    public RecommendationCache(YoutubeClient youtubeClient,
+                               NaverClient naverClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${recommendation.cache.ttl-minutes:30}") long ttlMinutes,
+                               @Value("${recommendation.cache.stale-minutes:360}") long staleMinutes,
+                               @Value("${recommendation.cache.max-size:200}") long maxSize) {
+        this(youtubeClient, naverClient, meterRegistry, ttlMinutes, staleMinutes, maxSize, Ticker.systemTicker());
+    }
+
+    // 테스트에서 TTL 경과를 시뮬레이션할 수 있도록 시간 소스를 주입
+    RecommendationCache(YoutubeClient youtubeClient,
+                        NaverClient naverClient,
+                        MeterRegistry meterRegistry,
+                        long ttlMinutes,
+                        long staleMinutes,
+                        long maxSize,
+                        Ticker ticker) {
+        this.youtubeClient = youtubeClient;
+        this.naverClient = naverClient;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes + staleMinutes))
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 유튜브 영상 추천 조회 (캐시 우선)
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<List<YoutubeVideoDto>> videos(String keyword, int count) {
+        return get(new CacheKey(Provider.YOUTUBE, keyword, count))
+                .map(result -> (List<YoutubeVideoDto>) result);
+    }
+
+    /**
+     * 네이버 상품 추천 조회 (캐시 우선)
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<List<NaverProductDto>> products(String keyword, int count) {
+        return get(new CacheKey(Provider.NAVER, keyword, count))
+                .map(result -> (List<NaverProductDto>) result);
+    }
+
+    /*
+    호출 측에서 timeout으로 구독을 취소하더라도, 진행 중인 로딩은 취소하지 않고 캐시에 반영
+     */
+    private Mono<List<?>> get(CacheKey key) {
+        return Mono.fromFuture(() -> cache.get(key), true);
+    }
+
+    /*
+    외부 API 조회 (실패 시 예외를 전달해야 Caffeine이 기존 값을 유지함)
+     */
+    private CompletableFuture<List<?>> load(CacheKey key, Executor executor) {
+        Mono<? extends List<?>> source = switch (key.provider()) {
+            case YOUTUBE -> youtubeClient.fetchVideos(key.keyword(), key.count());
+            case NAVER -> naverClient.fetchProducts(key.keyword(), key.count());
+        };
+
+        return source
+                .<List<?>>map(result -> result)
+                .doOnError(e -> {
+                    log.warn("추천 캐시 로딩 실패 - provider: {}, keyword: {}", key.provider(), key.keyword());
+                    meterRegistry.counter(LOAD_FAILURE_COUNTER, "provider", key.provider().name().toLowerCase()).increment();
+                })
+                .toFuture();
+    }
+
+    private enum Provider {
+        YOUTUBE,
+        NAVER
+    }
+
+    private record CacheKey(
+            Provider provider,
+            String keyword,
+            int count
+    ) {
+    }
+}
@@ -0,0 +1,97 @@
+package hongik.triple.inframodule.recommendation;
+
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class RecommendationClient {
+
+    private static final String PROVIDER_TIMER = "acnelog.recommendation.provider";
+    private static final String FANOUT_TIMER = "acnelog.recommendation.fanout";
+
+    private final RecommendationCache recommendationCache;
+    private final MeterRegistry meterRegistry;
+    private final Duration deadline;
+
+    /**
+     * 유튜브 / 네이버 추천 조회를 하나의 deadline 안에서 병렬로 수행 (캐시 우선 조회)
+     *
+     * @param deadlineMillis 추천 단계 전체 제한 시간 (application-infra.yml 에서 주입, 기본 2초)
+     */
+    public RecommendationClient(RecommendationCache recommendationCache,
+                                MeterRegistry meterRegistry,
+                                @Value("${recommendation.deadline-ms:2000}") long deadlineMillis) {
+        this.recommendationCache = recommendationCache;
+        this.meterRegistry = meterRegistry;
+        this.deadline = Duration.ofMillis(deadlineMillis);
+    }
+
+    /**
+     * 키워드 기반 영상 / 상품 추천 동시 조회
+     * - 두 API를 동시에 호출하므로 응답 시간은 합이 아닌 가장 느린 API에 의해 결정
+     * - deadline 내에 응답하지 못했거나 실패한 API의 결과는 빈 리스트로 대체 (부분 결과 반환)
+     */
+    public Recommendation recommend(String keyword, int count) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Mono<List<YoutubeVideoDto>> videos = withinDeadline("youtube", recommendationCache.videos(keyword, count));
+        Mono<List<NaverProductDto>> products = withinDeadline("naver", recommendationCache.products(keyword, count));
+
+        Recommendation recommendation = Mono.zip(videos, products, Recommendation::new).block();
+
+        sample.stop(meterRegistry.timer(FANOUT_TIMER));
+        return recommendation;
+    }
+
+    /**
+     * 키워드 기반 영상 추천 조회 (deadline 초과 또는 실패 시 빈 리스트)
+     */
+    public List<YoutubeVideoDto> videos(String keyword, int count) {
+        return withinDeadline("youtube", recommendationCache.videos(keyword, count)).block();
+    }
+
+    /**
+     * 키워드 기반 상품 추천 조회 (deadline 초과 또는 실패 시 빈 리스트)
+     */
+    public List<NaverProductDto> products(String keyword, int count) {
+        return withinDeadline("naver", recommendationCache.products(keyword, count)).block();
+    }
+
+    /*
+    provider 별 deadline 적용 및 단계별 소요 시간 기록
+     */
+    private <T> Mono<List<T>> withinDeadline(String provider, Mono<List<T>> source) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return source
+                    .timeout(deadline)
+                    .doOnSuccess(result -> sample.stop(providerTimer(provider, "success")))
+                    .onErrorResume(TimeoutException.class, e -> {
+                        log.warn("추천 조회 제한 시간 초과 - provider: {}, deadline: {}ms", provider, deadline.toMillis());
+                        sample.stop(providerTimer(provider, "timeout"));
+                        return Mono.just(List.of());
+                    })
+                    .onErrorResume(e -> {
+                        log.error("추천 조회 실패 - provider: {}", provider, e);
+                        sample.stop(providerTimer(provider, "error"));
+                        return Mono.just(List.of());
+                    });
+        });
+    }
+
+    private Timer providerTimer(String provider, String outcome) {
+        return meterRegistry.timer(PROVIDER_TIMER, "provider", provider, "outcome", outcome);
+    }
+}
@@ -0,0 +1,11 @@
+package hongik.triple.inframodule.s3;
+
+/**
+ * 이미지 URL 조회 시 S3 객체 존재 확인 방식 (cloud.aws.s3.url-mode)
+ */
+public enum ImageUrlMode {
+
+    IN_MEMORY, // 존재 확인 없이 URL만 생성 (기본값)
+    CACHED,    // 존재 여부 캐시를 통해 확인 (캐시 미스 시에만 HEAD 요청)
+    STRICT     // 매번 HEAD 요청으로 확인
+}
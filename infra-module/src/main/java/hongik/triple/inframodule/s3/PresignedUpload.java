@@ -0,0 +1,20 @@
+package hongik.triple.inframodule.s3;
+
+import java.time.Instant;
+
+/**
+ * S3 직접 업로드용 presigned PUT URL
+ * @param key 업로드될 S3 key
+ * @param uploadUrl presigned PUT URL (Content-Type / Content-Length 헤더가 서명에 포함됨)
+ * @param contentType 업로드 시 사용해야 하는 Content-Type
+ * @param contentLength 업로드 시 사용해야 하는 Content-Length
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUpload(
+        String key,
+        String uploadUrl,
+        String contentType,
+        long contentLength,
+        Instant expiresAt
+) {
+}
@@ -1,24 +1,37 @@
 package hongik.triple.inframodule.s3;
 
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import hongik.triple.commonmodule.exception.ApplicationException;
 import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.inframodule.image.ImageFile;
+import hongik.triple.inframodule.image.ImageIngestor;
+import hongik.triple.inframodule.image.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -30,29 +43,135 @@ public class S3Client {
     private String bucket;
     @Value("${cloud.aws.baseUrl}")
     private String baseUrl;
+    @Value("${cloud.aws.s3.url-mode:IN_MEMORY}")
+    private ImageUrlMode urlMode;
+    @Value("${cloud.aws.s3.presign.expiration-minutes:10}")
+    private long presignExpirationMinutes;
+    @Value("${cloud.aws.s3.presign.max-size-bytes:10485760}")
+    private long maxUploadSize;
 
     private final AmazonS3 amazonS3;
+    private final S3ObjectExistenceCache existenceCache;
+    private final ImageIngestor imageIngestor;
+    private final S3Uploader s3Uploader;
 
     /**
      * 이미지 업로드
      */
     public String uploadImage(MultipartFile file, String dirName) {
+        return await(uploadImageAsync(file, dirName));
+    }
+
+    /**
+     * 이미지 업로드 (메모리에 보관된 이미지)
+     */
+    public String uploadImage(ImageFile file, String dirName) {
+        return await(uploadImageAsync(file, dirName));
+    }
+
+    /**
+     * 이미지 비동기 업로드 (업로드 파일은 한 번만 읽고, 업로드가 끝나면 반납)
+     */
+    public CompletableFuture<String> uploadImageAsync(MultipartFile file, String dirName) {
         validateFile(file);
-        validateImageExtension(file);
 
-        String key = generateFileKey(file.getOriginalFilename(), dirName);
-        ObjectMetadata metadata = createMetadata(file);
-        uploadToS3(file, key, metadata);
+        ImageFile image = imageIngestor.ingest(file);
+        try {
+            return uploadImageAsync(image, dirName).whenComplete((key, e) -> image.close());
+        } catch (RuntimeException e) {
+            image.close();
+            throw e;
+        }
+    }
 
-        return key;
+    /**
+     * 이미지 비동기 업로드 (일정 크기 이상이면 multipart 병렬 업로드)
+     * - 파일은 반환된 Future 가 끝날 때까지 닫으면 안 됨
+     * @return 업로드된 S3 key
+     */
+    public CompletableFuture<String> uploadImageAsync(ImageFile file, String dirName) {
+        validateFile(file);
+        validateImageExtension(file.getOriginalFilename());
+
+        return upload(file, generateFileKey(file.getOriginalFilename(), dirName));
+    }
+
+    /**
+     * 썸네일 비동기 업로드 (원본 이미지 key 에서 파생된 key 로 저장)
+     * @param thumbnail 썸네일 이미지
+     * @param variant 썸네일 크기
+     * @param imageKey 원본 이미지 key
+     * @return 업로드된 썸네일 key
+     */
+    public CompletableFuture<String> uploadThumbnailAsync(ImageFile thumbnail, ImageVariant variant, String imageKey) {
+        validateFile(thumbnail);
+        validateKey(imageKey);
+
+        return upload(thumbnail, variant.keyOf(imageKey));
+    }
+
+    /**
+     * 클라이언트 직접 업로드용 presigned PUT URL 발급
+     * - 서버를 거치지 않고 S3 로 바로 업로드하도록 하며, key / Content-Type / Content-Length 를 서명에 포함하여 고정
+     */
+    public PresignedUpload createUploadUrl(String originalFilename, String contentType, long contentLength, String dirName) {
+        validateFilename(originalFilename);
+        validateImageExtension(originalFilename);
+        validateImageContentType(contentType);
+        validateUploadSize(contentLength);
+
+        String key = generateFileKey(originalFilename, dirName);
+        Date expiration = Date.from(Instant.now().plus(Duration.ofMinutes(presignExpirationMinutes)));
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+
+        URL url = amazonS3.generatePresignedUrl(request);
+        return new PresignedUpload(key, url.toString(), contentType, contentLength, expiration.toInstant());
+    }
+
+    /**
+     * 업로드된 이미지 다운로드 (한 번만 읽어 버퍼 / 임시 파일에 보관, 사용 후 close 필요)
+     */
+    public ImageFile downloadImage(String key) {
+        validateKey(key);
+
+        try (S3Object object = amazonS3.getObject(bucket, key)) {
+            ObjectMetadata metadata = object.getObjectMetadata();
+            validateUploadSize(metadata.getContentLength());
+
+            return imageIngestor.ingest(originalFilename(key), metadata.getContentType(),
+                    metadata.getContentLength(), object.getObjectContent());
+
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new ApplicationException(ErrorCode.NOT_FOUND_S3_EXCEPTION);
+            }
+            log.error("이미지 다운로드 중 AWS Service 에러 발생: {}", e.getErrorMessage());
+            throw new ApplicationException(ErrorCode.INTERNAL_SERVER_EXCEPTION);
+
+        } catch (SdkClientException e) {
+            log.error("이미지 다운로드 중 AWS Client 에러 발생: {}", e.getMessage());
+            throw new ApplicationException(ErrorCode.INTERNAL_SERVER_EXCEPTION);
+
+        } catch (IOException e) {
+            throw new ApplicationException(ErrorCode.FILE_IO_EXCEPTION);
+        }
     }
 
     /**
      * 이미지 조회
+     * - 목록 / 상세 조회마다 호출되므로, 기본적으로 S3 요청 없이 URL만 생성 (cloud.aws.s3.url-mode 로 변경 가능)
      */
     public String getImage(String key) {
         validateKey(key);
-        validateObjectExists(key);
+        switch (urlMode) {
+            case CACHED -> validateObjectExistsCached(key);
+            case STRICT -> validateObjectExists(key);
+            case IN_MEMORY -> { }
+        }
 
         return baseUrl + "/" + key;
     }
@@ -65,6 +184,7 @@ public class S3Client {
         validateObjectExists(key);
 
         deleteObjectFromS3(key);
+        existenceCache.markDeleted(key);
     }
 
     /*
@@ -79,11 +199,46 @@ public class S3Client {
         }
     }
 
+    private void validateFile(ImageFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ApplicationException(ErrorCode.EMPTY_FILE_EXCEPTION);
+        }
+        if (file.getOriginalFilename() == null || file.getOriginalFilename().isBlank()) {
+            throw new ApplicationException(ErrorCode.INVALID_FILENAME_EXCEPTION);
+        }
+    }
+
+    private void validateFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new ApplicationException(ErrorCode.INVALID_FILENAME_EXCEPTION);
+        }
+    }
+
+    /*
+    Content-Type 검사 (이미지만 허용)
+     */
+    private void validateImageContentType(String contentType) {
+        if (contentType == null || !contentType.toLowerCase().startsWith("image/")) {
+            throw new ApplicationException(ErrorCode.NOT_ALLOWED_CONTENT_TYPE);
+        }
+    }
+
+    /*
+    업로드 크기 검사
+     */
+    private void validateUploadSize(long contentLength) {
+        if (contentLength <= 0) {
+            throw new ApplicationException(ErrorCode.EMPTY_FILE_EXCEPTION);
+        }
+        if (contentLength > maxUploadSize) {
+            throw new ApplicationException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+    }
+
     /*
     file 확장자 검사
      */
-    private void validateImageExtension(MultipartFile file) {
-        String originalName = file.getOriginalFilename();
+    private void validateImageExtension(String originalName) {
         String extension = originalName.substring(originalName.lastIndexOf('.') + 1).toLowerCase();
 
         // 허용 확장자 목록
@@ -104,10 +259,19 @@ public class S3Client {
         return String.format("%s/%s_%s_%s", dirName, date, uuid, originalName);
     }
 
+    /*
+    key 에서 원본 파일 이름 추출 ({dir}/{date}_{uuid}_{originalName})
+     */
+    private String originalFilename(String key) {
+        String name = key.substring(key.lastIndexOf('/') + 1);
+        String[] parts = name.split("_", 3);
+        return parts.length == 3 ? parts[2] : name;
+    }
+
     /*
     Metadata 생성
      */
-    private ObjectMetadata createMetadata(MultipartFile file) {
+    private ObjectMetadata createMetadata(ImageFile file) {
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentType(file.getContentType());
         metadata.setContentLength(file.getSize());
@@ -115,23 +279,47 @@ public class S3Client {
     }
 
     /*
-    S3 업로드
+    S3 업로드 (완료 후 존재 여부 캐시 갱신)
      */
-    private void uploadToS3(MultipartFile file, String key, ObjectMetadata metadata) {
-        try (InputStream input = file.getInputStream()) {
-            PutObjectRequest request = new PutObjectRequest(bucket, key, input, metadata);
-            amazonS3.putObject(request);
+    private CompletableFuture<String> upload(ImageFile file, String key) {
+        return s3Uploader.upload(bucket, key, file, createMetadata(file))
+                .handle((ignored, e) -> {
+                    if (e != null) {
+                        throw uploadFailure(e);
+                    }
+                    existenceCache.markExists(key);
+                    return key;
+                });
+    }
 
-        } catch (IOException e) {
-            throw new ApplicationException(ErrorCode.FILE_IO_EXCEPTION);
+    /*
+    업로드 실패 예외 변환
+     */
+    private RuntimeException uploadFailure(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
 
-        } catch (AmazonServiceException e) {
-            log.error("AWS Service 에러: {}", e.getErrorMessage());
-            throw new ApplicationException(ErrorCode.FAILED_UPLOAD_FILE);
+        if (cause instanceof ApplicationException applicationException) {
+            return applicationException;
+        }
+        if (cause instanceof AmazonServiceException serviceException) {
+            log.error("AWS Service 에러: {}", serviceException.getErrorMessage());
+        } else {
+            log.error("AWS Client 에러: {}", cause.getMessage());
+        }
+        return new ApplicationException(ErrorCode.FAILED_UPLOAD_FILE);
+    }
 
-        } catch (SdkClientException e) {
-            log.error("AWS Client 에러: {}", e.getMessage());
-            throw new ApplicationException(ErrorCode.FAILED_UPLOAD_FILE);
+    /*
+    업로드 완료 대기 (Future 에 담긴 예외는 원본 예외로 전달)
+     */
+    private String await(CompletableFuture<String> upload) {
+        try {
+            return upload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
@@ -153,6 +341,15 @@ public class S3Client {
         }
     }
 
+    /*
+    S3 객체 유효성 검사 (존재 여부 캐시 사용)
+     */
+    private void validateObjectExistsCached(String key) {
+        if (!existenceCache.exists(key, k -> amazonS3.doesObjectExist(bucket, k))) {
+            throw new ApplicationException(ErrorCode.NOT_FOUND_S3_EXCEPTION);
+        }
+    }
+
     /*
     S3 이미지 객체 삭제
      */
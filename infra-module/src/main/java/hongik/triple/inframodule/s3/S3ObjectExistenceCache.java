@@ -0,0 +1,71 @@
+package hongik.triple.inframodule.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * S3 객체 존재 여부 캐시 (ImageUrlMode.CACHED 에서 사용)
+ * - 존재하는 객체 (positive) 는 길게, 존재하지 않는 객체 (negative) 는 짧게 보관
+ * - 업로드 / 삭제 시점에 직접 갱신하여 HEAD 요청 없이도 최신 상태를 유지
+ */
+@Component
+public class S3ObjectExistenceCache {
+
+    private static final String CACHE_NAME = "s3-object-existence";
+
+    private final Cache<String, Boolean> cache;
+
+    public S3ObjectExistenceCache(MeterRegistry meterRegistry,
+                                  @Value("${cloud.aws.s3.existence-cache.positive-ttl-minutes:60}") long positiveTtlMinutes,
+                                  @Value("${cloud.aws.s3.existence-cache.negative-ttl-seconds:30}") long negativeTtlSeconds,
+                                  @Value("${cloud.aws.s3.existence-cache.max-size:10000}") long maxSize) {
+        long positiveTtlNanos = Duration.ofMinutes(positiveTtlMinutes).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(String key, Boolean exists, long currentTime) {
+                        return exists ? positiveTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Boolean exists, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, exists, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Boolean exists, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 존재 여부 조회 (캐시 미스 시 loader 로 확인 후 저장)
+     */
+    public boolean exists(String key, Predicate<String> loader) {
+        return cache.get(key, loader::test);
+    }
+
+    public void markExists(String key) {
+        cache.put(key, true);
+    }
+
+    public void markDeleted(String key) {
+        cache.put(key, false);
+    }
+}
@@ -0,0 +1,106 @@
+package hongik.triple.inframodule.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import hongik.triple.inframodule.image.ImageFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 S3 업로드
+ * - 임계값 미만: 단일 PutObject
+ * - 임계값 이상: multipart upload 로 part 들을 병렬 전송 (각 part 는 ImageFile 버퍼의 복사 없는 view)
+ * - 모든 S3 호출은 s3TransferExecutor 에서 수행되어 요청 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+public class S3Uploader {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024; // S3 multipart 최소 part 크기
+
+    private final AmazonS3 amazonS3;
+    private final Executor executor;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    public S3Uploader(AmazonS3 amazonS3,
+                      @Qualifier("s3TransferExecutor") Executor executor,
+                      @Value("${cloud.aws.s3.transfer.multipart-threshold-mb:16}") long multipartThresholdMb,
+                      @Value("${cloud.aws.s3.transfer.part-size-mb:8}") long partSizeMb) {
+        this.amazonS3 = amazonS3;
+        this.executor = executor;
+        this.partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+        this.multipartThreshold = Math.max(this.partSize, multipartThresholdMb * 1024 * 1024);
+    }
+
+    /**
+     * 업로드 시작 (파일은 반환된 Future 가 끝날 때까지 닫으면 안 됨)
+     */
+    public CompletableFuture<Void> upload(String bucket, String key, ImageFile file, ObjectMetadata metadata) {
+        if (file.getSize() < multipartThreshold) {
+            return CompletableFuture.runAsync(
+                    () -> amazonS3.putObject(new PutObjectRequest(bucket, key, file.getInputStream(), metadata)), executor);
+        }
+        return multipartUpload(bucket, key, file, metadata);
+    }
+
+    private CompletableFuture<Void> multipartUpload(String bucket, String key, ImageFile file, ObjectMetadata metadata) {
+        return CompletableFuture
+                .supplyAsync(() -> amazonS3.initiateMultipartUpload(
+                        new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId(), executor)
+                .thenCompose(uploadId -> uploadParts(bucket, key, uploadId, file)
+                        .thenAcceptAsync(partETags -> amazonS3.completeMultipartUpload(
+                                new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags)), executor)
+                        .whenComplete((result, e) -> {
+                            if (e != null) {
+                                abort(bucket, key, uploadId);
+                            }
+                        }));
+    }
+
+    /*
+    part 병렬 전송 (part 번호 순서대로 ETag 반환)
+     */
+    private CompletableFuture<List<PartETag>> uploadParts(String bucket, String key, String uploadId, ImageFile file) {
+        long size = file.getSize();
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+
+        int partNumber = 1;
+        for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+            int length = (int) Math.min(partSize, size - offset);
+            UploadPartRequest request = new UploadPartRequest()
+                    .withBucketName(bucket)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partNumber)
+                    .withPartSize(length)
+                    .withInputStream(file.getInputStream((int) offset, length));
+
+            parts.add(CompletableFuture.supplyAsync(() -> amazonS3.uploadPart(request).getPartETag(), executor));
+        }
+
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> parts.stream().map(CompletableFuture::join).toList());
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            log.error("multipart upload 중단 실패 - key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -22,10 +23,10 @@ public class YoutubeClient {
     private final String apiKey;
 
     public YoutubeClient(
-            WebClient.Builder webClientBuilder,
+            @Qualifier("youtubeWebClient") WebClient webClient,
             @Value("${youtube.api.key}") String apiKey,
             @Value("${youtube.api.base-url}") String baseUrl) {
-        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.webClient = webClient.mutate().baseUrl(baseUrl).build();
         this.apiKey = apiKey;
     }
 
@@ -34,52 +35,7 @@ public class YoutubeClient {
      */
     public List<YoutubeVideoDto> searchVideos(String query, int maxResults) {
         try {
-            log.info("YouTube 검색 시작 - query: {}, maxResults: {}", query, maxResults);
-
-            YoutubeSearchResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search")
-                            .queryParam("part", "snippet")
-                            .queryParam("q", query)
-                            .queryParam("type", "video")
-                            .queryParam("maxResults", maxResults)
-                            .queryParam("key", apiKey)
-                            // .queryParam("order", "relevance")  // 기본값이 relevance라 생략 가능
-                            // .queryParam("regionCode", "KR")  // 선택 사항
-                            // .queryParam("relevanceLanguage", "ko")  // 선택 사항
-                            .build())
-                    .retrieve()
-                    .onStatus(
-                            status -> status.is4xxClientError() || status.is5xxServerError(),
-                            clientResponse -> clientResponse.bodyToMono(String.class)
-                                    .doOnNext(errorBody ->
-                                            log.error("YouTube API 에러 응답: {}", errorBody))
-                                    .then(Mono.error(new RuntimeException("YouTube API 호출 실패")))
-                    )
-                    .bodyToMono(YoutubeSearchResponse.class)
-                    .block();
-
-            if (response == null || response.items == null) {
-                log.warn("YouTube API 응답이 비어있습니다.");
-                return List.of();
-            }
-
-            log.info("YouTube 검색 성공 - {} 개의 결과 반환", response.items.size());
-
-            return response.items.stream()
-                    .map(item -> new YoutubeVideoDto(
-                            item.id.videoId,
-                            item.snippet.title,
-                            "https://www.youtube.com/watch?v=" + item.id.videoId,
-                            item.snippet.channelTitle,
-                            item.snippet.thumbnails.high != null
-                                    ? item.snippet.thumbnails.high.url
-                                    : (item.snippet.thumbnails.defaultThumbnail != null
-                                    ? item.snippet.thumbnails.defaultThumbnail.url
-                                    : "")
-                    ))
-                    .collect(Collectors.toList());
-
+            return fetchVideos(query, maxResults).block();
         } catch (WebClientResponseException e) {
             log.error("YouTube API 호출 실패 - Status: {}, Body: {}",
                     e.getStatusCode(), e.getResponseBodyAsString());
@@ -90,6 +46,61 @@ public class YoutubeClient {
         }
     }
 
+    /**
+     * 키워드로 YouTube 영상 검색 (Non-blocking)
+     * - 호출 실패 시 에러 시그널을 그대로 전달하므로, 호출 측에서 fallback을 결정
+     */
+    public Mono<List<YoutubeVideoDto>> fetchVideos(String query, int maxResults) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search")
+                        .queryParam("part", "snippet")
+                        .queryParam("q", query)
+                        .queryParam("type", "video")
+                        .queryParam("maxResults", maxResults)
+                        .queryParam("key", apiKey)
+                        // .queryParam("order", "relevance")  // 기본값이 relevance라 생략 가능
+                        // .queryParam("regionCode", "KR")  // 선택 사항
+                        // .queryParam("relevanceLanguage", "ko")  // 선택 사항
+                        .build())
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class)
+                                .doOnNext(errorBody ->
+                                        log.error("YouTube API 에러 응답: {}", errorBody))
+                                .then(Mono.error(new RuntimeException("YouTube API 호출 실패")))
+                )
+                .bodyToMono(YoutubeSearchResponse.class)
+                .map(this::toVideoList)
+                .defaultIfEmpty(List.of())
+                .doOnSubscribe(subscription ->
+                        log.info("YouTube 검색 시작 - query: {}, maxResults: {}", query, maxResults));
+    }
+
+    private List<YoutubeVideoDto> toVideoList(YoutubeSearchResponse response) {
+        if (response.items == null) {
+            log.warn("YouTube API 응답이 비어있습니다.");
+            return List.of();
+        }
+
+        log.info("YouTube 검색 성공 - {} 개의 결과 반환", response.items.size());
+
+        return response.items.stream()
+                .map(item -> new YoutubeVideoDto(
+                        item.id.videoId,
+                        item.snippet.title,
+                        "https://www.youtube.com/watch?v=" + item.id.videoId,
+                        item.snippet.channelTitle,
+                        item.snippet.thumbnails.high != null
+                                ? item.snippet.thumbnails.high.url
+                                : (item.snippet.thumbnails.defaultThumbnail != null
+                                ? item.snippet.thumbnails.defaultThumbnail.url
+                                : "")
+                ))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 진단명 기반 영상 추천
      */
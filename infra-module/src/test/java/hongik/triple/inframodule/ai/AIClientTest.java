@@ -0,0 +1,70 @@
+package hongik.triple.inframodule.ai;
+
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.inframodule.image.ImageFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("AIClient 테스트")
+@ExtendWith(MockitoExtension.class)
+class AIClientTest {
+
+    private static final long BATCH_TIMEOUT_MILLIS = 100;
+
+    @Mock
+    private ObjectProvider<PredictBatchClient> predictBatchClientProvider;
+
+    @Mock
+    private PredictBatchClient predictBatchClient;
+
+    private AIClient aiClient;
+
+    @BeforeEach
+    void setup() {
+        given(predictBatchClientProvider.getIfAvailable()).willReturn(predictBatchClient);
+        PredictionCache predictionCache = new PredictionCache(new SimpleMeterRegistry(), false, "v1", 60, 100);
+        aiClient = new AIClient(WebClient.create(), "http://ai", predictBatchClientProvider, predictionCache, BATCH_TIMEOUT_MILLIS);
+    }
+
+    @Nested
+    @DisplayName("배치 모드에서 sendPredictRequest()는")
+    class BatchTest {
+
+        @Test
+        @DisplayName("배치 응답이 대기 시간 안에 오지 않으면 AI 서버 혼잡으로 실패한다.")
+        void awaitTimeout() {
+            given(predictBatchClient.submit(any())).willReturn(new CompletableFuture<>());
+
+            assertThatThrownBy(() -> aiClient.sendPredictRequest(ImageFile.of("a.jpg", "image/jpeg", new byte[]{1})))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.AI_SERVER_BUSY);
+        }
+
+        @Test
+        @DisplayName("배치 전송 중 발생한 예외는 원본 예외로 전달한다.")
+        void batchFailure() {
+            given(predictBatchClient.submit(any()))
+                    .willReturn(CompletableFuture.failedFuture(new IllegalStateException("AI batch response is empty")));
+
+            assertThatThrownBy(() -> aiClient.sendPredictRequest(ImageFile.of("a.jpg", "image/jpeg", new byte[]{1})))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("AI batch response is empty");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package hongik.triple.inframodule.ai;
+
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.commonmodule.exception.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("InferenceBulkhead 테스트")
+class InferenceBulkheadTest {
+
+    private static final long AWAIT_SECONDS = 5;
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private InferenceBulkhead bulkhead(int maxConcurrent, int queueCapacity, long maxWaitMillis, int perMemberLimit) {
+        return new InferenceBulkhead(meterRegistry, maxConcurrent, queueCapacity, maxWaitMillis, perMemberLimit, RETRY_AFTER_SECONDS);
+    }
+
+    private double queued() {
+        return meterRegistry.get("acnelog.ai.bulkhead.queued").gauge().value();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("acnelog.ai.bulkhead.in-flight").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("acnelog.ai.bulkhead.rejected").tag("reason", reason).counter().count();
+    }
+
+    // latch 가 열릴 때까지 슬롯을 점유하는 추론을 시작하고, 슬롯을 잡을 때까지 대기
+    private CompletableFuture<Void> occupy(InferenceBulkhead bulkhead, Long memberId, CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> bulkhead.execute(memberId, () -> {
+            started.countDown();
+            try {
+                return release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }), executor);
+        assertThat(started.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        return running;
+    }
+
+    // 대기열에 들어갈 때까지 기다려 등록 순서를 고정
+    private void awaitQueued(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (queued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(queued()).isEqualTo(expected);
+    }
+
+    private static RetryableException rejection(Runnable call) {
+        Throwable thrown = catchThrowable(call::run);
+        assertThat(thrown).isInstanceOf(RetryableException.class);
+        return (RetryableException) thrown;
+    }
+
+    @Nested
+    @DisplayName("슬롯이 모두 사용 중이면")
+    class FairnessTest {
+
+        @Test
+        @DisplayName("대기 요청을 회원별 라운드 로빈으로 배정한다.")
+        void roundRobin() throws Exception {
+            InferenceBulkhead bulkhead = bulkhead(1, 8, TimeUnit.SECONDS.toMillis(AWAIT_SECONDS), 8);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = occupy(bulkhead, 0L, release);
+
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<String>> waiters = new ArrayList<>();
+            String[][] requests = {{"1", "A1"}, {"1", "A2"}, {"1", "A3"}, {"2", "B1"}};
+            for (String[] request : requests) {
+                waiters.add(CompletableFuture.supplyAsync(() -> bulkhead.execute(Long.valueOf(request[0]), () -> {
+                    order.add(request[1]);
+                    return request[1];
+                }), executor));
+                awaitQueued(waiters.size());
+            }
+
+            release.countDown();
+            holder.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+            for (CompletableFuture<String> waiter : waiters) {
+                waiter.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+            }
+
+            // 회원 1의 요청이 먼저 쌓였어도 회원 2의 요청이 두 번째로 배정됨
+            assertThat(order).containsExactly("A1", "B1", "A2", "A3");
+            assertThat(inFlight()).isZero();
+            assertThat(queued()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("요청을 거절하는 경우")
+    class RejectionTest {
+
+        @Test
+        @DisplayName("대기 시간이 초과되면 503 (AI_SERVER_BUSY) 과 Retry-After 로 거절하고 대기열에서 제거한다.")
+        void queueTimeout() throws Exception {
+            InferenceBulkhead bulkhead = bulkhead(1, 8, 50, 8);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = occupy(bulkhead, 0L, release);
+
+            try {
+                RetryableException e = rejection(() -> bulkhead.execute(1L, () -> "never"));
+
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_BUSY);
+                assertThat(e.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(e.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+                assertThat(rejected("timeout")).isEqualTo(1);
+                assertThat(queued()).isZero();
+            } finally {
+                release.countDown();
+            }
+            holder.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+
+            // 시간 초과된 요청은 슬롯을 차지하지 않으므로 다음 요청은 바로 실행됨
+            assertThat(bulkhead.execute(1L, () -> "ok")).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 기다리지 않고 503 (AI_SERVER_BUSY) 으로 거절한다.")
+        void queueFull() throws Exception {
+            InferenceBulkhead bulkhead = bulkhead(1, 0, TimeUnit.SECONDS.toMillis(AWAIT_SECONDS), 8);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = occupy(bulkhead, 0L, release);
+
+            try {
+                long start = System.nanoTime();
+                RetryableException e = rejection(() -> bulkhead.execute(1L, () -> "never"));
+
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_BUSY);
+                assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(AWAIT_SECONDS);
+                assertThat(rejected("queue_full")).isEqualTo(1);
+            } finally {
+                release.countDown();
+            }
+            holder.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("회원당 진행 중 요청 한도를 넘으면 429 (TOO_MANY_ANALYSIS_REQUESTS) 로 거절한다.")
+        void memberLimit() throws Exception {
+            InferenceBulkhead bulkhead = bulkhead(4, 8, TimeUnit.SECONDS.toMillis(AWAIT_SECONDS), 1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = occupy(bulkhead, 1L, release);
+
+            try {
+                RetryableException e = rejection(() -> bulkhead.execute(1L, () -> "never"));
+
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_ANALYSIS_REQUESTS);
+                assertThat(e.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                assertThat(e.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+                assertThat(rejected("member_limit")).isEqualTo(1);
+
+                // 다른 회원은 영향을 받지 않음
+                assertThat(bulkhead.execute(2L, () -> "ok")).isEqualTo("ok");
+            } finally {
+                release.countDown();
+            }
+            holder.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
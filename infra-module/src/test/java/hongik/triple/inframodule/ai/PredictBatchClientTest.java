@@ -0,0 +1,155 @@
+package hongik.triple.inframodule.ai;
+
+import hongik.triple.commonmodule.dto.analysis.AnalysisData;
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import hongik.triple.inframodule.image.ImageFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("PredictBatchClient 테스트")
+class PredictBatchClientTest {
+
+    private static final int MAX_BATCH_SIZE = 2;
+    private static final long LINGER_MILLIS = 1000;
+    private static final long AWAIT_SECONDS = 5;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private PredictBatchClient predictBatchClient;
+
+    @AfterEach
+    void tearDown() {
+        if (predictBatchClient != null) {
+            predictBatchClient.shutdown();
+        }
+    }
+
+    /*
+    AI 서버 대신 고정된 응답을 반환하는 WebClient 로 배치 클라이언트 생성
+     */
+    private PredictBatchClient client(ClientResponse response) {
+        ExchangeFunction exchange = request -> {
+            requests.incrementAndGet();
+            return Mono.just(response);
+        };
+        WebClient webClient = WebClient.builder().exchangeFunction(exchange).build();
+        predictBatchClient = new PredictBatchClient(
+                webClient, new SimpleMeterRegistry(), "http://ai", "/predict/batch", MAX_BATCH_SIZE, LINGER_MILLIS, 8);
+        return predictBatchClient;
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private static String prediction(int index, String label) {
+        return "{\"prediction_index\":" + index + ",\"prediction_label\":\"" + label
+                + "\",\"prediction_confidence\":0.9,\"scores\":[0.9]}";
+    }
+
+    private static ImageFile image(String name) {
+        return ImageFile.of(name + ".jpg", "image/jpeg", name.getBytes());
+    }
+
+    // 배치 응답으로 실패 처리된 원인 예외 (응답 없이 대기 중이면 TimeoutException 으로 테스트 실패)
+    private static Throwable failure(CompletableFuture<AnalysisData> result) {
+        Throwable error = catchThrowable(() -> result.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        assertThat(error).isInstanceOf(ExecutionException.class);
+        return error.getCause();
+    }
+
+    @Nested
+    @DisplayName("submit()은")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("동시에 들어온 요청을 한 번의 배치로 전송하고, 응답을 요청 순서대로 나누어 전달한다.")
+        void success() throws Exception {
+            PredictBatchClient client = client(json("[" + prediction(1, "Comedones") + "," + prediction(2, "Pustules") + "]"));
+
+            CompletableFuture<AnalysisData> first = client.submit(image("first"));
+            CompletableFuture<AnalysisData> second = client.submit(image("second"));
+
+            assertThat(first.get(AWAIT_SECONDS, TimeUnit.SECONDS).predictionLabel()).isEqualTo("Comedones");
+            assertThat(second.get(AWAIT_SECONDS, TimeUnit.SECONDS).predictionLabel()).isEqualTo("Pustules");
+            assertThat(requests.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("본문이 없는 응답 (204) 이면 대기 중인 요청을 모두 실패 처리한다.")
+        void emptyBody() {
+            PredictBatchClient client = client(ClientResponse.create(HttpStatus.NO_CONTENT).build());
+
+            CompletableFuture<AnalysisData> first = client.submit(image("first"));
+            CompletableFuture<AnalysisData> second = client.submit(image("second"));
+
+            assertThat(failure(first)).isInstanceOf(IllegalStateException.class).hasMessageContaining("empty");
+            assertThat(failure(second)).isInstanceOf(IllegalStateException.class).hasMessageContaining("empty");
+        }
+
+        @Test
+        @DisplayName("응답 개수가 요청 개수와 다르면 배치의 모든 요청을 실패 처리한다.")
+        void sizeMismatch() {
+            PredictBatchClient client = client(json("[" + prediction(1, "Comedones") + "]"));
+
+            CompletableFuture<AnalysisData> first = client.submit(image("first"));
+            CompletableFuture<AnalysisData> second = client.submit(image("second"));
+
+            assertThat(failure(first)).isInstanceOf(IllegalStateException.class).hasMessageContaining("size mismatch");
+            assertThat(failure(second)).isInstanceOf(IllegalStateException.class).hasMessageContaining("size mismatch");
+        }
+
+        @Test
+        @DisplayName("AI 서버 오류 응답은 배치의 모든 요청에 그대로 전달한다.")
+        void errorPropagation() {
+            PredictBatchClient client = client(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+            CompletableFuture<AnalysisData> first = client.submit(image("first"));
+            CompletableFuture<AnalysisData> second = client.submit(image("second"));
+
+            assertThat(failure(first)).isInstanceOf(WebClientResponseException.InternalServerError.class);
+            assertThat(failure(second)).isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("shutdown()은")
+    class ShutdownTest {
+
+        @Test
+        @DisplayName("종료 후 들어온 요청은 즉시 거절한다.")
+        void rejectAfterShutdown() {
+            PredictBatchClient client = client(json("[]"));
+            client.shutdown();
+
+            assertThatThrownBy(() -> client.submit(image("late")))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.AI_SERVER_BUSY);
+            assertThat(requests.get()).isZero();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package hongik.triple.inframodule.ai;
+
+import hongik.triple.commonmodule.dto.analysis.AnalysisData;
+import hongik.triple.inframodule.image.ImageFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PredictionCache 테스트")
+class PredictionCacheTest {
+
+    private static final long AWAIT_SECONDS = 5;
+
+    private final AnalysisData data = new AnalysisData(1, "Comedones", 0.9, List.of(0.9));
+    private final AtomicInteger predictions = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PredictionCache predictionCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        predictionCache = new PredictionCache(meterRegistry, true, "v1", 60, 100);
+    }
+
+    private static ImageFile image(String content) {
+        return ImageFile.of("a.jpg", "image/jpeg", content.getBytes());
+    }
+
+    private PredictionKey key(String content) {
+        return predictionCache.keyOf(image(content));
+    }
+
+    private Supplier<AnalysisData> predictor() {
+        return () -> {
+            predictions.incrementAndGet();
+            return data;
+        };
+    }
+
+    // latch 가 열릴 때까지 끝나지 않는 추론
+    private Supplier<AnalysisData> blockingPredictor(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            predictions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return data;
+        };
+    }
+
+    private void awaitCacheHits(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (cacheHits() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(cacheHits()).isEqualTo(expected);
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "ai-prediction").tag("result", "hit").functionCounter().count();
+    }
+
+    private long savedLatencyCount() {
+        return meterRegistry.get("acnelog.ai.cache.saved.latency").timer().count();
+    }
+
+    @Nested
+    @DisplayName("get()은")
+    class GetTest {
+
+        @Test
+        @DisplayName("같은 이미지는 한 번만 추론하고, 캐시 적중 시 절약된 추론 시간을 기록한다.")
+        void cacheHit() {
+            assertThat(predictionCache.get(key("a"), predictor())).isEqualTo(data);
+            assertThat(predictionCache.get(key("a"), predictor())).isEqualTo(data);
+
+            assertThat(predictions.get()).isEqualTo(1);
+            assertThat(savedLatencyCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("같은 이미지를 동시에 요청하면 진행 중인 추론 결과를 기다리고, 절약 시간으로 기록하지 않는다.")
+        void inFlight() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<AnalysisData> owner = CompletableFuture.supplyAsync(
+                    () -> predictionCache.get(key("a"), blockingPredictor(started, release)));
+            assertThat(started.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<AnalysisData> waiter = CompletableFuture.supplyAsync(
+                    () -> predictionCache.get(key("a"), predictor()));
+            awaitCacheHits(1); // 대기 요청이 진행 중인 추론의 Future 를 받은 뒤에 추론 완료
+            release.countDown();
+
+            assertThat(owner.get(AWAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo(data);
+            assertThat(waiter.get(AWAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo(data);
+            assertThat(predictions.get()).isEqualTo(1);
+            assertThat(savedLatencyCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("추론이 진행 중이어도 다른 이미지의 조회는 막지 않는다.")
+        void loadOutsideLock() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<AnalysisData> slow = CompletableFuture.supplyAsync(
+                    () -> predictionCache.get(key("slow"), blockingPredictor(started, release)));
+            assertThat(started.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                CompletableFuture<AnalysisData> other = CompletableFuture.supplyAsync(
+                        () -> predictionCache.get(key("other"), predictor()));
+                assertThat(other.get(AWAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo(data);
+                assertThat(slow).isNotDone();
+            } finally {
+                release.countDown();
+            }
+            assertThat(slow.get(AWAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo(data);
+        }
+
+        @Test
+        @DisplayName("추론이 실패하면 예외를 그대로 전달하고, 다음 요청은 다시 추론한다.")
+        void failureNotCached() {
+            assertThatThrownBy(() -> predictionCache.get(key("a"), () -> {
+                throw new IllegalStateException("AI 서버 오류");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("AI 서버 오류");
+
+            assertThat(predictionCache.get(key("a"), predictor())).isEqualTo(data);
+            assertThat(predictions.get()).isEqualTo(1);
+            assertThat(savedLatencyCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("캐시를 끄면 매번 추론한다.")
+        void disabled() {
+            PredictionCache disabled = new PredictionCache(meterRegistry, false, "v1", 60, 100);
+
+            disabled.get(disabled.keyOf(image("a")), predictor());
+            disabled.get(disabled.keyOf(image("a")), predictor());
+
+            assertThat(predictions.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("keyOf()는")
+    class KeyOfTest {
+
+        @Test
+        @DisplayName("이미지 내용과 모델 버전이 같으면 같은 키를 만든다.")
+        void sameContent() {
+            PredictionCache otherModel = new PredictionCache(meterRegistry, true, "v2", 60, 100);
+
+            assertThat(key("a")).isEqualTo(key("a")).isNotEqualTo(key("b"));
+            assertThat(otherModel.keyOf(image("a"))).isNotEqualTo(key("a"));
+        }
+    }
+
+    @Nested
+    @DisplayName("find()는")
+    class FindTest {
+
+        @Test
+        @DisplayName("완료된 예측 결과만 반환하고, 캐시 적중으로 절약된 추론 시간을 기록한다.")
+        void completed() {
+            predictionCache.get(key("a"), predictor());
+
+            assertThat(predictionCache.find(key("a"))).contains(data);
+            assertThat(predictionCache.find(key("b"))).isEmpty();
+            assertThat(savedLatencyCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("진행 중인 추론은 기다리지 않고 빈 결과를 반환한다.")
+        void inFlight() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<AnalysisData> owner = CompletableFuture.supplyAsync(
+                    () -> predictionCache.get(key("a"), blockingPredictor(started, release)));
+            assertThat(started.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                assertThat(predictionCache.find(key("a"))).isEmpty();
+            } finally {
+                release.countDown();
+            }
+            owner.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+            assertThat(savedLatencyCount()).isZero();
+        }
+    }
+}
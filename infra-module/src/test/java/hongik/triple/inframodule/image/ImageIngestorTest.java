@@ -0,0 +1,164 @@
+package hongik.triple.inframodule.image;
+
+import hongik.triple.commonmodule.exception.ApplicationException;
+import hongik.triple.commonmodule.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageIngestor 테스트")
+class ImageIngestorTest {
+
+    private static final int THRESHOLD_KB = 1;
+    private static final int BUFFER_SIZE = THRESHOLD_KB * 1024;
+
+    @TempDir
+    private Path spillDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageIngestor imageIngestor;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageIngestor = new ImageIngestor(meterRegistry, THRESHOLD_KB, 1, spillDirectory.toString());
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private static byte[] contentOf(ImageFile image) {
+        ByteBuffer content = image.getContent();
+        byte[] copy = new byte[content.remaining()];
+        content.get(copy);
+        return copy;
+    }
+
+    private double buffersInUse() {
+        return meterRegistry.get("acnelog.image.ingest.buffer.in-use").gauge().value();
+    }
+
+    private double spills() {
+        return meterRegistry.get("acnelog.image.ingest.spill").counter().count();
+    }
+
+    private long spillFiles() throws IOException {
+        try (var files = Files.list(spillDirectory)) {
+            return files.count();
+        }
+    }
+
+    @Nested
+    @DisplayName("임계값 이하의 이미지는")
+    class PooledBufferTest {
+
+        @Test
+        @DisplayName("풀링된 버퍼에 적재하고, close 시 버퍼를 반납한다.")
+        void releaseOnClose() {
+            byte[] content = bytes(BUFFER_SIZE);
+
+            ImageFile image = imageIngestor.ingest(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+            assertThat(contentOf(image)).isEqualTo(content);
+            assertThat(buffersInUse()).isEqualTo(1);
+
+            image.close();
+            image.close();
+            assertThat(buffersInUse()).isZero();
+            assertThat(spills()).isZero();
+        }
+
+        @Test
+        @DisplayName("반납된 버퍼는 다음 이미지가 재사용한다.")
+        void reuseReleasedBuffer() {
+            imageIngestor.ingest("a.jpg", "image/jpeg", 10, new ByteArrayInputStream(bytes(10))).close();
+
+            byte[] content = bytes(20);
+            try (ImageFile image = imageIngestor.ingest("b.jpg", "image/jpeg", 20, new ByteArrayInputStream(content))) {
+                assertThat(contentOf(image)).isEqualTo(content);
+            }
+            assertThat(meterRegistry.get("acnelog.image.ingest.buffer.allocated").gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("읽는 중 실패하면 버퍼를 반납하고 예외가 발생한다.")
+        void releaseOnReadFailure() {
+            InputStream failing = new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("connection reset");
+                }
+            };
+
+            assertThatThrownBy(() -> imageIngestor.ingest("a.jpg", "image/jpeg", 10, failing))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.FILE_IO_EXCEPTION);
+            assertThat(buffersInUse()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("임시 파일로 옮기는 경우")
+    class SpillTest {
+
+        @Test
+        @DisplayName("임계값을 넘는 이미지는 임시 파일에 기록하고, close 시 파일을 삭제한다.")
+        void overThreshold() throws IOException {
+            byte[] content = bytes(BUFFER_SIZE + 1);
+
+            ImageFile image = imageIngestor.ingest(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+            assertThat(contentOf(image)).isEqualTo(content);
+            assertThat(spills()).isEqualTo(1);
+            assertThat(spillFiles()).isEqualTo(1);
+            assertThat(buffersInUse()).isZero();
+
+            image.close();
+            assertThat(spillFiles()).isZero();
+        }
+
+        @Test
+        @DisplayName("버퍼 풀이 소진되면 임계값 이하여도 임시 파일을 사용한다.")
+        void poolExhausted() {
+            byte[] content = bytes(10);
+            try (ImageFile pooled = imageIngestor.ingest("a.jpg", "image/jpeg", 10, new ByteArrayInputStream(content));
+                 ImageFile spilled = imageIngestor.ingest("b.jpg", "image/jpeg", 10, new ByteArrayInputStream(content))) {
+                assertThat(contentOf(pooled)).isEqualTo(content);
+                assertThat(contentOf(spilled)).isEqualTo(content);
+                assertThat(spills()).isEqualTo(1);
+            }
+            assertThat(buffersInUse()).isZero();
+        }
+
+        @Test
+        @DisplayName("선언된 크기보다 긴 입력은 잘라내지 않고 전체를 임시 파일로 옮기며, 버퍼는 반납한다.")
+        void longerThanDeclared() throws IOException {
+            byte[] content = bytes(BUFFER_SIZE * 3);
+
+            ImageFile image = imageIngestor.ingest("a.jpg", "image/jpeg", 10, new ByteArrayInputStream(content));
+            assertThat(contentOf(image)).isEqualTo(content);
+            assertThat(spills()).isEqualTo(1);
+            assertThat(buffersInUse()).isZero();
+
+            image.close();
+            assertThat(spillFiles()).isZero();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package hongik.triple.inframodule.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImagePreprocessor 테스트")
+class ImagePreprocessorTest {
+
+    private final ImagePreprocessor imagePreprocessor = new ImagePreprocessor(true, 512, 1600, 0.85f);
+
+    private static ImageFile png(String filename, int width, int height) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", png);
+        return ImageFile.of(filename, "image/png", png.toByteArray());
+    }
+
+    private static BufferedImage read(ImageFile image) throws IOException {
+        return ImageIO.read(image.getInputStream());
+    }
+
+    @Nested
+    @DisplayName("thumbnails()는")
+    class ThumbnailsTest {
+
+        @Test
+        @DisplayName("모든 크기의 썸네일을 JPEG 으로 만들고, 긴 변을 크기에 맞추어 비율을 유지한다.")
+        void variants() throws IOException {
+            Map<ImageVariant, ImageFile> thumbnails = imagePreprocessor.thumbnails(png("face.png", 2000, 1000));
+
+            assertThat(thumbnails).containsOnlyKeys(ImageVariant.values());
+
+            BufferedImage small = read(thumbnails.get(ImageVariant.SMALL));
+            BufferedImage medium = read(thumbnails.get(ImageVariant.MEDIUM));
+            assertThat(small.getWidth()).isEqualTo(160);
+            assertThat(small.getHeight()).isEqualTo(80);
+            assertThat(medium.getWidth()).isEqualTo(480);
+            assertThat(medium.getHeight()).isEqualTo(240);
+
+            assertThat(thumbnails.get(ImageVariant.SMALL).getContentType()).isEqualTo("image/jpeg");
+            assertThat(thumbnails.get(ImageVariant.SMALL).getOriginalFilename()).isEqualTo("face_160.jpg");
+            assertThat(thumbnails.get(ImageVariant.MEDIUM).getOriginalFilename()).isEqualTo("face_480.jpg");
+        }
+
+        @Test
+        @DisplayName("썸네일 크기보다 작은 이미지는 확대하지 않는다.")
+        void noUpscale() throws IOException {
+            Map<ImageVariant, ImageFile> thumbnails = imagePreprocessor.thumbnails(png("face.png", 100, 300));
+
+            BufferedImage small = read(thumbnails.get(ImageVariant.SMALL));
+            BufferedImage medium = read(thumbnails.get(ImageVariant.MEDIUM));
+            assertThat(small.getHeight()).isEqualTo(160);
+            assertThat(small.getWidth()).isBetween(53, 54);
+            assertThat(medium.getWidth()).isEqualTo(100);
+            assertThat(medium.getHeight()).isEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("이미지로 읽을 수 없으면 빈 결과를 반환한다.")
+        void unsupported() {
+            Map<ImageVariant, ImageFile> thumbnails =
+                    imagePreprocessor.thumbnails(ImageFile.of("face.jpg", "image/jpeg", "not an image".getBytes()));
+
+            assertThat(thumbnails).isEmpty();
+        }
+    }
+}
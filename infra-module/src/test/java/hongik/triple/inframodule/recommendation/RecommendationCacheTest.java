@@ -0,0 +1,176 @@
+package hongik.triple.inframodule.recommendation;
+
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import hongik.triple.inframodule.naver.NaverClient;
+import hongik.triple.inframodule.youtube.YoutubeClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RecommendationCache 테스트")
+@ExtendWith(MockitoExtension.class)
+class RecommendationCacheTest {
+
+    private static final long TTL_MINUTES = 30;
+    private static final long STALE_MINUTES = 360;
+    private static final String KEYWORD = "여드름";
+
+    @Mock
+    private YoutubeClient youtubeClient;
+
+    @Mock
+    private NaverClient naverClient;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationCache recommendationCache;
+
+    private final YoutubeVideoDto oldVideo = new YoutubeVideoDto("id1", "title1", "url1", "channel1", "thumb1");
+    private final YoutubeVideoDto newVideo = new YoutubeVideoDto("id2", "title2", "url2", "channel2", "thumb2");
+    private final NaverProductDto product = new NaverProductDto("p1", "상품1", "url", 1000, "img", "category", "mall", "brand");
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        recommendationCache = new RecommendationCache(
+                youtubeClient, naverClient, meterRegistry, TTL_MINUTES, STALE_MINUTES, 100, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private List<YoutubeVideoDto> videos() {
+        return recommendationCache.videos(KEYWORD, 3).block();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "recommendation").tag("result", result)
+                .functionCounter().count();
+    }
+
+    private double loadFailures(String provider) {
+        return meterRegistry.get("acnelog.recommendation.cache.load.failure").tag("provider", provider)
+                .counter().count();
+    }
+
+    @Nested
+    @DisplayName("조회 시")
+    class HitMissTest {
+
+        @Test
+        @DisplayName("같은 키는 한 번만 외부 API 를 호출하고, 적중 / 미스 횟수를 기록한다.")
+        void cacheHit() {
+            given(youtubeClient.fetchVideos(KEYWORD, 3)).willReturn(Mono.just(List.of(oldVideo)));
+
+            assertThat(videos()).containsExactly(oldVideo);
+            assertThat(videos()).containsExactly(oldVideo);
+
+            verify(youtubeClient, times(1)).fetchVideos(KEYWORD, 3);
+            assertThat(cacheGets("hit")).isEqualTo(1);
+            assertThat(cacheGets("miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("provider 와 count 가 다르면 다른 키로 조회한다.")
+        void keyedByProviderAndCount() {
+            given(youtubeClient.fetchVideos(KEYWORD, 3)).willReturn(Mono.just(List.of(oldVideo)));
+            given(youtubeClient.fetchVideos(KEYWORD, 5)).willReturn(Mono.just(List.of(newVideo)));
+            given(naverClient.fetchProducts(KEYWORD, 3)).willReturn(Mono.just(List.of(product)));
+
+            assertThat(videos()).containsExactly(oldVideo);
+            assertThat(recommendationCache.videos(KEYWORD, 5).block()).containsExactly(newVideo);
+            assertThat(recommendationCache.products(KEYWORD, 3).block()).containsExactly(product);
+        }
+    }
+
+    @Nested
+    @DisplayName("TTL 이 지나면")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("기존 값을 반환하면서 갱신하고, 다음 조회부터 새 값을 반환한다.")
+        void refreshAhead() {
+            Sinks.One<List<YoutubeVideoDto>> reload = Sinks.one();
+            given(youtubeClient.fetchVideos(KEYWORD, 3))
+                    .willReturn(Mono.just(List.of(oldVideo)))
+                    .willReturn(reload.asMono());
+            videos();
+
+            advance(Duration.ofMinutes(TTL_MINUTES + 1));
+
+            assertThat(videos()).containsExactly(oldVideo);
+            reload.tryEmitValue(List.of(newVideo));
+            assertThat(videos()).containsExactly(newVideo);
+            verify(youtubeClient, times(2)).fetchVideos(KEYWORD, 3);
+        }
+
+        @Test
+        @DisplayName("갱신이 실패하면 stale 기간 동안 기존 값을 유지한다.")
+        void staleWhileRevalidate() {
+            Sinks.One<List<YoutubeVideoDto>> reload = Sinks.one();
+            given(youtubeClient.fetchVideos(KEYWORD, 3))
+                    .willReturn(Mono.just(List.of(oldVideo)))
+                    .willReturn(reload.asMono());
+            videos();
+
+            advance(Duration.ofMinutes(TTL_MINUTES + 1));
+
+            assertThat(videos()).containsExactly(oldVideo);
+            reload.tryEmitError(new RuntimeException("YouTube API 호출 실패"));
+            assertThat(loadFailures("youtube")).isEqualTo(1);
+            assertThat(videos()).containsExactly(oldVideo);
+        }
+
+        @Test
+        @DisplayName("stale 기간까지 지나면 기존 값을 버리고 새로 조회한다.")
+        void expired() {
+            given(youtubeClient.fetchVideos(KEYWORD, 3))
+                    .willReturn(Mono.just(List.of(oldVideo)))
+                    .willReturn(Mono.just(List.of(newVideo)));
+            videos();
+
+            advance(Duration.ofMinutes(TTL_MINUTES + STALE_MINUTES + 1));
+
+            assertThat(videos()).containsExactly(newVideo);
+        }
+    }
+
+    @Nested
+    @DisplayName("외부 API 가 실패하면")
+    class FailureTest {
+
+        @Test
+        @DisplayName("예외를 전달하고 실패 결과는 캐시하지 않는다.")
+        void failureNotCached() {
+            given(youtubeClient.fetchVideos(KEYWORD, 3))
+                    .willReturn(Mono.error(new RuntimeException("YouTube API 호출 실패")))
+                    .willReturn(Mono.just(List.of(oldVideo)));
+
+            assertThatThrownBy(RecommendationCacheTest.this::videos)
+                    .hasMessageContaining("YouTube API 호출 실패");
+            assertThat(videos()).containsExactly(oldVideo);
+
+            verify(youtubeClient, times(2)).fetchVideos(KEYWORD, 3);
+            assertThat(loadFailures("youtube")).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package hongik.triple.inframodule.recommendation;
+
+import hongik.triple.commonmodule.dto.analysis.NaverProductDto;
+import hongik.triple.commonmodule.dto.analysis.YoutubeVideoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("RecommendationClient 테스트")
+@ExtendWith(MockitoExtension.class)
+class RecommendationClientTest {
+
+    private static final long DEADLINE_MILLIS = 300;
+    private static final String KEYWORD = "여드름";
+
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationClient recommendationClient;
+
+    private final YoutubeVideoDto video = new YoutubeVideoDto("id1", "title1", "url1", "channel1", "thumb1");
+    private final NaverProductDto product = new NaverProductDto("p1", "상품1", "url", 1000, "img", "category", "mall", "brand");
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        recommendationClient = new RecommendationClient(recommendationCache, meterRegistry, DEADLINE_MILLIS);
+    }
+
+    private double providerCount(String provider, String outcome) {
+        return meterRegistry.get("acnelog.recommendation.provider")
+                .tag("provider", provider).tag("outcome", outcome)
+                .timer().count();
+    }
+
+    @Nested
+    @DisplayName("recommend()는")
+    class RecommendTest {
+
+        @Test
+        @DisplayName("두 API 를 동시에 호출하여 가장 느린 API 의 시간 안에 결과를 합친다.")
+        void concurrent() {
+            RecommendationClient client = new RecommendationClient(recommendationCache, meterRegistry, 5000);
+            given(recommendationCache.videos(KEYWORD, 3))
+                    .willReturn(Mono.just(List.of(video)).delayElement(Duration.ofMillis(400)));
+            given(recommendationCache.products(KEYWORD, 3))
+                    .willReturn(Mono.just(List.of(product)).delayElement(Duration.ofMillis(400)));
+
+            long start = System.nanoTime();
+            Recommendation recommendation = client.recommend(KEYWORD, 3);
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(recommendation.videoList()).containsExactly(video);
+            assertThat(recommendation.productList()).containsExactly(product);
+            assertThat(elapsedMillis).isLessThan(800); // 순차 호출이면 800ms 이상
+        }
+
+        @Test
+        @DisplayName("한 API 가 deadline 안에 응답하지 않으면 빈 리스트로 대체하고, 다른 API 결과는 deadline 안에 반환한다.")
+        void slowProvider() {
+            given(recommendationCache.videos(KEYWORD, 3)).willReturn(Mono.never());
+            given(recommendationCache.products(KEYWORD, 3)).willReturn(Mono.just(List.of(product)));
+
+            long start = System.nanoTime();
+            Recommendation recommendation = recommendationClient.recommend(KEYWORD, 3);
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(recommendation.videoList()).isEmpty();
+            assertThat(recommendation.productList()).containsExactly(product);
+            assertThat(elapsedMillis).isGreaterThanOrEqualTo(DEADLINE_MILLIS).isLessThan(DEADLINE_MILLIS + 1000);
+            assertThat(providerCount("youtube", "timeout")).isEqualTo(1);
+            assertThat(providerCount("naver", "success")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("한 API 가 실패하면 빈 리스트로 대체하고, 다른 API 결과는 그대로 반환한다.")
+        void failingProvider() {
+            given(recommendationCache.videos(KEYWORD, 3)).willReturn(Mono.just(List.of(video)));
+            given(recommendationCache.products(KEYWORD, 3)).willReturn(Mono.error(new IllegalStateException("naver down")));
+
+            long start = System.nanoTime();
+            Recommendation recommendation = recommendationClient.recommend(KEYWORD, 3);
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(recommendation.videoList()).containsExactly(video);
+            assertThat(recommendation.productList()).isEmpty();
+            assertThat(elapsedMillis).isLessThan(DEADLINE_MILLIS);
+            assertThat(providerCount("naver", "error")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("videos() / products()는")
+    class SingleProviderTest {
+
+        @Test
+        @DisplayName("deadline 을 넘기면 빈 리스트를 반환한다.")
+        void deadline() {
+            given(recommendationCache.videos(KEYWORD, 3)).willReturn(Mono.never());
+            given(recommendationCache.products(KEYWORD, 3)).willReturn(Mono.never());
+
+            assertThat(recommendationClient.videos(KEYWORD, 3)).isEmpty();
+            assertThat(recommendationClient.products(KEYWORD, 3)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package hongik.triple.inframodule.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import hongik.triple.inframodule.image.ImageFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("S3Uploader 테스트")
+@ExtendWith(MockitoExtension.class)
+class S3UploaderTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "skin/image.jpg";
+    private static final String UPLOAD_ID = "upload-id";
+    private static final int PART_SIZE = 5 * 1024 * 1024; // S3 최소 part 크기
+    private static final long AWAIT_SECONDS = 10;
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setup() {
+        s3Uploader = new S3Uploader(amazonS3, executor, 5, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private void givenInitiated() {
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId(UPLOAD_ID);
+        given(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiated);
+    }
+
+    /*
+    part 내용을 기록하고 ETag 반환 (앞 번호 part 가 늦게 끝나도록 지연하여 완료 순서를 뒤집음)
+     */
+    private UploadPartResult uploadPart(UploadPartRequest request) throws InterruptedException {
+        try {
+            uploadedParts.put(request.getPartNumber(), request.getInputStream().readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Thread.sleep(50L * (4 - request.getPartNumber()));
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+
+    @Nested
+    @DisplayName("upload()는")
+    class UploadTest {
+
+        @Test
+        @DisplayName("임계값 미만의 파일은 단일 PutObject 로 업로드한다.")
+        void singlePut() throws Exception {
+            s3Uploader.upload(BUCKET, KEY, ImageFile.of("a.jpg", "image/jpeg", bytes(1024)), new ObjectMetadata())
+                    .get(AWAIT_SECONDS, TimeUnit.SECONDS);
+
+            verify(amazonS3).putObject(any(PutObjectRequest.class));
+            verify(amazonS3, never()).initiateMultipartUpload(any());
+        }
+
+        @Test
+        @DisplayName("임계값 이상의 파일은 part 로 나누어 병렬 전송하고, part 번호 순서대로 ETag 를 모아 완료한다.")
+        void multipart() throws Exception {
+            byte[] content = bytes(PART_SIZE * 2 + 1234);
+            givenInitiated();
+            given(amazonS3.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> uploadPart(invocation.getArgument(0)));
+
+            s3Uploader.upload(BUCKET, KEY, ImageFile.of("a.jpg", "image/jpeg", content), new ObjectMetadata())
+                    .get(AWAIT_SECONDS, TimeUnit.SECONDS);
+
+            ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+            verify(amazonS3, times(3)).uploadPart(parts.capture());
+            assertThat(parts.getAllValues())
+                    .extracting(UploadPartRequest::getPartNumber, UploadPartRequest::getPartSize, UploadPartRequest::getUploadId)
+                    .containsExactlyInAnyOrder(
+                            tuple(1, (long) PART_SIZE, UPLOAD_ID),
+                            tuple(2, (long) PART_SIZE, UPLOAD_ID),
+                            tuple(3, 1234L, UPLOAD_ID));
+
+            // 각 part 는 원본의 (partNumber - 1) * partSize 위치부터 읽음
+            assertThat(uploadedParts.get(1)).isEqualTo(Arrays.copyOfRange(content, 0, PART_SIZE));
+            assertThat(uploadedParts.get(2)).isEqualTo(Arrays.copyOfRange(content, PART_SIZE, PART_SIZE * 2));
+            assertThat(uploadedParts.get(3)).isEqualTo(Arrays.copyOfRange(content, PART_SIZE * 2, content.length));
+
+            ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+            verify(amazonS3).completeMultipartUpload(complete.capture());
+            assertThat(complete.getValue().getUploadId()).isEqualTo(UPLOAD_ID);
+            assertThat(complete.getValue().getPartETags())
+                    .extracting(PartETag::getPartNumber, PartETag::getETag)
+                    .containsExactly(
+                            tuple(1, "etag-1"),
+                            tuple(2, "etag-2"),
+                            tuple(3, "etag-3"));
+            verify(amazonS3, never()).abortMultipartUpload(any());
+        }
+
+        @Test
+        @DisplayName("part 전송이 실패하면 multipart upload 를 중단하고 실패를 전달한다.")
+        void abortOnPartFailure() {
+            givenInitiated();
+            given(amazonS3.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+                UploadPartRequest request = invocation.getArgument(0);
+                if (request.getPartNumber() == 2) {
+                    throw new IllegalStateException("part upload failed");
+                }
+                return uploadPart(request);
+            });
+
+            assertThatThrownBy(() -> s3Uploader.upload(BUCKET, KEY, ImageFile.of("a.jpg", "image/jpeg", bytes(PART_SIZE * 2 + 1)), new ObjectMetadata())
+                    .get(AWAIT_SECONDS, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("part upload failed");
+
+            ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+            verify(amazonS3).abortMultipartUpload(abort.capture());
+            assertThat(abort.getValue().getUploadId()).isEqualTo(UPLOAD_ID);
+            assertThat(abort.getValue().getKey()).isEqualTo(KEY);
+            verify(amazonS3, never()).completeMultipartUpload(any());
+        }
+    }
+}